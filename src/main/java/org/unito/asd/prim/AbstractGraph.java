@@ -1,6 +1,9 @@
 package org.unito.asd.prim;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.stream.Stream;
 
 /**
  * Defines an interface representing a graph with generic nodes and edge labels.
@@ -126,6 +129,75 @@ public interface AbstractGraph<V, L> {
      */
     Collection<? extends AbstractEdge<V, L>> getEdges();
 
+    /**
+     * Gets a sequential stream of all the nodes in the graph, which can be turned
+     * into a parallel one with {@link Stream#parallel()}.
+     *
+     * @return A stream of all the nodes in the graph.
+     * @implSpec The default implementation streams {@link #getNodes()}.
+     * Implementations should stream the backing storage of the nodes directly,
+     * with a spliterator that splits it evenly.
+     */
+    default Stream<V> nodes() {
+        return getNodes().stream();
+    }
+
+    /**
+     * Gets a sequential stream of all the edges in the graph, which can be turned
+     * into a parallel one with {@link Stream#parallel()}.
+     * Every edge of an undirected graph appears once per direction, as in
+     * {@link #getEdges()}.
+     *
+     * @return A stream of all the edges in the graph.
+     * @implSpec The default implementation streams {@link #getEdges()}.
+     * Implementations should stream the backing storage of the edges directly,
+     * without collecting them first.
+     */
+    default Stream<? extends AbstractEdge<V, L>> edges() {
+        return getEdges().stream();
+    }
+
+    /**
+     * Gets a sequential stream of the edges leaving a node, each starting from
+     * that node.
+     *
+     * @param node The node whose edges are to be streamed.
+     * @return A stream of the edges leaving the node.
+     * @implSpec The default implementation builds an edge towards every node of
+     * {@link #getNeighbours}.
+     */
+    default Stream<? extends AbstractEdge<V, L>> edges(V node) {
+        return getNeighbours(node).stream()
+                .map(neighbour -> new Edge<>(node, neighbour, isLabelled() ? getLabel(node, neighbour) : null));
+    }
+
+    /**
+     * Gets a collection of all the edges of an undirected graph, where every edge
+     * appears once, in one of its two directions, instead of once per direction as
+     * in {@link #getEdges()}.
+     *
+     * @return A collection of all the edges in the graph.
+     * @throws IllegalStateException If the graph is directed.
+     * @implSpec This operation shall have linear time complexity O(N + E). The
+     * default implementation walks the neighbours of every node and keeps the edges
+     * towards the nodes not walked yet.
+     */
+    default Collection<? extends AbstractEdge<V, L>> getUndirectedEdges() {
+        if (isDirected())
+            throw new IllegalStateException("The graph is directed");
+
+        var edges = new ArrayList<AbstractEdge<V, L>>(numEdges() / 2);
+        var walked = new HashSet<V>();
+        for (var node : getNodes()) {
+            for (var neighbour : getNeighbours(node)) {
+                if (!walked.contains(neighbour))
+                    edges.add(new Edge<>(node, neighbour, isLabelled() ? getLabel(node, neighbour) : null));
+            }
+            walked.add(node);
+        }
+        return edges;
+    }
+
     /**
      * Get a collection of neighboring nodes for the given node.
      *
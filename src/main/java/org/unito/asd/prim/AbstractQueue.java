@@ -1,7 +1,15 @@
 package org.unito.asd.prim;
 
+import java.util.Collection;
+
 /**
  * Defines an interface representing a queue with generic elements.
+ * Looking up an element, with {@link #contains} and {@link #remove}, is an
+ * optional operation: a queue that does not index its elements, and may thus hold
+ * duplicates, throws an {@link UnsupportedOperationException} instead.
+ * The time complexities are in the number N of elements in the queue; a queue
+ * split over H sub-queues, such as a {@link MultiQueue}, may scan all of them to
+ * find its top, in O(H) more time.
  *
  * @param <E> The type of elements in the queue.
  */
@@ -26,10 +34,30 @@ public interface AbstractQueue<E> {
     boolean push(E element);
 
     /**
-     * Checks whether a specific element is present in the queue or not.
+     * Pushes all the elements of a collection onto the queue.
+     *
+     * @param elements The elements to be pushed.
+     * @return {@code true} if at least one element is pushed, {@code false}
+     * otherwise.
+     * @implSpec The default implementation pushes the elements one at a time, in
+     * O(K log N) time for K elements; implementations should do better when they
+     * can.
+     */
+    default boolean pushAll(Collection<? extends E> elements) {
+        var pushed = false;
+        for (var element : elements)
+            pushed |= push(element);
+        return pushed;
+    }
+
+    /**
+     * Checks whether a specific element is present in the queue or not
+     * (optional operation).
      *
      * @param element The element to check for existence.
      * @return {@code true} if the element is present, {@code false} otherwise.
+     * @throws UnsupportedOperationException If the queue does not index its
+     *                                       elements.
      * @implSpec This operation shall have constant time complexity O(1).
      */
     boolean contains(E element);
@@ -50,11 +78,13 @@ public interface AbstractQueue<E> {
     void pop();
 
     /**
-     * Removes the specified element from the queue.
+     * Removes the specified element from the queue (optional operation).
      *
      * @param element The element to be removed.
      * @return {@code true} if the element is successfully removed, {@code false}
      * otherwise.
+     * @throws UnsupportedOperationException If the queue does not index its
+     *                                       elements.
      * @implSpec This operation shall have logarithmic time complexity O(log N).
      */
     boolean remove(E element);
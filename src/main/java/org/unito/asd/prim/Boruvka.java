@@ -0,0 +1,103 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+/**
+ * Implements Boruvka's algorithm.
+ * In every round each tree of the forest picks its lightest outgoing edge, and all
+ * the picked edges are added at once, so the number of trees at least halves and
+ * there are at most log V rounds. The scan of the edges, which is the bulk of each
+ * round, is split among the available cores.
+ * Only undirected graphs are supported.
+ */
+public final class Boruvka implements MsfSolver {
+    private static final int NONE = -1;
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private final boolean parallel;
+
+    /**
+     * Constructs a new {@link Boruvka} solver that scans the edges in parallel.
+     */
+    public Boruvka() {
+        this(true);
+    }
+
+    /**
+     * Constructs a new {@link Boruvka} solver.
+     *
+     * @param parallel {@code true} to scan the edges on the common fork/join pool,
+     *                 {@code false} to scan them on the calling thread.
+     */
+    public Boruvka(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Computes the minimum spanning forest for a given undirected graph.
+     *
+     * @param graph the graph to compute the minimum spanning forest for
+     * @param <V>   the type of vertices in the graph
+     * @param <L>   the type of the edge label (weight), must extend Number
+     * @return a collection of edges representing the minimum spanning forest
+     * @throws IllegalArgumentException if the graph is directed
+     */
+    @Override
+    @Contract(pure = true)
+    public <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(@NotNull AbstractGraph<V, L> graph) {
+        if (graph.isDirected())
+            throw new IllegalArgumentException("Boruvka's algorithm requires an undirected graph");
+
+        var csr = CsrGraph.of(graph);
+        var numNodes = csr.numNodes();
+        var disjointSet = new DisjointSet(numNodes);
+        var components = new int[numNodes];
+        var nodeBest = new int[numNodes];
+        var componentBest = new int[numNodes];
+        var msf = new ArrayList<AbstractEdge<V, L>>();
+
+        while (true) {
+            for (var node = 0; node < numNodes; node++)
+                components[node] = disjointSet.find(node);
+
+            // Every node finds its lightest arc leaving its component; only the labels are read here.
+            var nodes = IntStream.range(0, numNodes);
+            if (parallel && csr.numArcs() >= PARALLEL_THRESHOLD)
+                nodes = nodes.parallel();
+            nodes.forEach(node -> {
+                var best = NONE;
+                for (var arc = csr.firstArc(node); arc < csr.endArc(node); arc++) {
+                    if (components[csr.target(arc)] != components[node] && (best == NONE || csr.isLighter(arc, best)))
+                        best = arc;
+                }
+                nodeBest[node] = best;
+            });
+
+            Arrays.fill(componentBest, NONE);
+            for (var node = 0; node < numNodes; node++) {
+                var arc = nodeBest[node];
+                var component = components[node];
+                if (arc != NONE && (componentBest[component] == NONE || csr.isLighter(arc, componentBest[component])))
+                    componentBest[component] = arc;
+            }
+
+            var merged = false;
+            for (var component = 0; component < numNodes; component++) {
+                var arc = componentBest[component];
+                if (arc != NONE && disjointSet.union(csr.source(arc), csr.target(arc))) {
+                    msf.add(csr.edge(arc));
+                    merged = true;
+                }
+            }
+
+            if (!merged)
+                return msf;
+        }
+    }
+}
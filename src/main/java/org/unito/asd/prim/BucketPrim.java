@@ -0,0 +1,94 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Implements Prim's algorithm for graphs with small integer weights.
+ * As in {@link EagerPrim}, every node outside the tree keeps the cheapest arc
+ * linking it to the tree, but the nodes are kept in a bucket queue keyed by that
+ * weight rather than in a binary heap: inserting a node and lowering its key take
+ * constant time, and no two weights are ever compared by the queue. The graph is
+ * first copied into a compact array snapshot.
+ * Graphs whose labels are not integers, or span more than
+ * {@link BucketQueue#MAX_RANGE} values, are handed to {@link EagerPrim}.
+ */
+public final class BucketPrim implements MsfSolver {
+    /**
+     * Computes the minimum spanning forest for a given graph.
+     *
+     * @param graph the graph to compute the minimum spanning forest for
+     * @param <V>   the type of vertices in the graph
+     * @param <L>   the type of the edge label (weight), must extend Number
+     * @return a collection of edges representing the minimum spanning forest
+     */
+    @Override
+    @Contract(pure = true)
+    public <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(@NotNull AbstractGraph<V, L> graph) {
+        // Off-heap graphs carry double weights and are visited in place.
+        if (graph instanceof OffHeapGraph)
+            return new EagerPrim().minimumSpanningForest(graph);
+
+        return minimumSpanningForest(CsrGraph.of(graph));
+    }
+
+    /**
+     * Computes the minimum spanning forest of a snapshot.
+     *
+     * @param csr the snapshot of the graph
+     * @param <V> the type of vertices in the graph
+     * @param <L> the type of the edge label (weight), must extend Number
+     * @return a collection of edges representing the minimum spanning forest
+     */
+    static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(CsrGraph<V, L> csr) {
+        var numArcs = csr.numArcs();
+
+        var minWeight = numArcs == 0 ? 0 : Long.MAX_VALUE;
+        var maxWeight = numArcs == 0 ? 0 : Long.MIN_VALUE;
+        for (var arc = 0; arc < numArcs; arc++) {
+            var label = csr.label(arc);
+            if (!(label instanceof Integer || label instanceof Short || label instanceof Byte || label instanceof Long))
+                return EagerPrim.minimumSpanningForest(csr);
+
+            minWeight = Math.min(minWeight, label.longValue());
+            maxWeight = Math.max(maxWeight, label.longValue());
+        }
+
+        if (minWeight < Integer.MIN_VALUE || maxWeight > Integer.MAX_VALUE || maxWeight - minWeight >= BucketQueue.MAX_RANGE)
+            return EagerPrim.minimumSpanningForest(csr);
+
+        var numNodes = csr.numNodes();
+        var visited = new boolean[numNodes];
+        var parentArcs = new int[numNodes];
+        var queue = new IndexedBucketQueue(numNodes, (int) minWeight, (int) maxWeight);
+        var msf = new ArrayList<AbstractEdge<V, L>>();
+
+        for (var root = 0; root < numNodes; root++) {
+            if (visited[root])
+                continue;
+
+            visited[root] = true;
+            var node = root;
+            while (true) {
+                // Relax every arc towards an unvisited node, keeping the lightest one seen so far.
+                for (var arc = csr.firstArc(node); arc < csr.endArc(node); arc++) {
+                    var end = csr.target(arc);
+                    if (!visited[end] && queue.pushOrDecrease(end, (int) csr.weight(arc)))
+                        parentArcs[end] = arc;
+                }
+
+                if (queue.isEmpty())
+                    break;
+
+                node = queue.pop();
+                visited[node] = true;
+                msf.add(csr.edge(parentArcs[node]));
+            }
+        }
+
+        return msf;
+    }
+}
@@ -0,0 +1,175 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * Represents a priority queue whose priorities are integers in a bounded range.
+ * Every priority has its own bucket, a stack of the elements with that priority,
+ * and a cursor points to the lowest bucket that may be non-empty: pushing an
+ * element is a constant-time append, and the cursor only has to skip the empty
+ * buckets to reach the top element. Like a non-indexed {@link PriorityQueue}, it
+ * accepts duplicate elements and supports neither {@link #contains} nor
+ * {@link #remove}.
+ *
+ * @param <E> The type of elements in the bucket queue.
+ * @implNote Elements with the same priority are returned in last-in, first-out
+ * order.
+ */
+public final class BucketQueue<E> implements AbstractQueue<E> {
+    /**
+     * The maximum number of distinct priorities a bucket queue can hold.
+     */
+    public static final int MAX_RANGE = 1 << 20;
+
+    private static final Object[] EMPTY_BUCKET = new Object[0];
+
+    private final ToIntFunction<? super E> priority;
+    private final int minPriority;
+    private final Object[][] buckets;
+    private final int[] sizes;
+    private int cursor;
+    private int size;
+
+    /**
+     * Constructs a new, empty {@link BucketQueue}.
+     * The provided priority function shall not be {@code null}.
+     *
+     * @param priority    The function giving the priority of an element, lower
+     *                    values coming first.
+     * @param minPriority The lowest priority an element can have.
+     * @param maxPriority The highest priority an element can have.
+     * @throws IllegalArgumentException If the range of priorities is empty or
+     *                                  larger than {@link #MAX_RANGE}.
+     */
+    public BucketQueue(@NotNull ToIntFunction<? super E> priority, int minPriority, int maxPriority) {
+        Objects.requireNonNull(priority);
+        if (maxPriority < minPriority || (long) maxPriority - minPriority >= MAX_RANGE)
+            throw new IllegalArgumentException("The range of priorities must hold between 1 and " + MAX_RANGE + " values");
+
+        this.priority = priority;
+        this.minPriority = minPriority;
+        this.buckets = new Object[maxPriority - minPriority + 1][];
+        this.sizes = new int[buckets.length];
+        this.cursor = buckets.length;
+        this.size = 0;
+
+        Arrays.fill(buckets, EMPTY_BUCKET);
+    }
+
+    /**
+     * Checks whether the bucket queue is empty or not.
+     *
+     * @return {@code true} if the bucket queue is empty, {@code false} otherwise.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public boolean empty() {
+        return size == 0;
+    }
+
+    /**
+     * Pushes an element onto the bucket queue.
+     * The element shall not be {@code null}.
+     *
+     * @param element The element to be pushed.
+     * @return {@code true}, as duplicate elements are accepted.
+     * @throws IllegalArgumentException If the priority of the element is out of
+     *                                  range.
+     * @implNote This operation has amortized constant time complexity O(1).
+     */
+    @Override
+    @Contract(mutates = "this")
+    public boolean push(@NotNull E element) {
+        Objects.requireNonNull(element);
+
+        var bucket = (long) priority.applyAsInt(element) - minPriority;
+        if (bucket < 0 || bucket >= buckets.length)
+            throw new IllegalArgumentException("The priority of the element is out of range");
+
+        var index = (int) bucket;
+        if (sizes[index] == buckets[index].length)
+            buckets[index] = Arrays.copyOf(buckets[index], Math.max(4, 2 * sizes[index]));
+        buckets[index][sizes[index]++] = element;
+
+        cursor = Math.min(cursor, index);
+        size++;
+        return true;
+    }
+
+    /**
+     * Not supported, as the bucket queue does not index its elements.
+     *
+     * @param element The element to check for existence.
+     * @return Never.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    @Contract("_ -> fail")
+    public boolean contains(@NotNull E element) {
+        throw new UnsupportedOperationException("A bucket queue cannot look up its elements");
+    }
+
+    /**
+     * Accesses the element at the top of the bucket queue without removing it.
+     *
+     * @return The element with the lowest priority, or {@code null} if the queue is
+     * empty.
+     * @implNote This operation skips the empty buckets below the top element, so
+     * it takes time proportional to the range of priorities in the worst case; a
+     * cursor that only moves up, as when priorities are pushed in non-decreasing
+     * order, makes it amortized constant.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    @Contract(pure = true)
+    public @Nullable E top() {
+        if (empty())
+            return null;
+
+        skipEmptyBuckets();
+        return (E) buckets[cursor][sizes[cursor] - 1];
+    }
+
+    /**
+     * Removes the element at the top of the bucket queue.
+     *
+     * @throws NoSuchElementException If the bucket queue is empty.
+     * @implNote This operation has the same time complexity as {@link #top()}.
+     */
+    @Override
+    @Contract(mutates = "this")
+    public void pop() {
+        if (empty())
+            throw new NoSuchElementException("Cannot pop from an empty bucket queue");
+
+        skipEmptyBuckets();
+        buckets[cursor][--sizes[cursor]] = null;
+        size--;
+    }
+
+    /**
+     * Not supported, as the bucket queue does not index its elements.
+     *
+     * @param element The element to be removed.
+     * @return Never.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    @Contract("_ -> fail")
+    public boolean remove(@NotNull E element) {
+        throw new UnsupportedOperationException("A bucket queue cannot look up its elements");
+    }
+
+    private void skipEmptyBuckets() {
+        while (sizes[cursor] == 0)
+            cursor++;
+    }
+}
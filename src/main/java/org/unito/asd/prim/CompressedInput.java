@@ -0,0 +1,191 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Opens input files that may be compressed, recognising the format from the first
+ * bytes of the file rather than from its name.
+ * A gzip file is decompressed on a thread of its own, which fills a bounded ring of
+ * reusable buffers while the caller parses the ones already filled, so that
+ * decompression and parsing overlap. A zstd file is recognised but rejected, as
+ * the JDK has no codec for it. Any other file is read as it is.
+ */
+public final class CompressedInput {
+    /**
+     * The number of buffers in the ring between the decompressing thread and the
+     * reader.
+     */
+    public static final int RING_SIZE = 8;
+
+    /**
+     * The size in bytes of every buffer of the ring.
+     */
+    public static final int BUFFER_SIZE = 1 << 17;
+
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    private static final int GZIP_MAGIC = 0x1f8b;
+    private static final int ZSTD_MAGIC = 0x28b52ffd;
+
+    private CompressedInput() {
+    }
+
+    /**
+     * Opens a file, decompressing it if needed.
+     *
+     * @param file The path of the file.
+     * @return The stream of the decompressed content of the file.
+     * @throws IOException If an I/O error occurs while opening the file, or if the
+     *                     file is compressed in an unsupported format.
+     */
+    public static @NotNull InputStream open(@NotNull Path file) throws IOException {
+        Objects.requireNonNull(file);
+
+        var input = new BufferedInputStream(Files.newInputStream(file), IO_BUFFER_SIZE);
+        try {
+            input.mark(Integer.BYTES);
+            var magic = 0;
+            var length = 0;
+            for (int b; length < Integer.BYTES && (b = input.read()) != -1; length++)
+                magic = (magic << Byte.SIZE) | b;
+            input.reset();
+
+            if (length >= 2 && magic >>> (Byte.SIZE * (length - 2)) == GZIP_MAGIC)
+                return new PipelinedInputStream(new GZIPInputStream(input, IO_BUFFER_SIZE), RING_SIZE, BUFFER_SIZE);
+            if (length == Integer.BYTES && magic == ZSTD_MAGIC)
+                throw new IOException("zstd-compressed input is not supported: decompress it first, or use gzip");
+            return input;
+        } catch (IOException | RuntimeException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a text file encoded in UTF-8, decompressing it if needed.
+     *
+     * @param file The path of the file.
+     * @return The reader of the decompressed content of the file.
+     * @throws IOException If an I/O error occurs while opening the file, or if the
+     *                     file is compressed in an unsupported format.
+     */
+    public static @NotNull BufferedReader newReader(@NotNull Path file) throws IOException {
+        return new BufferedReader(new InputStreamReader(open(file), StandardCharsets.UTF_8), IO_BUFFER_SIZE);
+    }
+
+    /**
+     * Represents a stream read ahead by a producer thread into a ring of buffers.
+     */
+    private static final class PipelinedInputStream extends InputStream {
+        private static final Chunk END = new Chunk(new byte[0], 0);
+
+        private final BlockingQueue<byte[]> free;
+        private final BlockingQueue<Chunk> filled;
+        private final Thread producer;
+        private volatile IOException failure;
+        private Chunk current;
+        private int position;
+        private boolean ended;
+
+        private record Chunk(byte[] data, int length) {
+        }
+
+        private PipelinedInputStream(InputStream source, int numBuffers, int bufferSize) {
+            this.free = new ArrayBlockingQueue<>(numBuffers);
+            this.filled = new ArrayBlockingQueue<>(numBuffers + 1);
+            for (var i = 0; i < numBuffers; i++)
+                free.add(new byte[bufferSize]);
+
+            this.producer = Thread.ofPlatform().daemon().name("prim-decompressor").start(() -> produce(source));
+        }
+
+        private void produce(InputStream source) {
+            try (source) {
+                while (true) {
+                    var buffer = free.take();
+                    var length = source.readNBytes(buffer, 0, buffer.length);
+                    if (length > 0)
+                        filled.put(new Chunk(buffer, length));
+                    if (length < buffer.length)
+                        break;
+                }
+            } catch (IOException e) {
+                failure = e;
+            } catch (InterruptedException e) {
+                // The reader was closed.
+            } finally {
+                // There is always room for the end marker, since every other chunk holds one of the buffers.
+                filled.offer(END);
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill())
+                return -1;
+            return current.data()[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte @NotNull [] b, int off, int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0)
+                return 0;
+            if (!fill())
+                return -1;
+
+            var count = Math.min(len, current.length() - position);
+            System.arraycopy(current.data(), position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        @Contract(mutates = "this")
+        public void close() {
+            producer.interrupt();
+            ended = true;
+        }
+
+        private boolean fill() throws IOException {
+            if (current != null && position < current.length())
+                return true;
+            if (ended)
+                return false;
+
+            // Hand the exhausted buffer back to the producer before waiting for the next one.
+            if (current != null) {
+                free.offer(current.data());
+                current = null;
+            }
+
+            Chunk next;
+            try {
+                next = filled.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the decompressed input");
+            }
+
+            if (next == END) {
+                ended = true;
+                if (failure != null)
+                    throw failure;
+                return false;
+            }
+
+            current = next;
+            position = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Represents a lock-free disjoint-set forest (union-find) over the integers
+ * {@code [0, size)}, which many threads can update at once.
+ * Every operation is a loop of reads and compare-and-set on a single
+ * {@link AtomicIntegerArray} of parents: a root is linked under another root only
+ * if it is still a root, and paths are halved during lookups, where a failed
+ * update is simply skipped since some other thread has already shortened the path.
+ * Roots are linked by index, the lower under the higher, so that two threads can
+ * never link two roots under each other.
+ */
+public final class ConcurrentDisjointSet {
+    private final AtomicIntegerArray parents;
+
+    /**
+     * Constructs a new {@link ConcurrentDisjointSet} where every element is in its
+     * own set.
+     *
+     * @param size The number of elements. It shall not be negative.
+     * @throws IllegalArgumentException If {@code size} is negative.
+     */
+    public ConcurrentDisjointSet(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("The size must not be negative");
+
+        this.parents = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++)
+            parents.set(i, i);
+    }
+
+    /**
+     * Gets the number of elements.
+     *
+     * @return The number of elements.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public int size() {
+        return parents.length();
+    }
+
+    /**
+     * Finds the representative of the set containing an element.
+     * If other threads are merging sets at the same time, the result is the
+     * representative at some instant during the call.
+     *
+     * @param element The element.
+     * @return The representative of the set containing {@code element}.
+     * @throws IndexOutOfBoundsException If the element is out of range.
+     * @implNote This operation has amortized logarithmic time complexity.
+     */
+    @Contract(mutates = "this")
+    public int find(int element) {
+        while (true) {
+            var parent = parents.get(element);
+            if (parent == element)
+                return element;
+
+            var grandparent = parents.get(parent);
+            if (parent != grandparent)
+                parents.compareAndSet(element, parent, grandparent);
+            element = grandparent;
+        }
+    }
+
+    /**
+     * Merges the sets containing two elements.
+     *
+     * @param first  The first element.
+     * @param second The second element.
+     * @return {@code true} if the two elements were in different sets and this call
+     * merged them, {@code false} otherwise.
+     * @throws IndexOutOfBoundsException If an element is out of range.
+     * @implNote This operation has amortized logarithmic time complexity.
+     */
+    @Contract(mutates = "this")
+    public boolean union(int first, int second) {
+        while (true) {
+            var firstRoot = find(first);
+            var secondRoot = find(second);
+
+            if (firstRoot == secondRoot)
+                return false;
+
+            var lower = Math.min(firstRoot, secondRoot);
+            var higher = Math.max(firstRoot, secondRoot);
+
+            // Fails if another thread has linked the lower root in the meantime, in which case the roots are searched again.
+            if (parents.compareAndSet(lower, lower, higher))
+                return true;
+        }
+    }
+
+    /**
+     * Checks whether two elements are in the same set.
+     * If other threads are merging sets at the same time, the result holds at some
+     * instant during the call.
+     *
+     * @param first  The first element.
+     * @param second The second element.
+     * @return {@code true} if the two elements are in the same set, {@code false}
+     * otherwise.
+     * @throws IndexOutOfBoundsException If an element is out of range.
+     * @implNote This operation has amortized logarithmic time complexity.
+     */
+    @Contract(mutates = "this")
+    public boolean connected(int first, int second) {
+        while (true) {
+            var firstRoot = find(first);
+            var secondRoot = find(second);
+
+            if (firstRoot == secondRoot)
+                return true;
+
+            // The first root still being a root means both were roots of different sets when the second one was read.
+            if (parents.get(firstRoot) == firstRoot)
+                return false;
+        }
+    }
+}
@@ -0,0 +1,410 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Represents a thread-safe graph optimized for sparse data, meant to be built
+ * concurrently by many producer threads.
+ * Nodes and adjacencies are kept in {@link ConcurrentHashMap}s, so reads never
+ * block. Edge mutations lock the stripes of both their endpoints, which keeps the
+ * mirror edge of undirected graphs consistent while letting edges on unrelated
+ * nodes be added in parallel.
+ *
+ * @param <V> The type of nodes in the graph.
+ * @param <L> The type of labels associated with edges in the graph.
+ */
+@SuppressWarnings("Contract")
+public class ConcurrentGraph<V, L> implements AbstractGraph<V, L> {
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final ConcurrentMap<V, ConcurrentMap<V, AbstractEdge<V, L>>> adjacencyMap;
+    private final ReentrantLock[] stripes;
+    private final boolean directed;
+    private final boolean labelled;
+    private final LongAdder numEdges;
+
+    /**
+     * Constructs a new {@link ConcurrentGraph} with the specified characteristics
+     * and a default number of lock stripes.
+     *
+     * @param directed {@code true} if the graph is directed, {@code false}
+     *                 otherwise.
+     * @param labelled {@code true} if the graph is labelled, {@code false}
+     *                 otherwise.
+     */
+    public ConcurrentGraph(boolean directed, boolean labelled) {
+        this(directed, labelled, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Constructs a new {@link ConcurrentGraph} with the specified characteristics.
+     * The number of stripes is rounded up to the next power of two.
+     *
+     * @param directed {@code true} if the graph is directed, {@code false}
+     *                 otherwise.
+     * @param labelled {@code true} if the graph is labelled, {@code false}
+     *                 otherwise.
+     * @param stripes  The number of locks edge mutations are spread over. It shall
+     *                 be positive.
+     * @throws IllegalArgumentException If {@code stripes} is not positive.
+     */
+    public ConcurrentGraph(boolean directed, boolean labelled, int stripes) {
+        if (stripes <= 0)
+            throw new IllegalArgumentException("The number of stripes must be positive");
+
+        int size = 1;
+        while (size < stripes)
+            size <<= 1;
+
+        this.adjacencyMap = new ConcurrentHashMap<>();
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < this.stripes.length; i++)
+            this.stripes[i] = new ReentrantLock();
+        this.directed = directed;
+        this.labelled = labelled;
+        this.numEdges = new LongAdder();
+    }
+
+    /**
+     * Checks if the graph is directed.
+     *
+     * @return {@code true} if the graph is directed, {@code false} otherwise.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public boolean isDirected() {
+        return directed;
+    }
+
+    /**
+     * Checks if the graph is labelled.
+     *
+     * @return {@code true} if the graph is labelled, {@code false} otherwise.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public boolean isLabelled() {
+        return labelled;
+    }
+
+    /**
+     * Adds a node to the graph.
+     * The node shall not be {@code null}.
+     * A node is being added if and only if it is not already present in the graph.
+     * When several threads add the same node, exactly one of them succeeds.
+     *
+     * @param node The node to be added.
+     * @return {@code true} if the node was successfully added, {@code false}
+     * otherwise.
+     * @implNote This operation has constant time complexity O(1) and never blocks.
+     */
+    @Override
+    @Contract(mutates = "this")
+    public boolean addNode(@NotNull V node) {
+        Objects.requireNonNull(node);
+        return adjacencyMap.putIfAbsent(node, new ConcurrentHashMap<>()) == null;
+    }
+
+    /**
+     * Adds an edge from node {@code start} to node {@code end} if the graph is
+     * directed, or between node {@code start} to node {@code end} if the graph is
+     * undirected.
+     * The provided nodes shall not be {@code null}.
+     * The provided label shall not be {@code null} if the graph is labelled.
+     * An edge can be added if and only if the graph contains the two nodes.
+     * If an edge already exists between the two nodes then this function returns
+     * {@code false}.
+     *
+     * @param start The start node of the edge.
+     * @param end   The end node of the edge.
+     * @param label The label associated with the edge (it is ignored if the graph
+     *              is not labelled).
+     * @return {@code true} if the edge was successfully added,
+     * {@code false otherwise}.
+     * @implNote This operation has constant time complexity O(1). It only contends
+     * with mutations touching the same lock stripes.
+     */
+    @Override
+    @Contract(mutates = "this")
+    public boolean addEdge(@NotNull V start, @NotNull V end, L label) {
+        Objects.requireNonNull(start);
+        Objects.requireNonNull(end);
+
+        if (labelled)
+            Objects.requireNonNull(label);
+
+        lockPair(start, end);
+        try {
+            var startAdjacency = adjacencyMap.get(start);
+            var endAdjacency = adjacencyMap.get(end);
+
+            if (startAdjacency == null || endAdjacency == null || startAdjacency.containsKey(end))
+                return false;
+
+            startAdjacency.put(end, new Edge<>(start, end, label));
+            numEdges.increment();
+
+            // If it is not directed add the inverse edge while still holding both stripes.
+            if (!directed && !Objects.equals(start, end)) {
+                endAdjacency.put(start, new Edge<>(end, start, label));
+                numEdges.increment();
+            }
+
+            return true;
+        } finally {
+            unlockPair(start, end);
+        }
+    }
+
+    /**
+     * Checks if a node is present in the graph.
+     * The node shall not be {@code null}.
+     *
+     * @param node The node to check for.
+     * @return {@code true} if the node is present in the graph, {@code false}
+     * otherwise.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public boolean containsNode(@NotNull V node) {
+        Objects.requireNonNull(node);
+        return adjacencyMap.containsKey(node);
+    }
+
+    /**
+     * Checks if a node is present from node {@code start} to {@code end} if the
+     * graph is directed, or between {@code start} and {@code end} if the graph is
+     * undirected.
+     * The nodes shall not be {@code null}.
+     *
+     * @param start The start node of the edge.
+     * @param end   The end node of the edge.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public boolean containsEdge(@NotNull V start, @NotNull V end) {
+        Objects.requireNonNull(start);
+        Objects.requireNonNull(end);
+
+        var adjacency = adjacencyMap.get(start);
+        return adjacency != null && adjacency.containsKey(end);
+    }
+
+    /**
+     * Removes a node from the graph, deleting also the edges linked from and linked
+     * to it.
+     * The node shall not be {@code null}.
+     * The node is being removed if and only if it's present inside the graph.
+     * All the lock stripes are held during the removal, so no edge can be linked to
+     * the node while it is being detached.
+     *
+     * @param node The node to be removed.
+     * @return {@code true} if the node was successfully removed, {@code false}
+     * otherwise.
+     * @implNote This operation has linear time complexity O(N).
+     */
+    @Override
+    @Contract(mutates = "this")
+    public boolean removeNode(@NotNull V node) {
+        Objects.requireNonNull(node);
+
+        for (var stripe : stripes)
+            stripe.lock();
+        try {
+            var adjacency = adjacencyMap.remove(node);
+            if (adjacency == null)
+                return false;
+
+            numEdges.add(-adjacency.size());
+
+            for (var edges : adjacencyMap.values()) {
+                if (edges.remove(node) != null)
+                    numEdges.decrement();
+            }
+
+            return true;
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--)
+                stripes[i].unlock();
+        }
+    }
+
+    /**
+     * Removes an edge between two nodes from the graph.
+     * The nodes shall not be {@code null}.
+     * The edge is being removed if and only if is present in the graph.
+     *
+     * @param start The start node of the edge.
+     * @param end   The end node of the edge.
+     * @return {@code true} if the edge was successfully removed, {@code false}
+     * otherwise.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(mutates = "this")
+    public boolean removeEdge(@NotNull V start, @NotNull V end) {
+        Objects.requireNonNull(start);
+        Objects.requireNonNull(end);
+
+        lockPair(start, end);
+        try {
+            var startAdjacency = adjacencyMap.get(start);
+            if (startAdjacency == null || startAdjacency.remove(end) == null)
+                return false;
+
+            numEdges.decrement();
+
+            if (!directed && !Objects.equals(start, end)) {
+                var endAdjacency = adjacencyMap.get(end);
+                if (endAdjacency != null && endAdjacency.remove(start) != null)
+                    numEdges.decrement();
+            }
+
+            return true;
+        } finally {
+            unlockPair(start, end);
+        }
+    }
+
+    /**
+     * Gets the number of nodes in the graph.
+     *
+     * @return The number of nodes in the graph.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public int numNodes() {
+        return adjacencyMap.size();
+    }
+
+    /**
+     * Gets the number of edges in the graph.
+     *
+     * @return The number of edges in the graph.
+     * @implNote This operation has time complexity O(S), where S is the number of
+     * cells of the underlying {@link LongAdder}.
+     */
+    @Override
+    @Contract(pure = true)
+    public int numEdges() {
+        return numEdges.intValue();
+    }
+
+    /**
+     * Gets a readonly, weakly consistent view of all the nodes in the graph.
+     * The collection will be empty if the graph is empty.
+     *
+     * @return A collection of all the nodes in the graph.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public @NotNull @Unmodifiable Collection<V> getNodes() {
+        return Collections.unmodifiableSet(adjacencyMap.keySet());
+    }
+
+    /**
+     * Gets a snapshot of all the edges in the graph.
+     * The collection will be empty if there are no edges in the graph.
+     *
+     * @return A collection of all the edges in the graph.
+     * @implNote This operation has linear time complexity O(N).
+     */
+    @Override
+    @Contract(pure = true)
+    public @NotNull Collection<? extends AbstractEdge<V, L>> getEdges() {
+        List<AbstractEdge<V, L>> edgeList = new ArrayList<>();
+        adjacencyMap.values().forEach(edges -> edgeList.addAll(edges.values()));
+        return edgeList;
+    }
+
+    /**
+     * Get a snapshot of the neighbouring nodes for the given node.
+     * The node shall not be {@code null} and shall be present in the graph.
+     *
+     * @param node The node for which neighbours are to be received.
+     * @return A collection of neighbouring nodes for the given node.
+     * @throws IllegalStateException If the node is not present in the graph.
+     * @implNote This operation has time complexity proportional to the degree of
+     * the node.
+     */
+    @Override
+    @Contract(pure = true)
+    public @NotNull @Unmodifiable Collection<V> getNeighbours(@NotNull V node) {
+        Objects.requireNonNull(node);
+
+        var adjacency = adjacencyMap.get(node);
+        if (adjacency == null)
+            throw new IllegalStateException("The graph does not contain the provided node");
+
+        return Set.copyOf(adjacency.keySet());
+    }
+
+    /**
+     * Gets the label associated with an edge between nodes {@code start} and node
+     * {@code end}.
+     * The nodes shall not be {@code null}.
+     * The graph shall be labelled.
+     *
+     * @param start The start node of the edge.
+     * @param end   The end node of the edge.
+     * @return The label associated with the edge, if exists, or {@code null} if the
+     * edge does not exist.
+     * @throws IllegalStateException The graph is not labelled.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public @Nullable L getLabel(@NotNull V start, @NotNull V end) {
+        Objects.requireNonNull(start);
+        Objects.requireNonNull(end);
+
+        if (!labelled)
+            throw new IllegalStateException("Cannot retrieve label from a non labelled graph");
+
+        var adjacency = adjacencyMap.get(start);
+        if (adjacency == null)
+            return null;
+
+        var edge = adjacency.get(end);
+        return edge == null ? null : edge.getLabel();
+    }
+
+    private int stripeIndex(Object node) {
+        int hash = node.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    // Stripes are always acquired in ascending index order to avoid deadlocks.
+    private void lockPair(V start, V end) {
+        int first = stripeIndex(start);
+        int second = stripeIndex(end);
+
+        stripes[Math.min(first, second)].lock();
+        if (first != second)
+            stripes[Math.max(first, second)].lock();
+    }
+
+    private void unlockPair(V start, V end) {
+        int first = stripeIndex(start);
+        int second = stripeIndex(end);
+
+        if (first != second)
+            stripes[Math.max(first, second)].unlock();
+        stripes[Math.min(first, second)].unlock();
+    }
+}
@@ -0,0 +1,157 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Represents the connected components of a graph, computed in parallel over a
+ * {@link ConcurrentDisjointSet}.
+ * Components are numbered {@code 0, 1, ...} in the order in which the graph lists
+ * their first node. The direction of the edges is ignored, so the components of a
+ * directed graph are its weakly connected components.
+ *
+ * @param <V> The type of nodes in the graph.
+ */
+public final class ConnectedComponents<V> {
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private final Map<V, Integer> componentIds;
+    private final int[] sizes;
+
+    private ConnectedComponents(Map<V, Integer> componentIds, int[] sizes) {
+        this.componentIds = componentIds;
+        this.sizes = sizes;
+    }
+
+    /**
+     * Computes the connected components of a graph.
+     * The graph shall not be modified while this operation runs.
+     *
+     * @param graph The graph.
+     * @param <V>   The type of nodes in the graph.
+     * @return The connected components of the graph.
+     * @implNote This operation has time complexity O((N + E) log N), with the edges
+     * of large graphs split among the cores of the common fork/join pool.
+     */
+    @Contract(pure = true)
+    public static <V> @NotNull ConnectedComponents<V> components(@NotNull AbstractGraph<V, ?> graph) {
+        Objects.requireNonNull(graph);
+
+        var nodes = new ArrayList<V>(graph.getNodes());
+        var indices = new HashMap<V, Integer>(2 * nodes.size());
+        for (int i = 0; i < nodes.size(); i++)
+            indices.put(nodes.get(i), i);
+
+        var disjointSet = new ConcurrentDisjointSet(nodes.size());
+        var range = IntStream.range(0, nodes.size());
+        if (graph.numEdges() >= PARALLEL_THRESHOLD)
+            range = range.parallel();
+        range.forEach(node -> {
+            for (var neighbour : graph.getNeighbours(nodes.get(node)))
+                disjointSet.union(node, indices.get(neighbour));
+        });
+
+        return label(nodes, disjointSet);
+    }
+
+    private static <V> ConnectedComponents<V> label(List<V> nodes, ConcurrentDisjointSet disjointSet) {
+        var roots = new int[nodes.size()];
+        var range = IntStream.range(0, nodes.size());
+        if (nodes.size() >= PARALLEL_THRESHOLD)
+            range = range.parallel();
+        range.forEach(node -> roots[node] = disjointSet.find(node));
+
+        // Number the roots densely, in order of first appearance.
+        var rootIds = new int[nodes.size()];
+        Arrays.fill(rootIds, -1);
+        var sizes = new int[nodes.size()];
+        var numComponents = 0;
+        var componentIds = new HashMap<V, Integer>(2 * nodes.size());
+        for (int node = 0; node < nodes.size(); node++) {
+            if (rootIds[roots[node]] == -1)
+                rootIds[roots[node]] = numComponents++;
+
+            var id = rootIds[roots[node]];
+            sizes[id]++;
+            componentIds.put(nodes.get(node), id);
+        }
+
+        return new ConnectedComponents<>(componentIds, Arrays.copyOf(sizes, numComponents));
+    }
+
+    /**
+     * Gets the number of connected components.
+     *
+     * @return The number of connected components.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public int numComponents() {
+        return sizes.length;
+    }
+
+    /**
+     * Gets the id of the component containing a node.
+     *
+     * @param node The node.
+     * @return The id of the component, in {@code [0, numComponents())}.
+     * @throws IllegalStateException If the node was not in the graph.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public int componentOf(@NotNull V node) {
+        Objects.requireNonNull(node);
+
+        var id = componentIds.get(node);
+        if (id == null)
+            throw new IllegalStateException("The graph did not contain the provided node");
+        return id;
+    }
+
+    /**
+     * Checks whether two nodes are in the same component.
+     *
+     * @param first  The first node.
+     * @param second The second node.
+     * @return {@code true} if the two nodes are connected, {@code false} otherwise.
+     * @throws IllegalStateException If a node was not in the graph.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public boolean connected(@NotNull V first, @NotNull V second) {
+        return componentOf(first) == componentOf(second);
+    }
+
+    /**
+     * Gets the number of nodes in a component.
+     *
+     * @param component The id of the component.
+     * @return The number of nodes in the component.
+     * @throws IndexOutOfBoundsException If the id is out of range.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public int size(int component) {
+        return sizes[component];
+    }
+
+    /**
+     * Gets the number of nodes of every component.
+     *
+     * @return A new array whose {@code i}-th element is the size of component
+     * {@code i}.
+     * @implNote This operation has linear time complexity O(C).
+     */
+    @Contract(pure = true)
+    public int @NotNull [] sizes() {
+        return sizes.clone();
+    }
+}
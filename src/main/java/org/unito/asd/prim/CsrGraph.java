@@ -0,0 +1,202 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Represents an immutable snapshot of a graph in compressed sparse row form.
+ * Nodes are numbered in {@code [0, numNodes)}, and the outgoing arcs of node
+ * {@code i} are the indices {@code [firstArc(i), endArc(i))} of flat arrays of
+ * sources, targets and weights. An undirected edge appears as two arcs, one per
+ * direction, as returned by {@link AbstractGraph#getEdges()}.
+ *
+ * @param <V> The type of nodes in the graph.
+ * @param <L> The type of labels associated with edges in the graph.
+ */
+final class CsrGraph<V, L extends Number> {
+    private final List<V> nodes;
+    private final boolean directed;
+    private final int[] offsets;
+    private final int[] sources;
+    private final int[] targets;
+    private final double[] weights;
+    private final Object[] labels;
+
+    private CsrGraph(List<V> nodes, boolean directed, int numArcs) {
+        this.nodes = nodes;
+        this.directed = directed;
+        this.offsets = new int[nodes.size() + 1];
+        this.sources = new int[numArcs];
+        this.targets = new int[numArcs];
+        this.weights = new double[numArcs];
+        this.labels = new Object[numArcs];
+    }
+
+    /**
+     * Takes a snapshot of a graph.
+     *
+     * @param graph The graph.
+     * @param <V>   The type of nodes in the graph.
+     * @param <L>   The type of labels associated with edges in the graph.
+     * @return The snapshot of the graph.
+     * @implNote This operation has linear time complexity O(N + E).
+     */
+    static <V, L extends Number> @NotNull CsrGraph<V, L> of(@NotNull AbstractGraph<V, L> graph) {
+        var nodes = new ArrayList<V>(graph.getNodes());
+        var indices = new HashMap<V, Integer>(2 * nodes.size());
+        for (int i = 0; i < nodes.size(); i++)
+            indices.put(nodes.get(i), i);
+
+        // An undirected Graph lists each edge once, and both arcs are built from it.
+        var undirected = !graph.isDirected() && graph instanceof Graph<V, L>;
+        var edges = undirected ? graph.getUndirectedEdges() : graph.getEdges();
+
+        var starts = new int[edges.size()];
+        var ends = new int[edges.size()];
+        var numArcs = 0;
+        var i = 0;
+        for (var edge : edges) {
+            starts[i] = indices.get(edge.getStart());
+            ends[i] = indices.get(edge.getEnd());
+            numArcs += undirected && starts[i] != ends[i] ? 2 : 1;
+            i++;
+        }
+
+        var csr = new CsrGraph<V, L>(nodes, graph.isDirected(), numArcs);
+        for (i = 0; i < starts.length; i++) {
+            csr.offsets[starts[i] + 1]++;
+            if (undirected && starts[i] != ends[i])
+                csr.offsets[ends[i] + 1]++;
+        }
+        for (int node = 0; node < nodes.size(); node++)
+            csr.offsets[node + 1] += csr.offsets[node];
+
+        var cursors = Arrays.copyOf(csr.offsets, nodes.size());
+        i = 0;
+        for (var edge : edges) {
+            csr.addArc(cursors[starts[i]]++, starts[i], ends[i], edge.getLabel());
+            if (undirected && starts[i] != ends[i])
+                csr.addArc(cursors[ends[i]]++, ends[i], starts[i], edge.getLabel());
+            i++;
+        }
+
+        return csr;
+    }
+
+    private void addArc(int arc, int source, int target, L label) {
+        sources[arc] = source;
+        targets[arc] = target;
+        weights[arc] = label.doubleValue();
+        labels[arc] = label;
+    }
+
+    @Contract(pure = true)
+    int numNodes() {
+        return nodes.size();
+    }
+
+    @Contract(pure = true)
+    int numArcs() {
+        return targets.length;
+    }
+
+    @Contract(pure = true)
+    boolean isDirected() {
+        return directed;
+    }
+
+    @Contract(pure = true)
+    V node(int node) {
+        return nodes.get(node);
+    }
+
+    @Contract(pure = true)
+    int firstArc(int node) {
+        return offsets[node];
+    }
+
+    @Contract(pure = true)
+    int endArc(int node) {
+        return offsets[node + 1];
+    }
+
+    @Contract(pure = true)
+    int source(int arc) {
+        return sources[arc];
+    }
+
+    @Contract(pure = true)
+    int target(int arc) {
+        return targets[arc];
+    }
+
+    @Contract(pure = true)
+    double weight(int arc) {
+        return weights[arc];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Contract(pure = true)
+    L label(int arc) {
+        return (L) labels[arc];
+    }
+
+    /**
+     * Builds the edge of the original graph an arc stands for.
+     *
+     * @param arc The arc.
+     * @return The edge from the source to the target of the arc.
+     */
+    @Contract(pure = true)
+    @NotNull AbstractEdge<V, L> edge(int arc) {
+        return new Edge<>(nodes.get(sources[arc]), nodes.get(targets[arc]), label(arc));
+    }
+
+    /**
+     * Gets one arc per undirected edge, dropping self-loops: of the two arcs of
+     * every edge, only the one leaving the node with the lower index is kept.
+     *
+     * @return The arcs.
+     * @implNote This operation has linear time complexity O(E).
+     */
+    @Contract(pure = true)
+    int @NotNull [] undirectedArcs() {
+        var count = 0;
+        for (int arc = 0; arc < targets.length; arc++) {
+            if (sources[arc] < targets[arc])
+                count++;
+        }
+
+        var arcs = new int[count];
+        count = 0;
+        for (int arc = 0; arc < targets.length; arc++) {
+            if (sources[arc] < targets[arc])
+                arcs[count++] = arc;
+        }
+        return arcs;
+    }
+
+    /**
+     * Checks whether the first arc is lighter than the second one, breaking ties on
+     * the end nodes, so that all the arcs are totally ordered and the two arcs of an
+     * undirected edge compare as equal.
+     *
+     * @param first  The first arc.
+     * @param second The second arc.
+     * @return {@code true} if the first arc comes strictly before the second one.
+     */
+    @Contract(pure = true)
+    boolean isLighter(int first, int second) {
+        if (weights[first] != weights[second])
+            return weights[first] < weights[second];
+
+        var firstLow = Math.min(sources[first], targets[first]);
+        var secondLow = Math.min(sources[second], targets[second]);
+        if (firstLow != secondLow)
+            return firstLow < secondLow;
+
+        return Math.max(sources[first], targets[first]) < Math.max(sources[second], targets[second]);
+    }
+}
@@ -0,0 +1,117 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Implements Prim's algorithm for dense graphs.
+ * The graph is copied into an adjacency matrix of weights, and the cheapest link
+ * of every node to the growing tree is kept in a plain array. Each step is a linear
+ * scan of that array, which gives O(V^2) time without any priority queue: this beats
+ * the heap-based {@link LazyPrim} and {@link EagerPrim} when the number of edges
+ * approaches V^2.
+ */
+public final class DensePrim implements MsfSolver {
+    /**
+     * The maximum number of nodes a graph can have to be processed by this engine,
+     * so that the adjacency matrix stays within 128 MB.
+     */
+    public static final int MAX_NODES = 4096;
+
+    /**
+     * The fraction of all the possible edges a graph needs to have to be considered
+     * dense.
+     */
+    public static final double DENSITY_THRESHOLD = 0.25;
+
+    /**
+     * Checks whether a graph is dense enough, and small enough, for this engine to
+     * be the fastest choice.
+     *
+     * @param graph the graph to check
+     * @return {@code true} if the graph should be processed by this engine,
+     * {@code false} otherwise
+     */
+    @Contract(pure = true)
+    public static boolean isDense(@NotNull AbstractGraph<?, ?> graph) {
+        return isDense(graph.numNodes(), graph.numEdges());
+    }
+
+    @Contract(pure = true)
+    static boolean isDense(long numNodes, long numEdges) {
+        if (numNodes < 2 || numNodes > MAX_NODES)
+            return false;
+
+        // Undirected edges are counted once per direction, so the bound is the same for both kinds of graph.
+        return numEdges >= DENSITY_THRESHOLD * numNodes * (numNodes - 1);
+    }
+
+    /**
+     * Computes the minimum spanning forest for a given graph.
+     * A new tree is started from the first node left out whenever no remaining node
+     * can be linked to the current one.
+     *
+     * @param graph the graph to compute the minimum spanning forest for
+     * @param <V>   the type of vertices in the graph
+     * @param <L>   the type of the edge label (weight), must extend Number
+     * @return a collection of edges representing the minimum spanning forest
+     * @throws IllegalArgumentException if the graph has more than {@link #MAX_NODES}
+     *                                  nodes
+     */
+    @Override
+    @Contract(pure = true)
+    public <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(@NotNull AbstractGraph<V, L> graph) {
+        var numNodes = graph.numNodes();
+        if (numNodes > MAX_NODES)
+            throw new IllegalArgumentException("The graph is too large for an adjacency matrix");
+
+        var nodes = new ArrayList<V>(graph.getNodes());
+        var indices = new HashMap<V, Integer>(2 * numNodes);
+        for (var i = 0; i < numNodes; i++)
+            indices.put(nodes.get(i), i);
+
+        var weights = new double[numNodes * numNodes];
+        Arrays.fill(weights, Double.POSITIVE_INFINITY);
+        for (var edge : graph.getEdges()) {
+            var cell = indices.get(edge.getStart()) * numNodes + indices.get(edge.getEnd());
+            weights[cell] = Math.min(weights[cell], edge.getLabel().doubleValue());
+        }
+
+        var inTree = new boolean[numNodes];
+        var minCost = new double[numNodes];
+        var parents = new int[numNodes];
+        var msf = new ArrayList<AbstractEdge<V, L>>();
+
+        Arrays.fill(minCost, Double.POSITIVE_INFINITY);
+        Arrays.fill(parents, -1);
+
+        for (var step = 0; step < numNodes; step++) {
+            // Pick the node that is cheapest to link; when none can be linked, this starts a new tree.
+            var node = -1;
+            for (var i = 0; i < numNodes; i++) {
+                if (!inTree[i] && (node == -1 || minCost[i] < minCost[node]))
+                    node = i;
+            }
+
+            inTree[node] = true;
+            if (parents[node] != -1) {
+                var start = nodes.get(parents[node]);
+                var end = nodes.get(node);
+                msf.add(new Edge<>(start, end, graph.getLabel(start, end)));
+            }
+
+            // Relax the row of the new node against the current link costs.
+            var row = node * numNodes;
+            for (var i = 0; i < numNodes; i++) {
+                if (!inTree[i] && weights[row + i] < minCost[i]) {
+                    minCost[i] = weights[row + i];
+                    parents[i] = node;
+                }
+            }
+        }
+
+        return msf;
+    }
+}
@@ -0,0 +1,127 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Represents a disjoint-set forest (union-find) over the integers
+ * {@code [0, size)}.
+ * Sets are merged by rank and paths are halved during lookups, so any sequence of
+ * operations runs in almost linear time.
+ */
+public final class DisjointSet {
+    private final int[] parents;
+    private final byte[] ranks;
+    private int numSets;
+
+    /**
+     * Constructs a new {@link DisjointSet} where every element is in its own set.
+     *
+     * @param size The number of elements. It shall not be negative.
+     * @throws IllegalArgumentException If {@code size} is negative.
+     */
+    public DisjointSet(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("The size must not be negative");
+
+        this.parents = new int[size];
+        this.ranks = new byte[size];
+        this.numSets = size;
+
+        for (int i = 0; i < size; i++)
+            parents[i] = i;
+    }
+
+    /**
+     * Gets the number of elements.
+     *
+     * @return The number of elements.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public int size() {
+        return parents.length;
+    }
+
+    /**
+     * Gets the number of disjoint sets.
+     *
+     * @return The number of disjoint sets.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public int numSets() {
+        return numSets;
+    }
+
+    /**
+     * Finds the representative of the set containing an element.
+     *
+     * @param element The element.
+     * @return The representative of the set containing {@code element}.
+     * @throws IndexOutOfBoundsException If the element is out of range.
+     * @implNote This operation has amortized almost constant time complexity.
+     */
+    @Contract(mutates = "this")
+    public int find(int element) {
+        while (parents[element] != element) {
+            parents[element] = parents[parents[element]];
+            element = parents[element];
+        }
+        return element;
+    }
+
+    // Like find, but without halving the path: it never writes, so many threads can call it at once as long as
+    // no union runs concurrently.
+    @Contract(pure = true)
+    int root(int element) {
+        while (parents[element] != element)
+            element = parents[element];
+        return element;
+    }
+
+    /**
+     * Merges the sets containing two elements.
+     *
+     * @param first  The first element.
+     * @param second The second element.
+     * @return {@code true} if the two elements were in different sets,
+     * {@code false} otherwise.
+     * @throws IndexOutOfBoundsException If an element is out of range.
+     * @implNote This operation has amortized almost constant time complexity.
+     */
+    @Contract(mutates = "this")
+    public boolean union(int first, int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+
+        if (firstRoot == secondRoot)
+            return false;
+
+        if (ranks[firstRoot] < ranks[secondRoot]) {
+            parents[firstRoot] = secondRoot;
+        } else if (ranks[firstRoot] > ranks[secondRoot]) {
+            parents[secondRoot] = firstRoot;
+        } else {
+            parents[secondRoot] = firstRoot;
+            ranks[firstRoot]++;
+        }
+
+        numSets--;
+        return true;
+    }
+
+    /**
+     * Checks whether two elements are in the same set.
+     *
+     * @param first  The first element.
+     * @param second The second element.
+     * @return {@code true} if the two elements are in the same set, {@code false}
+     * otherwise.
+     * @throws IndexOutOfBoundsException If an element is out of range.
+     * @implNote This operation has amortized almost constant time complexity.
+     */
+    @Contract(mutates = "this")
+    public boolean connected(int first, int second) {
+        return find(first) == find(second);
+    }
+}
@@ -0,0 +1,371 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Computes the minimum spanning forest of a graph partitioned across several
+ * worker processes, with Boruvka's algorithm coordinated over TCP.
+ * Every node is owned by exactly one worker, chosen by the hash of its name, and
+ * a worker keeps only the edges incident to the nodes it owns, so no process ever
+ * holds the whole graph. The components are named after one of their nodes. In
+ * every round each worker finds, for every component of its nodes, the lightest
+ * edge leaving it, and sends these candidates to the coordinator; the coordinator
+ * keeps the lightest candidate of every component, adds the edges that join
+ * different components to the forest and broadcasts the new names of the merged
+ * components, which the workers apply before the next round. The rounds stop when
+ * no component has an outgoing edge, after at most log V of them.
+ * Edges are ordered by weight, then by the names of their endpoints, so that all
+ * the processes agree on the lightest edge.
+ */
+public final class DistributedBoruvka {
+    private static final int HELLO = 1;
+    private static final int ROUND = 2;
+    private static final int DONE = 3;
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    private static final int NONE = -1;
+
+    private DistributedBoruvka() {
+    }
+
+    /**
+     * Accepts the given number of workers on a server socket, and coordinates them
+     * until the minimum spanning forest is complete.
+     *
+     * @param server     the server socket the workers connect to
+     * @param numWorkers the number of workers, which shall be positive
+     * @return a collection of edges representing the minimum spanning forest
+     * @throws IOException              if an I/O error occurs while talking to the
+     *                                  workers
+     * @throws IllegalArgumentException if the number of workers is not positive
+     */
+    public static @NotNull Collection<AbstractEdge<String, Double>> coordinate(@NotNull ServerSocket server,
+                                                                               int numWorkers) throws IOException {
+        Objects.requireNonNull(server);
+        if (numWorkers <= 0)
+            throw new IllegalArgumentException("The number of workers must be positive");
+
+        var sockets = new ArrayList<Socket>();
+        try {
+            var inputs = new ArrayList<DataInputStream>();
+            var outputs = new ArrayList<DataOutputStream>();
+            for (var index = 0; index < numWorkers; index++) {
+                var socket = server.accept();
+                sockets.add(socket);
+                inputs.add(new DataInputStream(new BufferedInputStream(socket.getInputStream(), IO_BUFFER_SIZE)));
+                outputs.add(new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), IO_BUFFER_SIZE)));
+
+                outputs.get(index).writeByte(HELLO);
+                outputs.get(index).writeInt(index);
+                outputs.get(index).writeInt(numWorkers);
+                outputs.get(index).flush();
+            }
+
+            return coordinate(inputs, outputs);
+        } finally {
+            for (var socket : sockets)
+                socket.close();
+        }
+    }
+
+    /**
+     * Connects to a coordinator, loads the shard of the graph owned by this worker
+     * and takes part in the rounds until the coordinator ends them.
+     * Each line of the shard should describe an edge in the format
+     * "node1,node2,weight"; the edges with no endpoint owned by this worker are
+     * skipped, so the same file can be given to every worker.
+     *
+     * @param coordinator the address of the coordinator
+     * @param shard       the path to the edges of the shard
+     * @throws IOException if an I/O error occurs while reading the shard or while
+     *                     talking to the coordinator
+     */
+    public static void work(@NotNull InetSocketAddress coordinator, @NotNull Path shard) throws IOException {
+        Objects.requireNonNull(coordinator);
+        Objects.requireNonNull(shard);
+
+        try (var socket = new Socket(coordinator.getAddress(), coordinator.getPort())) {
+            var input = new DataInputStream(new BufferedInputStream(socket.getInputStream(), IO_BUFFER_SIZE));
+            var output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), IO_BUFFER_SIZE));
+
+            expect(input, HELLO);
+            var index = input.readInt();
+            var numWorkers = input.readInt();
+
+            Shard state;
+            try (var reader = CompressedInput.newReader(shard)) {
+                state = Shard.load(reader, index, numWorkers);
+            }
+
+            while (true) {
+                var message = input.readByte();
+                if (message == DONE)
+                    return;
+                if (message != ROUND)
+                    throw new IOException("Unexpected message " + message);
+
+                var numRenames = input.readInt();
+                for (var i = 0; i < numRenames; i++)
+                    state.rename(input.readUTF(), input.readUTF());
+
+                state.writeCandidates(output);
+                output.flush();
+            }
+        }
+    }
+
+    /**
+     * Gets the worker owning a node.
+     *
+     * @param node       the name of the node
+     * @param numWorkers the number of workers
+     * @return the index of the worker owning the node
+     */
+    @Contract(pure = true)
+    static int owner(@NotNull String node, int numWorkers) {
+        return Math.floorMod(node.hashCode(), numWorkers);
+    }
+
+    private static Collection<AbstractEdge<String, Double>> coordinate(List<DataInputStream> inputs,
+                                                                       List<DataOutputStream> outputs) throws IOException {
+        var msf = new ArrayList<AbstractEdge<String, Double>>();
+        var renames = new HashMap<String, String>();
+
+        while (true) {
+            for (var output : outputs) {
+                output.writeByte(ROUND);
+                output.writeInt(renames.size());
+                for (var rename : renames.entrySet()) {
+                    output.writeUTF(rename.getKey());
+                    output.writeUTF(rename.getValue());
+                }
+                output.flush();
+            }
+
+            // Keep the lightest candidate of every component among those of all the workers.
+            var best = new HashMap<String, Candidate>();
+            for (var input : inputs) {
+                var numCandidates = input.readInt();
+                for (var i = 0; i < numCandidates; i++) {
+                    var candidate = Candidate.read(input);
+                    best.merge(candidate.component(), candidate, (a, b) -> a.isLighter(b) ? a : b);
+                }
+            }
+
+            var parents = new HashMap<String, String>();
+            for (var candidate : best.values()) {
+                var first = find(parents, candidate.component());
+                var second = find(parents, candidate.other());
+                if (!first.equals(second)) {
+                    parents.put(first, second);
+                    msf.add(new Edge<>(candidate.start(), candidate.end(), candidate.weight()));
+                }
+            }
+
+            if (parents.isEmpty()) {
+                for (var output : outputs) {
+                    output.writeByte(DONE);
+                    output.flush();
+                }
+                return msf;
+            }
+
+            renames.clear();
+            for (var component : parents.keySet())
+                renames.put(component, find(parents, component));
+        }
+    }
+
+    private static String find(Map<String, String> parents, String component) {
+        var root = component;
+        String parent;
+        while ((parent = parents.get(root)) != null)
+            root = parent;
+
+        // Compress the path, so that renaming every merged component stays linear.
+        while (!component.equals(root)) {
+            var next = parents.get(component);
+            parents.put(component, root);
+            component = next;
+        }
+        return root;
+    }
+
+    private static void expect(DataInputStream input, int message) throws IOException {
+        var received = input.readByte();
+        if (received != message)
+            throw new IOException("Unexpected message " + received);
+    }
+
+    /**
+     * Describes the lightest edge a worker found leaving a component.
+     *
+     * @param component The component the edge leaves.
+     * @param other     The component the edge reaches.
+     * @param start     The endpoint of the edge in the component.
+     * @param end       The endpoint of the edge in the other component.
+     * @param weight    The weight of the edge.
+     */
+    private record Candidate(String component, String other, String start, String end, double weight) {
+        private static Candidate read(DataInputStream input) throws IOException {
+            return new Candidate(input.readUTF(), input.readUTF(), input.readUTF(), input.readUTF(), input.readDouble());
+        }
+
+        private boolean isLighter(Candidate candidate) {
+            return compareEdges(weight, start, end, candidate.weight, candidate.start, candidate.end) < 0;
+        }
+    }
+
+    private static int compareEdges(double weight, String start, String end,
+                                    double otherWeight, String otherStart, String otherEnd) {
+        var byWeight = Double.compare(weight, otherWeight);
+        if (byWeight != 0)
+            return byWeight;
+
+        var low = start.compareTo(end) <= 0 ? start : end;
+        var high = low == start ? end : start;
+        var otherLow = otherStart.compareTo(otherEnd) <= 0 ? otherStart : otherEnd;
+        var otherHigh = otherLow == otherStart ? otherEnd : otherStart;
+
+        var byLow = low.compareTo(otherLow);
+        return byLow != 0 ? byLow : high.compareTo(otherHigh);
+    }
+
+    /**
+     * Holds the edges incident to the nodes owned by a worker, and the names of the
+     * components of their endpoints.
+     * Every name, of a node or of a component, is given a local index; the
+     * components are kept as a forest over these indices, where renaming a
+     * component links its old name to the new one.
+     */
+    private static final class Shard {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private int[] parents = new int[16];
+        private boolean[] owned = new boolean[16];
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private double[] weights = new double[16];
+        private int numEdges;
+
+        private static Shard load(BufferedReader reader, int index, int numWorkers) throws IOException {
+            var shard = new Shard();
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                var fmtLine = line.split(",");
+                var startOwned = owner(fmtLine[0], numWorkers) == index;  // from
+                var endOwned = owner(fmtLine[1], numWorkers) == index;  // to
+                if (startOwned || endOwned)
+                    shard.addEdge(fmtLine[0], fmtLine[1], Double.parseDouble(fmtLine[2]), startOwned, endOwned);  // distance
+            }
+
+            return shard;
+        }
+
+        private void addEdge(String start, String end, double weight, boolean startOwned, boolean endOwned) {
+            if (numEdges == starts.length) {
+                starts = Arrays.copyOf(starts, 2 * numEdges);
+                ends = Arrays.copyOf(ends, 2 * numEdges);
+                weights = Arrays.copyOf(weights, 2 * numEdges);
+            }
+
+            starts[numEdges] = intern(start, startOwned);
+            ends[numEdges] = intern(end, endOwned);
+            weights[numEdges] = weight;
+            numEdges++;
+        }
+
+        private int intern(String name, boolean isOwned) {
+            var index = indices.get(name);
+            if (index == null) {
+                index = names.size();
+                indices.put(name, index);
+                names.add(name);
+
+                if (index == parents.length) {
+                    parents = Arrays.copyOf(parents, 2 * index);
+                    owned = Arrays.copyOf(owned, 2 * index);
+                }
+                parents[index] = index;
+                owned[index] = isOwned;
+            }
+            return index;
+        }
+
+        private void rename(String component, String name) {
+            var index = indices.get(component);
+
+            // No node of this shard belongs to the component.
+            if (index != null)
+                parents[index] = intern(name, false);
+        }
+
+        private int component(int node) {
+            var root = node;
+            while (parents[root] != root)
+                root = parents[root];
+
+            while (parents[node] != root) {
+                var next = parents[node];
+                parents[node] = root;
+                node = next;
+            }
+            return root;
+        }
+
+        private void writeCandidates(DataOutputStream output) throws IOException {
+            // The lightest edge leaving every component, and whether it leaves from its start.
+            var best = new int[names.size()];
+            var fromStart = new boolean[names.size()];
+            var components = new ArrayList<Integer>();
+            Arrays.fill(best, NONE);
+
+            for (var edge = 0; edge < numEdges; edge++) {
+                var startComponent = component(starts[edge]);
+                var endComponent = component(ends[edge]);
+                if (startComponent == endComponent)
+                    continue;
+
+                // An edge is a candidate only for the components of the endpoints this worker owns.
+                if (owned[starts[edge]] && isLighter(edge, best[startComponent])) {
+                    if (best[startComponent] == NONE)
+                        components.add(startComponent);
+                    best[startComponent] = edge;
+                    fromStart[startComponent] = true;
+                }
+                if (owned[ends[edge]] && isLighter(edge, best[endComponent])) {
+                    if (best[endComponent] == NONE)
+                        components.add(endComponent);
+                    best[endComponent] = edge;
+                    fromStart[endComponent] = false;
+                }
+            }
+
+            output.writeInt(components.size());
+            for (var component : components) {
+                var edge = best[component];
+                var start = fromStart[component] ? starts[edge] : ends[edge];
+                var end = fromStart[component] ? ends[edge] : starts[edge];
+
+                output.writeUTF(names.get(component));
+                output.writeUTF(names.get(component(end)));
+                output.writeUTF(names.get(start));
+                output.writeUTF(names.get(end));
+                output.writeDouble(weights[edge]);
+            }
+        }
+
+        private boolean isLighter(int edge, int other) {
+            return other == NONE || compareEdges(weights[edge], names.get(starts[edge]), names.get(ends[edge]),
+                    weights[other], names.get(starts[other]), names.get(ends[other])) < 0;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+
+/**
+ * Maintains the minimum spanning forest of an undirected, labelled {@link Graph}
+ * while the graph changes, without recomputing it from scratch.
+ * Once constructed, the forest is registered as a {@link GraphListener} of the
+ * graph and kept up to date by every later change, until {@link #close()} is
+ * called. The forest is stored in a {@link LinkCutTree} where every tree edge is a
+ * node of its own carrying the weight of the edge, so that:
+ * <ul>
+ *     <li>an added edge that closes a cycle replaces the heaviest edge on the tree
+ *     path between its endpoints, if it is lighter than it, in amortized
+ *     O(log N) time;</li>
+ *     <li>a removed edge outside of the forest costs O(1);</li>
+ *     <li>a removed edge of the forest is replaced by the lightest edge across the
+ *     cut, found by exploring the two halves of the tree in lockstep and scanning
+ *     the edges of the smaller half only, in time linear in the size of that half
+ *     and of its edges.</li>
+ * </ul>
+ *
+ * @param <V> The type of nodes in the graph.
+ * @param <L> The type of labels associated with edges in the graph.
+ */
+public final class DynamicMsf<V, L extends Number> implements GraphListener<V, L>, AutoCloseable {
+    private final Graph<V, L> graph;
+    private final LinkCutTree tree = new LinkCutTree();
+    private final Map<V, Integer> vertices = new HashMap<>();
+    private final Map<V, Map<V, Integer>> treeAdjacency = new HashMap<>();
+    private final Map<Integer, AbstractEdge<V, L>> treeEdges = new HashMap<>();
+
+    /**
+     * Constructs a new {@link DynamicMsf} from the current minimum spanning forest
+     * of a graph, and starts following the changes to the graph.
+     *
+     * @param graph The graph.
+     * @throws IllegalArgumentException If the graph is directed or not labelled.
+     * @implNote This operation has time complexity O(E log E).
+     */
+    public DynamicMsf(@NotNull Graph<V, L> graph) {
+        Objects.requireNonNull(graph);
+        if (graph.isDirected())
+            throw new IllegalArgumentException("A dynamic minimum spanning forest requires an undirected graph");
+        if (!graph.isLabelled())
+            throw new IllegalArgumentException("A dynamic minimum spanning forest requires a labelled graph");
+
+        this.graph = graph;
+
+        for (var node : graph.getNodes())
+            vertex(node);
+        for (var edge : MsfStrategy.KRUSKAL.solver().minimumSpanningForest(graph))
+            addTreeEdge(edge.getStart(), edge.getEnd(), edge.getLabel());
+
+        graph.addListener(this);
+    }
+
+    /**
+     * Gets the edges of the minimum spanning forest.
+     * The collection is a live view that follows the changes to the graph.
+     *
+     * @return The edges of the minimum spanning forest.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public @NotNull @Unmodifiable Collection<? extends AbstractEdge<V, L>> getForest() {
+        return Collections.unmodifiableCollection(treeEdges.values());
+    }
+
+    /**
+     * Checks whether two nodes are in the same tree of the forest.
+     *
+     * @param first  The first node.
+     * @param second The second node.
+     * @return {@code true} if the nodes are connected, {@code false} otherwise.
+     * @throws IllegalStateException If a node is not present in the graph.
+     * @implNote This operation has amortized logarithmic time complexity
+     * O(log N).
+     */
+    @Contract(pure = true)
+    public boolean connected(@NotNull V first, @NotNull V second) {
+        return tree.connected(existingVertex(first), existingVertex(second));
+    }
+
+    /**
+     * Stops following the changes to the graph. The forest is left as it is.
+     */
+    @Override
+    public void close() {
+        graph.removeListener(this);
+    }
+
+    @Override
+    public void nodeAdded(@NotNull V node) {
+        vertex(node);
+    }
+
+    @Override
+    public void nodeRemoved(@NotNull V node) {
+        // Its edges have been removed already, so the node is a tree by itself.
+        var vertex = vertices.remove(node);
+        treeAdjacency.remove(node);
+        tree.freeNode(vertex);
+    }
+
+    @Override
+    public void edgeAdded(@NotNull V start, @NotNull V end, L label) {
+        var first = vertex(start);
+        var second = vertex(end);
+
+        if (first == second)
+            return;
+
+        if (tree.connected(first, second)) {
+            // The new edge closes a cycle: it enters the forest only if it is lighter than the heaviest edge of the cycle.
+            var heaviest = tree.pathMax(first, second);
+            if (!(tree.weight(heaviest) > label.doubleValue()))
+                return;
+            removeTreeEdge(heaviest);
+        }
+
+        addTreeEdge(start, end, label);
+    }
+
+    @Override
+    public void edgeRemoved(@NotNull V start, @NotNull V end, L label) {
+        var neighbours = treeAdjacency.get(start);
+        var edge = neighbours == null ? null : neighbours.get(end);
+        if (edge == null)
+            return;
+
+        removeTreeEdge(edge);
+
+        var replacement = lightestCrossingEdge(start, end);
+        if (replacement != null)
+            addTreeEdge(replacement.getStart(), replacement.getEnd(), replacement.getLabel());
+    }
+
+    // Finds the lightest edge of the graph between the two trees that contain start and end.
+    private AbstractEdge<V, L> lightestCrossingEdge(V start, V end) {
+        var startSide = new HashSet<V>();
+        var endSide = new HashSet<V>();
+        var startQueue = new ArrayDeque<V>();
+        var endQueue = new ArrayDeque<V>();
+        startSide.add(start);
+        startQueue.add(start);
+        endSide.add(end);
+        endQueue.add(end);
+
+        // Grow both sides one node at a time: the first one to run out is the smaller tree, found in time proportional to its size.
+        Set<V> smaller;
+        while (true) {
+            if (!explore(startQueue, startSide)) {
+                smaller = startSide;
+                break;
+            }
+            if (!explore(endQueue, endSide)) {
+                smaller = endSide;
+                break;
+            }
+        }
+
+        // Every edge leaving the smaller tree reaches the other one, as the forest spanned both before the removal.
+        AbstractEdge<V, L> lightest = null;
+        for (var node : smaller) {
+            if (!graph.containsNode(node))
+                continue;
+
+            for (var edge : graph.edgesOf(node)) {
+                if (!smaller.contains(edge.getEnd())
+                        && (lightest == null || edge.getLabel().doubleValue() < lightest.getLabel().doubleValue()))
+                    lightest = edge;
+            }
+        }
+
+        return lightest;
+    }
+
+    private boolean explore(Queue<V> queue, Set<V> side) {
+        var node = queue.poll();
+        if (node == null)
+            return false;
+
+        var neighbours = treeAdjacency.get(node);
+        if (neighbours != null) {
+            for (var neighbour : neighbours.keySet()) {
+                if (side.add(neighbour))
+                    queue.add(neighbour);
+            }
+        }
+        return true;
+    }
+
+    private void addTreeEdge(V start, V end, L label) {
+        var edge = tree.newNode(label.doubleValue());
+        tree.link(vertex(start), edge);
+        tree.link(edge, vertex(end));
+
+        treeAdjacency.computeIfAbsent(start, node -> new HashMap<>()).put(end, edge);
+        treeAdjacency.computeIfAbsent(end, node -> new HashMap<>()).put(start, edge);
+        treeEdges.put(edge, new Edge<>(start, end, label));
+    }
+
+    private void removeTreeEdge(int edge) {
+        var removed = treeEdges.remove(edge);
+        var start = removed.getStart();
+        var end = removed.getEnd();
+
+        tree.cut(vertices.get(start), edge);
+        tree.cut(edge, vertices.get(end));
+        tree.freeNode(edge);
+
+        treeAdjacency.get(start).remove(end);
+        treeAdjacency.get(end).remove(start);
+    }
+
+    private int vertex(V node) {
+        var vertex = vertices.get(node);
+        if (vertex == null) {
+            vertex = tree.newNode(Double.NEGATIVE_INFINITY);
+            vertices.put(node, vertex);
+        }
+        return vertex;
+    }
+
+    private int existingVertex(V node) {
+        Objects.requireNonNull(node);
+
+        var vertex = vertices.get(node);
+        if (vertex == null)
+            throw new IllegalStateException("The graph does not contain the provided node");
+        return vertex;
+    }
+}
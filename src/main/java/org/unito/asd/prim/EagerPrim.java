@@ -0,0 +1,114 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Implements the eager variant of Prim's algorithm.
+ * Every node outside the tree keeps a single queue entry with the cheapest edge
+ * linking it to the tree, lowered in place when a cheaper one is found, so the
+ * queue never holds more than V entries and the running time is O(E log V).
+ * {@link OffHeapGraph}s are visited in place; any other graph is first copied into
+ * a compact array snapshot.
+ */
+public final class EagerPrim implements MsfSolver {
+    private static final int NO_PARENT = -1;
+
+    /**
+     * Computes the minimum spanning forest for a given graph.
+     *
+     * @param graph the graph to compute the minimum spanning forest for
+     * @param <V>   the type of vertices in the graph
+     * @param <L>   the type of the edge label (weight), must extend Number
+     * @return a collection of edges representing the minimum spanning forest
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    @Contract(pure = true)
+    public <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(@NotNull AbstractGraph<V, L> graph) {
+        // The type parameters of an off-heap graph are fixed, so the cast only restates them.
+        if (graph instanceof OffHeapGraph offHeapGraph)
+            return (Collection<? extends AbstractEdge<V, L>>) (Collection<?>) minimumSpanningForest(offHeapGraph);
+
+        return minimumSpanningForest(CsrGraph.of(graph));
+    }
+
+    /**
+     * Computes the minimum spanning forest of a snapshot.
+     *
+     * @param csr the snapshot of the graph
+     * @param <V> the type of vertices in the graph
+     * @param <L> the type of the edge label (weight), must extend Number
+     * @return a collection of edges representing the minimum spanning forest
+     */
+    static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(CsrGraph<V, L> csr) {
+        var numNodes = csr.numNodes();
+        var visited = new boolean[numNodes];
+        var parentArcs = new int[numNodes];
+        var heap = new IndexedMinHeap(numNodes);
+        var msf = new ArrayList<AbstractEdge<V, L>>();
+
+        for (var root = 0; root < numNodes; root++) {
+            if (visited[root])
+                continue;
+
+            parentArcs[root] = NO_PARENT;
+            heap.pushOrDecrease(root, 0);
+
+            while (!heap.isEmpty()) {
+                var node = heap.pop();
+                visited[node] = true;
+
+                if (parentArcs[node] != NO_PARENT)
+                    msf.add(csr.edge(parentArcs[node]));
+
+                // Relax every arc towards an unvisited node, keeping the lightest one seen so far.
+                for (var arc = csr.firstArc(node); arc < csr.endArc(node); arc++) {
+                    var end = csr.target(arc);
+                    if (!visited[end] && heap.pushOrDecrease(end, csr.weight(arc)))
+                        parentArcs[end] = arc;
+                }
+            }
+        }
+
+        PrimMetrics.get().recordQueueSize(heap.peakSize());
+        return msf;
+    }
+
+    private static Collection<? extends AbstractEdge<Integer, Double>> minimumSpanningForest(OffHeapGraph graph) {
+        var capacity = graph.capacity();
+        var visited = new boolean[capacity];
+        var parents = new int[capacity];
+        var heap = new IndexedMinHeap(capacity);
+        var msf = new ArrayList<AbstractEdge<Integer, Double>>();
+
+        for (var root = 0; root < capacity; root++) {
+            if (visited[root] || !graph.containsNode(root))
+                continue;
+
+            parents[root] = NO_PARENT;
+            heap.pushOrDecrease(root, 0);
+
+            while (!heap.isEmpty()) {
+                var weight = heap.minKey();
+                var node = heap.pop();
+                visited[node] = true;
+
+                if (parents[node] != NO_PARENT)
+                    msf.add(new Edge<>(parents[node], node, weight));
+
+                for (var arc = graph.firstArc(node); arc != OffHeapGraph.NO_ARC; arc = graph.arcNext(arc)) {
+                    var end = graph.arcEnd(arc);
+                    if (!visited[end] && heap.pushOrDecrease(end, graph.arcWeight(arc)))
+                        parents[end] = node;
+                }
+            }
+        }
+
+        PrimMetrics.get().recordQueueSize(heap.peakSize());
+        return msf;
+    }
+}
@@ -46,7 +46,8 @@ public final class Edge<V, L> implements AbstractEdge<V, L> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(start, end); // Ignore label.
+        // Same value as Objects.hash(start, end), without allocating the varargs array. Ignore label.
+        return 31 * (31 + Objects.hashCode(start)) + Objects.hashCode(end);
     }
 
     @Override
@@ -0,0 +1,162 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps the minimum spanning forest of an append-only edge log up to date.
+ * The log is a file where each line describes an edge in the format
+ * "node1,node2,weight". The watcher remembers the byte offset right after the
+ * last complete line it has read, and every {@link #refresh()} reads only the
+ * lines appended since then, adds their edges to an in-memory {@link Graph} and
+ * lets a {@link DynamicMsf} insert them into the forest: an edge between two trees
+ * links them, and an edge closing a cycle only needs the heaviest edge of that
+ * cycle, so the cost of a refresh is proportional to the number of new edges. A
+ * line still being written, with no trailing newline yet, is left for the next
+ * refresh.
+ * As in {@link Prim}, an edge between two nodes that are already linked by an edge
+ * is ignored.
+ */
+public final class EdgeLogWatcher implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path file;
+    private final Graph<String, Double> graph = new Graph<>(false, true, true);
+    private final ByteArrayOutputStream pendingLine = new ByteArrayOutputStream();
+    private DynamicMsf<String, Double> msf;
+    private long offset;
+
+    /**
+     * Constructs a new {@link EdgeLogWatcher} of the given file, which has read no
+     * line yet.
+     *
+     * @param file The path of the edge log.
+     */
+    public EdgeLogWatcher(@NotNull Path file) {
+        this.file = Objects.requireNonNull(file);
+    }
+
+    /**
+     * Reads the lines appended to the log since the last refresh and applies their
+     * edges to the graph and to the forest.
+     * The first refresh loads the whole log, and computes the forest at once.
+     *
+     * @return The number of edges added to the graph.
+     * @throws IOException                    If an I/O error occurs while reading the
+     *                                        log, or if the log is shorter than the
+     *                                        part of it already read.
+     * @throws NumberFormatException          If a weight is not a number.
+     * @throws ArrayIndexOutOfBoundsException If a line has less than three fields.
+     * @implNote This operation has time complexity O(K log N) for K new edges,
+     * except for the first refresh.
+     */
+    @Contract(mutates = "this")
+    public int refresh() throws IOException {
+        var added = 0;
+        var start = System.nanoTime();
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < offset)
+                throw new IOException("The edge log is shorter than the part of it already read");
+
+            channel.position(offset);
+            var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            var read = offset;
+
+            // Split the new bytes into lines, moving the offset past each complete one only.
+            int length;
+            while ((length = channel.read(buffer)) > 0) {
+                var bytes = buffer.array();
+                var lineStart = 0;
+                for (var i = 0; i < length; i++) {
+                    if (bytes[i] != '\n')
+                        continue;
+
+                    pendingLine.write(bytes, lineStart, i - lineStart);
+                    var line = pendingLine.toString(StandardCharsets.UTF_8).strip();
+                    pendingLine.reset();
+                    if (!line.isEmpty() && addRecord(line))
+                        added++;
+
+                    lineStart = i + 1;
+                    offset = read + lineStart;
+                }
+
+                pendingLine.write(bytes, lineStart, length - lineStart);
+                read += length;
+                buffer.clear();
+            }
+        } finally {
+            // The partial last line is read again next time, once it is complete.
+            pendingLine.reset();
+        }
+
+        if (msf == null)
+            msf = new DynamicMsf<>(graph);
+        PrimMetrics.get().recordLoad(added, System.nanoTime() - start);
+        return added;
+    }
+
+    /**
+     * Gets the byte offset in the log right after the last complete line read.
+     *
+     * @return The offset.
+     */
+    @Contract(pure = true)
+    public long offset() {
+        return offset;
+    }
+
+    /**
+     * Gets the graph of the edges read so far.
+     * The graph shall not be modified directly if the forest is to stay in sync
+     * with the log only.
+     *
+     * @return The graph.
+     */
+    @Contract(pure = true)
+    public @NotNull Graph<String, Double> getGraph() {
+        return graph;
+    }
+
+    /**
+     * Gets the edges of the minimum spanning forest of the edges read so far.
+     *
+     * @return The edges of the minimum spanning forest, empty before the first
+     * refresh.
+     */
+    @Contract(pure = true)
+    public @NotNull @Unmodifiable Collection<? extends AbstractEdge<String, Double>> getForest() {
+        return msf == null ? List.of() : msf.getForest();
+    }
+
+    /**
+     * Stops following the changes of the graph.
+     */
+    @Override
+    public void close() {
+        if (msf != null)
+            msf.close();
+    }
+
+    private boolean addRecord(String line) {
+        var fmtLine = line.split(",");
+        var weight = Double.parseDouble(fmtLine[2]);  // distance, parsed first so that a bad line changes nothing
+
+        graph.addNode(fmtLine[0]);  // from
+        graph.addNode(fmtLine[1]);  // to
+        return graph.addEdge(fmtLine[0], fmtLine[1], weight);
+    }
+}
@@ -0,0 +1,423 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Computes the minimum spanning tree of a set of points, where every pair of points
+ * is implicitly linked by an edge weighted by their distance.
+ * The complete graph is never built: the points are indexed by a k-d tree and the
+ * tree is computed by the dual-tree Boruvka algorithm (March, Ram and Gray, 2010),
+ * which finds the nearest neighbour of every component in each round while pruning
+ * pairs of tree nodes that are too far apart or entirely within one component. The
+ * expected running time is about O(N log N).
+ */
+public final class EuclideanMst {
+    /**
+     * The distance used to weight the edges between points.
+     */
+    public enum Metric {
+        /**
+         * The straight-line distance between points with any number of
+         * coordinates.
+         */
+        EUCLIDEAN,
+
+        /**
+         * The great-circle distance, in kilometres, between points given as
+         * {@code {latitude, longitude}} in degrees.
+         */
+        HAVERSINE
+    }
+
+    /**
+     * The mean radius of the Earth, in kilometres.
+     */
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final int LEAF_SIZE = 8;
+    private static final int NONE = -1;
+
+    private final int dimensions;
+    private final double[] coordinates;
+    private final int[] points;
+    private int[] begins;
+    private int[] ends;
+    private int[] lefts;
+    private int[] rights;
+    private double[] boxes;
+    private int numTreeNodes;
+
+    private final DisjointSet components;
+    private final int[] pointComponents;
+    private int[] nodeComponents;
+    private double[] bounds;
+    private final double[] bestDistances;
+    private final int[] bestFrom;
+    private final int[] bestTo;
+
+    private EuclideanMst(double[] coordinates, int dimensions) {
+        var numPoints = coordinates.length / dimensions;
+
+        this.dimensions = dimensions;
+        this.coordinates = coordinates;
+        this.points = new int[numPoints];
+        this.components = new DisjointSet(numPoints);
+        this.pointComponents = new int[numPoints];
+        this.bestDistances = new double[numPoints];
+        this.bestFrom = new int[numPoints];
+        this.bestTo = new int[numPoints];
+
+        for (int i = 0; i < numPoints; i++) {
+            points[i] = i;
+            pointComponents[i] = i;
+        }
+    }
+
+    /**
+     * Computes the minimum spanning tree of the given points.
+     * Every point shall have the same number of coordinates; with
+     * {@link Metric#HAVERSINE} every point shall be {@code {latitude, longitude}} in
+     * degrees.
+     *
+     * @param nodes  the nodes the points stand for, in the same order as the points
+     * @param points the coordinates of the points
+     * @param metric the distance between points
+     * @param <V>    the type of the nodes
+     * @return a collection of edges representing the minimum spanning tree,
+     * weighted by the distance between their end points
+     * @throws IllegalArgumentException if the nodes and the points do not match, or
+     *                                  if the points have inconsistent coordinates
+     */
+    @Contract(pure = true)
+    public static <V> Collection<? extends AbstractEdge<V, Double>> minimumSpanningTree(@NotNull List<V> nodes,
+                                                                                      double @NotNull [] @NotNull [] points,
+                                                                                      @NotNull Metric metric) {
+        Objects.requireNonNull(nodes);
+        Objects.requireNonNull(points);
+        Objects.requireNonNull(metric);
+
+        if (nodes.size() != points.length)
+            throw new IllegalArgumentException("Every node must have exactly one point");
+
+        var msf = new ArrayList<AbstractEdge<V, Double>>();
+        if (points.length < 2)
+            return msf;
+
+        var engine = switch (metric) {
+            case EUCLIDEAN -> new EuclideanMst(flatten(points), points[0].length);
+            case HAVERSINE -> new EuclideanMst(toUnitVectors(points), 3);
+        };
+
+        for (var edge : engine.solve()) {
+            var distance = Math.sqrt(edge.squaredDistance());
+            if (metric == Metric.HAVERSINE) // Turn the chord of the unit sphere into the arc over the Earth.
+                distance = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, distance / 2));
+
+            msf.add(new Edge<>(nodes.get(edge.from()), nodes.get(edge.to()), distance));
+        }
+
+        return msf;
+    }
+
+    /**
+     * Reads a set of sites from the given file and computes the minimum spanning
+     * tree of their great-circle distances, in kilometres.
+     * Each line in the file should describe a site in the format:
+     * "name,latitude,longitude".
+     *
+     * @param inputFile the BufferedReader for the input file
+     * @return a collection of edges representing the minimum spanning tree
+     * @throws IOException if an I/O error occurs while reading the file
+     */
+    public static Collection<? extends AbstractEdge<String, Double>> minimumSpanningTree(@NotNull BufferedReader inputFile) throws IOException {
+        var names = new ArrayList<String>();
+        var points = new ArrayList<double[]>();
+
+        String line;
+        while ((line = inputFile.readLine()) != null) {
+            var fmtLine = line.split(",");
+
+            names.add(fmtLine[0]);  // name
+            points.add(new double[]{Double.parseDouble(fmtLine[1]), Double.parseDouble(fmtLine[2])});  // latitude, longitude
+        }
+
+        return minimumSpanningTree(names, points.toArray(new double[0][]), Metric.HAVERSINE);
+    }
+
+    private static double[] flatten(double[][] points) {
+        var dimensions = points[0].length;
+        if (dimensions == 0)
+            throw new IllegalArgumentException("Points must have at least one coordinate");
+
+        var coordinates = new double[points.length * dimensions];
+        for (int i = 0; i < points.length; i++) {
+            if (points[i].length != dimensions)
+                throw new IllegalArgumentException("All the points must have the same number of coordinates");
+            System.arraycopy(points[i], 0, coordinates, i * dimensions, dimensions);
+        }
+        return coordinates;
+    }
+
+    // The chord between two unit vectors grows with their great-circle distance, so both give the same tree.
+    private static double[] toUnitVectors(double[][] points) {
+        var coordinates = new double[points.length * 3];
+        for (int i = 0; i < points.length; i++) {
+            if (points[i].length != 2)
+                throw new IllegalArgumentException("Geographic points must be {latitude, longitude}");
+
+            var latitude = Math.toRadians(points[i][0]);
+            var longitude = Math.toRadians(points[i][1]);
+            coordinates[3 * i] = Math.cos(latitude) * Math.cos(longitude);
+            coordinates[3 * i + 1] = Math.cos(latitude) * Math.sin(longitude);
+            coordinates[3 * i + 2] = Math.sin(latitude);
+        }
+        return coordinates;
+    }
+
+    private record TreeEdge(int from, int to, double squaredDistance) {
+    }
+
+    private List<TreeEdge> solve() {
+        buildTree();
+
+        var numPoints = points.length;
+        var edges = new ArrayList<TreeEdge>(numPoints - 1);
+
+        while (edges.size() < numPoints - 1) {
+            Arrays.fill(bestDistances, Double.POSITIVE_INFINITY);
+            Arrays.fill(bestFrom, NONE);
+            Arrays.fill(bestTo, NONE);
+            Arrays.fill(bounds, Double.POSITIVE_INFINITY);
+
+            findComponentNeighbours(0, 0);
+
+            var merged = false;
+            for (int component = 0; component < numPoints; component++) {
+                if (bestFrom[component] == NONE || !components.union(bestFrom[component], bestTo[component]))
+                    continue;
+
+                edges.add(new TreeEdge(bestFrom[component], bestTo[component], bestDistances[component]));
+                merged = true;
+            }
+
+            if (!merged)
+                break;
+
+            for (int i = 0; i < numPoints; i++)
+                pointComponents[i] = components.find(i);
+            updateNodeComponents(0);
+        }
+
+        return edges;
+    }
+
+    private void findComponentNeighbours(int query, int reference) {
+        if (nodeComponents[query] != NONE && nodeComponents[query] == nodeComponents[reference])
+            return;
+        if (boxDistance(query, reference) > bounds[query])
+            return;
+
+        var queryLeaf = lefts[query] == NONE;
+        var referenceLeaf = lefts[reference] == NONE;
+
+        if (queryLeaf && referenceLeaf) {
+            compareLeaves(query, reference);
+            return;
+        }
+
+        if (queryLeaf) {
+            visitClosestFirst(query, lefts[reference], rights[reference]);
+            return;
+        }
+
+        if (referenceLeaf) {
+            findComponentNeighbours(lefts[query], reference);
+            findComponentNeighbours(rights[query], reference);
+        } else {
+            visitClosestFirst(lefts[query], lefts[reference], rights[reference]);
+            visitClosestFirst(rights[query], lefts[reference], rights[reference]);
+        }
+
+        bounds[query] = Math.max(bounds[lefts[query]], bounds[rights[query]]);
+    }
+
+    private void visitClosestFirst(int query, int first, int second) {
+        if (boxDistance(query, second) < boxDistance(query, first)) {
+            var tmp = first;
+            first = second;
+            second = tmp;
+        }
+
+        findComponentNeighbours(query, first);
+        findComponentNeighbours(query, second);
+    }
+
+    private void compareLeaves(int query, int reference) {
+        var bound = 0.0;
+
+        for (int i = begins[query]; i < ends[query]; i++) {
+            var from = points[i];
+            var component = pointComponents[from];
+
+            for (int j = begins[reference]; j < ends[reference]; j++) {
+                var to = points[j];
+                if (pointComponents[to] == component)
+                    continue;
+
+                var distance = pointDistance(from, to);
+                if (isLighter(distance, from, to, component)) {
+                    bestDistances[component] = distance;
+                    bestFrom[component] = from;
+                    bestTo[component] = to;
+                }
+            }
+
+            bound = Math.max(bound, bestDistances[component]);
+        }
+
+        bounds[query] = bound;
+    }
+
+    // Ties are broken on the end points, so that every component agrees on the same order and no cycle is formed.
+    private boolean isLighter(double distance, int from, int to, int component) {
+        if (distance != bestDistances[component])
+            return distance < bestDistances[component];
+        if (bestFrom[component] == NONE)
+            return true;
+
+        var low = Math.min(from, to);
+        var high = Math.max(from, to);
+        var bestLow = Math.min(bestFrom[component], bestTo[component]);
+        var bestHigh = Math.max(bestFrom[component], bestTo[component]);
+        return low < bestLow || (low == bestLow && high < bestHigh);
+    }
+
+    private int updateNodeComponents(int node) {
+        int component;
+
+        if (lefts[node] == NONE) {
+            component = pointComponents[points[begins[node]]];
+            for (int i = begins[node] + 1; i < ends[node] && component != NONE; i++) {
+                if (pointComponents[points[i]] != component)
+                    component = NONE;
+            }
+        } else {
+            var left = updateNodeComponents(lefts[node]);
+            var right = updateNodeComponents(rights[node]);
+            component = left == right ? left : NONE;
+        }
+
+        nodeComponents[node] = component;
+        return component;
+    }
+
+    private double pointDistance(int first, int second) {
+        var distance = 0.0;
+        for (int d = 0; d < dimensions; d++) {
+            var delta = coordinates[first * dimensions + d] - coordinates[second * dimensions + d];
+            distance += delta * delta;
+        }
+        return distance;
+    }
+
+    private double boxDistance(int first, int second) {
+        var distance = 0.0;
+        for (int d = 0; d < dimensions; d++) {
+            var firstBase = first * 2 * dimensions;
+            var secondBase = second * 2 * dimensions;
+            var gap = Math.max(boxes[firstBase + d] - boxes[secondBase + dimensions + d],
+                    boxes[secondBase + d] - boxes[firstBase + dimensions + d]);
+            if (gap > 0)
+                distance += gap * gap;
+        }
+        return distance;
+    }
+
+    private void buildTree() {
+        // A tree with leaves of at least LEAF_SIZE / 2 points has fewer than 4N / LEAF_SIZE nodes.
+        var capacity = Math.max(1, 4 * points.length / LEAF_SIZE + 1);
+        begins = new int[capacity];
+        ends = new int[capacity];
+        lefts = new int[capacity];
+        rights = new int[capacity];
+        boxes = new double[capacity * 2 * dimensions];
+        numTreeNodes = 0;
+
+        buildNode(0, points.length);
+
+        nodeComponents = new int[numTreeNodes];
+        bounds = new double[numTreeNodes];
+        updateNodeComponents(0);
+    }
+
+    private int buildNode(int begin, int end) {
+        var node = numTreeNodes++;
+        begins[node] = begin;
+        ends[node] = end;
+        lefts[node] = NONE;
+        rights[node] = NONE;
+
+        var base = node * 2 * dimensions;
+        for (int d = 0; d < dimensions; d++) {
+            boxes[base + d] = Double.POSITIVE_INFINITY;
+            boxes[base + dimensions + d] = Double.NEGATIVE_INFINITY;
+        }
+        for (int i = begin; i < end; i++) {
+            for (int d = 0; d < dimensions; d++) {
+                var value = coordinates[points[i] * dimensions + d];
+                boxes[base + d] = Math.min(boxes[base + d], value);
+                boxes[base + dimensions + d] = Math.max(boxes[base + dimensions + d], value);
+            }
+        }
+
+        if (end - begin <= LEAF_SIZE)
+            return node;
+
+        // Split along the widest side of the box, at the median point.
+        var axis = 0;
+        for (int d = 1; d < dimensions; d++) {
+            if (boxes[base + dimensions + d] - boxes[base + d] > boxes[base + dimensions + axis] - boxes[base + axis])
+                axis = d;
+        }
+
+        var middle = (begin + end) >>> 1;
+        select(begin, end - 1, middle, axis);
+
+        lefts[node] = buildNode(begin, middle);
+        rights[node] = buildNode(middle, end);
+        return node;
+    }
+
+    // Partially sorts points[low..high] so that the k-th point along the axis is in place (Hoare's selection).
+    private void select(int low, int high, int k, int axis) {
+        while (low < high) {
+            var pivot = coordinates[points[(low + high) >>> 1] * dimensions + axis];
+            var i = low;
+            var j = high;
+
+            while (i <= j) {
+                while (coordinates[points[i] * dimensions + axis] < pivot)
+                    i++;
+                while (coordinates[points[j] * dimensions + axis] > pivot)
+                    j--;
+                if (i <= j) {
+                    var tmp = points[i];
+                    points[i++] = points[j];
+                    points[j--] = tmp;
+                }
+            }
+
+            if (k <= j)
+                high = j;
+            else if (k >= i)
+                low = i;
+            else
+                return;
+        }
+    }
+}
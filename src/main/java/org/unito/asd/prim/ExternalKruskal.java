@@ -0,0 +1,263 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Computes the minimum spanning forest of an edge list that does not fit in memory,
+ * using Kruskal's algorithm over an external merge sort.
+ * The edges are read in runs of bounded size, every run is sorted by weight and
+ * spilled to a temporary file, and the runs are then merged into a single sorted
+ * stream that is fed to a {@link DisjointSet}. Besides the current run, only the
+ * node names and the disjoint set are kept in memory, both proportional to the
+ * number of nodes.
+ */
+public final class ExternalKruskal {
+    /**
+     * The default number of edges sorted in memory at once.
+     */
+    public static final int DEFAULT_RUN_SIZE = 1 << 20;
+
+    /**
+     * The default maximum number of runs merged at once.
+     */
+    public static final int DEFAULT_FAN_IN = 64;
+
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+
+    private final int runSize;
+    private final int fanIn;
+    private final Path temporaryDirectory;
+
+    /**
+     * Constructs a new {@link ExternalKruskal} with the default run size and fan-in,
+     * spilling to the default temporary directory.
+     */
+    public ExternalKruskal() {
+        this(DEFAULT_RUN_SIZE, DEFAULT_FAN_IN, null);
+    }
+
+    /**
+     * Constructs a new {@link ExternalKruskal}.
+     *
+     * @param runSize            The number of edges sorted in memory at once. It
+     *                           shall be positive.
+     * @param fanIn              The maximum number of runs merged at once. It shall
+     *                           be at least 2.
+     * @param temporaryDirectory The directory the runs are spilled to, or
+     *                           {@code null} to use the default temporary directory.
+     * @throws IllegalArgumentException If the run size or the fan-in are out of
+     *                                  range.
+     */
+    public ExternalKruskal(int runSize, int fanIn, Path temporaryDirectory) {
+        if (runSize <= 0)
+            throw new IllegalArgumentException("The run size must be positive");
+        if (fanIn < 2)
+            throw new IllegalArgumentException("The fan-in must be at least 2");
+
+        this.runSize = runSize;
+        this.fanIn = fanIn;
+        this.temporaryDirectory = temporaryDirectory;
+    }
+
+    /**
+     * Computes the minimum spanning forest of the undirected graph described by the
+     * given input, passing every edge of the forest to {@code output} as soon as it
+     * is found, in non-decreasing order of weight.
+     * Each line of the input should describe an edge in the format
+     * "node1,node2,weight".
+     *
+     * @param input  the reader of the edge list
+     * @param output the consumer of the edges of the minimum spanning forest
+     * @throws IOException if an I/O error occurs while reading the input or while
+     *                     spilling the runs
+     */
+    @Contract(mutates = "param2")
+    public void minimumSpanningForest(@NotNull BufferedReader input,
+                                      @NotNull Consumer<? super AbstractEdge<String, Double>> output) throws IOException {
+        Objects.requireNonNull(input);
+        Objects.requireNonNull(output);
+
+        var nodeIds = new HashMap<String, Integer>();
+        var nodeNames = new ArrayList<String>();
+        var runs = new ArrayList<Path>();
+        var merged = new ArrayList<Path>();
+
+        try {
+            spillRuns(input, nodeIds, nodeNames, runs);
+
+            // Keep merging groups of runs until a single pass over them can be streamed.
+            while (runs.size() > fanIn) {
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    var group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                    // Track the new run before writing it, so that a failed pass deletes it too.
+                    var run = createRunFile();
+                    merged.add(run);
+
+                    try (var out = openRun(run)) {
+                        merge(group, (start, end, weight) -> {
+                            out.writeInt(start);
+                            out.writeInt(end);
+                            out.writeDouble(weight);
+                        });
+                    }
+                    deleteAll(group);
+                }
+
+                var done = runs;
+                runs = merged;
+                merged = done;
+                merged.clear();
+            }
+
+            var disjointSet = new DisjointSet(nodeNames.size());
+            merge(runs, (start, end, weight) -> {
+                if (disjointSet.union(start, end))
+                    output.accept(new Edge<>(nodeNames.get(start), nodeNames.get(end), weight));
+            });
+        } finally {
+            try {
+                deleteAll(runs);
+            } finally {
+                deleteAll(merged);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordSink {
+        void accept(int start, int end, double weight) throws IOException;
+    }
+
+    private static final class RunCursor {
+        private final DataInputStream input;
+        private long remaining;
+        private int start;
+        private int end;
+        private double weight;
+
+        private RunCursor(DataInputStream input, long records) {
+            this.input = input;
+            this.remaining = records;
+        }
+
+        private boolean advance() throws IOException {
+            if (remaining == 0)
+                return false;
+
+            start = input.readInt();
+            end = input.readInt();
+            weight = input.readDouble();
+            remaining--;
+            return true;
+        }
+    }
+
+    private void spillRuns(BufferedReader input, Map<String, Integer> nodeIds, List<String> nodeNames,
+                           List<Path> runs) throws IOException {
+        var starts = new int[runSize];
+        var ends = new int[runSize];
+        var weights = new double[runSize];
+        var order = new int[runSize];
+        var count = 0;
+
+        String line;
+        while ((line = input.readLine()) != null) {
+            var fmtLine = line.split(",");
+
+            starts[count] = nodeId(fmtLine[0], nodeIds, nodeNames);  // from
+            ends[count] = nodeId(fmtLine[1], nodeIds, nodeNames);  // to
+            weights[count] = Double.parseDouble(fmtLine[2]);  // distance
+
+            if (++count == runSize) {
+                writeRun(starts, ends, weights, order, count, runs);
+                count = 0;
+            }
+        }
+
+        if (count > 0)
+            writeRun(starts, ends, weights, order, count, runs);
+    }
+
+    private static int nodeId(String name, Map<String, Integer> nodeIds, List<String> nodeNames) {
+        var id = nodeIds.get(name);
+        if (id == null) {
+            id = nodeNames.size();
+            nodeIds.put(name, id);
+            nodeNames.add(name);
+        }
+        return id;
+    }
+
+    private void writeRun(int[] starts, int[] ends, double[] weights, int[] order, int count,
+                          List<Path> runs) throws IOException {
+        for (int i = 0; i < count; i++)
+            order[i] = i;
+        Sorting.radixSort(weights, order, 0, count);
+
+        var run = createRunFile();
+        runs.add(run);
+        try (var out = openRun(run)) {
+            for (int i = 0; i < count; i++) {
+                out.writeInt(starts[order[i]]);
+                out.writeInt(ends[order[i]]);
+                out.writeDouble(weights[i]);
+            }
+        }
+    }
+
+    private static void merge(List<Path> runs, RecordSink sink) throws IOException {
+        var inputs = new ArrayList<DataInputStream>();
+
+        try {
+            var cursors = new ArrayList<RunCursor>(runs.size());
+            for (var run : runs) {
+                var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), IO_BUFFER_SIZE));
+                inputs.add(in);
+
+                var cursor = new RunCursor(in, Files.size(run) / (2 * Integer.BYTES + Double.BYTES));
+                if (cursor.advance())
+                    cursors.add(cursor);
+            }
+            var queue = new PriorityQueue<RunCursor>(Comparator.comparingDouble(cursor -> cursor.weight), false, cursors);
+
+            // Always emit the lightest head among the runs, then refill from the same run.
+            while (!queue.empty()) {
+                var cursor = queue.top();
+                queue.pop();
+
+                //noinspection DataFlowIssue
+                sink.accept(cursor.start, cursor.end, cursor.weight);
+
+                if (cursor.advance())
+                    queue.push(cursor);
+            }
+        } finally {
+            for (var in : inputs)
+                in.close();
+        }
+    }
+
+    private Path createRunFile() throws IOException {
+        var run = temporaryDirectory == null
+                ? Files.createTempFile("prim-run", ".bin")
+                : Files.createTempFile(temporaryDirectory, "prim-run", ".bin");
+        run.toFile().deleteOnExit();
+        return run;
+    }
+
+    private static DataOutputStream openRun(Path run) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), IO_BUFFER_SIZE));
+    }
+
+    private static void deleteAll(List<Path> runs) throws IOException {
+        for (var run : runs)
+            Files.deleteIfExists(run);
+    }
+}
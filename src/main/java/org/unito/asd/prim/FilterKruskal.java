@@ -0,0 +1,189 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Implements the Filter-Kruskal algorithm.
+ * The edges are partitioned around a pivot weight and the light side is solved
+ * first; the heavy edges whose endpoints are already connected by then are
+ * filtered out before the heavy side is solved in turn. On dense graphs most edges
+ * are discarded by a filter instead of being sorted, and the recursion stops as
+ * soon as the forest spans every node. The partition and filter passes of large
+ * ranges are split among the cores of the common fork/join pool.
+ * Only undirected graphs are supported.
+ */
+public final class FilterKruskal implements MsfSolver {
+    private static final int BASE_CASE_EDGES = 1 << 12;
+    private static final int PARALLEL_THRESHOLD = 1 << 15;
+    private static final int BLOCK_SIZE = 1 << 13;
+
+    private final boolean parallel;
+
+    /**
+     * Constructs a new {@link FilterKruskal} solver that partitions and filters in
+     * parallel.
+     */
+    public FilterKruskal() {
+        this(true);
+    }
+
+    /**
+     * Constructs a new {@link FilterKruskal} solver.
+     *
+     * @param parallel {@code true} to partition and filter on the common fork/join
+     *                 pool, {@code false} to do it on the calling thread.
+     */
+    public FilterKruskal(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Computes the minimum spanning forest for a given undirected graph.
+     *
+     * @param graph the graph to compute the minimum spanning forest for
+     * @param <V>   the type of vertices in the graph
+     * @param <L>   the type of the edge label (weight), must extend Number
+     * @return a collection of edges representing the minimum spanning forest
+     * @throws IllegalArgumentException if the graph is directed
+     */
+    @Override
+    @Contract(pure = true)
+    public <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(@NotNull AbstractGraph<V, L> graph) {
+        if (graph.isDirected())
+            throw new IllegalArgumentException("Filter-Kruskal requires an undirected graph");
+
+        var run = new Run<>(CsrGraph.of(graph), parallel);
+        run.solve(0, run.arcs.length);
+        return run.msf;
+    }
+
+    // The state of one computation: the arcs still to be examined, and the forest built so far.
+    private static final class Run<V, L extends Number> {
+        private final CsrGraph<V, L> csr;
+        private final boolean parallel;
+        private final int[] arcs;
+        private final double[] weights;
+        private final int[] arcBuffer;
+        private final double[] weightBuffer;
+        private final boolean[] kept;
+        private final DisjointSet disjointSet;
+        private final List<AbstractEdge<V, L>> msf = new ArrayList<>();
+        private final int maxEdges;
+
+        private Run(CsrGraph<V, L> csr, boolean parallel) {
+            this.csr = csr;
+            this.parallel = parallel;
+            this.arcs = csr.undirectedArcs();
+            this.weights = new double[arcs.length];
+            this.arcBuffer = new int[arcs.length];
+            this.weightBuffer = new double[arcs.length];
+            this.kept = new boolean[arcs.length];
+            this.disjointSet = new DisjointSet(csr.numNodes());
+            this.maxEdges = Math.max(csr.numNodes() - 1, 0);
+
+            for (var i = 0; i < arcs.length; i++)
+                weights[i] = csr.weight(arcs[i]);
+        }
+
+        private boolean done() {
+            return msf.size() == maxEdges;
+        }
+
+        private void solve(int from, int to) {
+            // The heavy side is handled by the loop rather than by recursion, so the stack only grows with the light side.
+            while (to - from > BASE_CASE_EDGES && !done()) {
+                var pivot = pivot(from, to);
+                var split = from + partition(from, to, i -> weights[i] <= pivot);
+
+                // Every weight is at most the pivot: the range has too many duplicates to be split further.
+                if (split == to)
+                    break;
+
+                solve(from, split);
+                if (done())
+                    return;
+
+                from = split;
+                to = split + partition(split, to, i -> disjointSet.root(csr.source(arcs[i])) != disjointSet.root(csr.target(arcs[i])));
+            }
+
+            if (!done())
+                kruskal(from, to);
+        }
+
+        private void kruskal(int from, int to) {
+            Sorting.radixSort(weights, arcs, from, to);
+
+            for (var i = from; i < to && !done(); i++) {
+                if (disjointSet.union(csr.source(arcs[i]), csr.target(arcs[i])))
+                    msf.add(csr.edge(arcs[i]));
+            }
+        }
+
+        private double pivot(int from, int to) {
+            var first = weights[from];
+            var middle = weights[(from + to) >>> 1];
+            var last = weights[to - 1];
+            return Math.max(Math.min(first, middle), Math.min(Math.max(first, middle), last));
+        }
+
+        // Moves the arcs of [from, to) satisfying the predicate to the front of the range, keeping the relative order
+        // of both groups, and returns how many there are.
+        private int partition(int from, int to, IntPredicate predicate) {
+            var numBlocks = (to - from + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            var counts = new int[numBlocks];
+
+            blocks(numBlocks, to - from).forEach(block -> {
+                var count = 0;
+                for (var i = from + block * BLOCK_SIZE; i < Math.min(from + (block + 1) * BLOCK_SIZE, to); i++) {
+                    kept[i] = predicate.test(i);
+                    if (kept[i])
+                        count++;
+                }
+                counts[block] = count;
+            });
+
+            var numKept = 0;
+            for (var count : counts)
+                numKept += count;
+
+            // Turn the counts into the offsets where every block writes its two groups.
+            var keptOffsets = new int[numBlocks];
+            var droppedOffsets = new int[numBlocks];
+            var keptOffset = 0;
+            var droppedOffset = numKept;
+            for (var block = 0; block < numBlocks; block++) {
+                keptOffsets[block] = keptOffset;
+                droppedOffsets[block] = droppedOffset;
+                keptOffset += counts[block];
+                droppedOffset += Math.min(BLOCK_SIZE, to - from - block * BLOCK_SIZE) - counts[block];
+            }
+
+            blocks(numBlocks, to - from).forEach(block -> {
+                var keptPosition = from + keptOffsets[block];
+                var droppedPosition = from + droppedOffsets[block];
+                for (var i = from + block * BLOCK_SIZE; i < Math.min(from + (block + 1) * BLOCK_SIZE, to); i++) {
+                    var position = kept[i] ? keptPosition++ : droppedPosition++;
+                    arcBuffer[position] = arcs[i];
+                    weightBuffer[position] = weights[i];
+                }
+            });
+
+            System.arraycopy(arcBuffer, from, arcs, from, to - from);
+            System.arraycopy(weightBuffer, from, weights, from, to - from);
+            return numKept;
+        }
+
+        private IntStream blocks(int numBlocks, int length) {
+            var blocks = IntStream.range(0, numBlocks);
+            return parallel && length >= PARALLEL_THRESHOLD ? blocks.parallel() : blocks;
+        }
+    }
+}
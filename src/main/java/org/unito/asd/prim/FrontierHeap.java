@@ -0,0 +1,225 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Represents a binary min-heap of node indices keyed by a {@code double},
+ * supporting decrease-key, that also keeps the arc through which every node was
+ * reached.
+ * Unlike {@link IndexedMinHeap}, whose arrays span all the nodes of the graph, it
+ * is sized to the items it holds: the position of every item is kept in an
+ * open-addressing hash table, and all the arrays grow with the frontier. It suits
+ * the many small searches of a worker that only ever sees a part of a large graph.
+ */
+final class FrontierHeap {
+    private static final int EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] heap = new int[INITIAL_CAPACITY];
+    private double[] keys = new double[INITIAL_CAPACITY];
+    private int[] arcs = new int[INITIAL_CAPACITY];
+    private int size;
+    private int peakSize;
+
+    // The positions of the items in the heap, by linear probing, at most half full.
+    private int[] slotItems;
+    private int[] slotPositions;
+    private int mask;
+
+    /**
+     * Constructs a new, empty {@link FrontierHeap}.
+     */
+    FrontierHeap() {
+        resizeTable(2 * INITIAL_CAPACITY);
+    }
+
+    @Contract(pure = true)
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Contract(pure = true)
+    int size() {
+        return size;
+    }
+
+    // The largest number of items held at once since the heap was constructed.
+    @Contract(pure = true)
+    int peakSize() {
+        return peakSize;
+    }
+
+    /**
+     * Removes all the items from the heap, keeping its arrays for the next search.
+     *
+     * @implNote This operation has linear time complexity O(N) in the number of
+     * items in the heap, not in its capacity.
+     */
+    @Contract(mutates = "this")
+    void clear() {
+        for (var position = 0; position < size; position++)
+            removeSlot(slotOf(heap[position]));
+        size = 0;
+    }
+
+    /**
+     * Gets the arc through which the item at the top of the heap was reached.
+     *
+     * @return The arc of the minimum key.
+     * @throws NoSuchElementException If the heap is empty.
+     */
+    @Contract(pure = true)
+    int minArc() {
+        if (size == 0)
+            throw new NoSuchElementException("The heap is empty");
+        return arcs[0];
+    }
+
+    /**
+     * Inserts an item, or lowers its key if it is already present with a greater
+     * one.
+     *
+     * @param item The item.
+     * @param key  The key of the item.
+     * @param arc  The arc through which the item is reached with this key.
+     * @return {@code true} if the heap changed, {@code false} otherwise.
+     * @implNote This operation has logarithmic time complexity O(log N), amortized
+     * over the growths of the arrays.
+     */
+    @Contract(mutates = "this")
+    boolean pushOrDecrease(int item, double key, int arc) {
+        var slot = slotOf(item);
+        int position;
+
+        if (slotItems[slot] == EMPTY) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, 2 * size);
+                keys = Arrays.copyOf(keys, 2 * size);
+                arcs = Arrays.copyOf(arcs, 2 * size);
+            }
+            position = size++;
+            peakSize = Math.max(peakSize, size);
+
+            if (2 * size > slotItems.length) {
+                resizeTable(2 * slotItems.length);
+                slot = slotOf(item);
+            }
+            slotItems[slot] = item;
+        } else {
+            position = slotPositions[slot];
+            if (Double.compare(key, keys[position]) >= 0)
+                return false;
+        }
+
+        siftUp(position, item, key, arc);
+        return true;
+    }
+
+    /**
+     * Removes the item at the top of the heap.
+     *
+     * @return The removed item.
+     * @throws NoSuchElementException If the heap is empty.
+     * @implNote This operation has logarithmic time complexity O(log N).
+     */
+    @Contract(mutates = "this")
+    int pop() {
+        if (size == 0)
+            throw new NoSuchElementException("The heap is empty");
+
+        var top = heap[0];
+        removeSlot(slotOf(top));
+
+        if (--size > 0)
+            siftDown(0, heap[size], keys[size], arcs[size]);
+
+        return top;
+    }
+
+    private void siftUp(int position, int item, double key, int arc) {
+        while (position > 0) {
+            var parent = (position - 1) >>> 1;
+            if (Double.compare(keys[parent], key) <= 0)
+                break;
+
+            place(position, heap[parent], keys[parent], arcs[parent]);
+            position = parent;
+        }
+
+        place(position, item, key, arc);
+    }
+
+    private void siftDown(int position, int item, double key, int arc) {
+        while (true) {
+            var child = 2 * position + 1;
+            if (child >= size)
+                break;
+            if (child + 1 < size && Double.compare(keys[child + 1], keys[child]) < 0)
+                child++;
+            if (Double.compare(keys[child], key) >= 0)
+                break;
+
+            place(position, heap[child], keys[child], arcs[child]);
+            position = child;
+        }
+
+        place(position, item, key, arc);
+    }
+
+    private void place(int position, int item, double key, int arc) {
+        heap[position] = item;
+        keys[position] = key;
+        arcs[position] = arc;
+        slotPositions[slotOf(item)] = position;
+    }
+
+    // The slot holding the item, or the empty slot where it would be inserted.
+    private int slotOf(int item) {
+        var slot = hash(item) & mask;
+        while (slotItems[slot] != EMPTY && slotItems[slot] != item)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    // Empties a slot, shifting back the items of the same probe sequence so that lookups never stop early.
+    private void removeSlot(int slot) {
+        slotItems[slot] = EMPTY;
+        for (var next = (slot + 1) & mask; slotItems[next] != EMPTY; next = (next + 1) & mask) {
+            var home = hash(slotItems[next]) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                slotItems[slot] = slotItems[next];
+                slotPositions[slot] = slotPositions[next];
+                slotItems[next] = EMPTY;
+                slot = next;
+            }
+        }
+    }
+
+    private void resizeTable(int capacity) {
+        var oldItems = slotItems;
+        var oldPositions = slotPositions;
+
+        slotItems = new int[capacity];
+        slotPositions = new int[capacity];
+        mask = capacity - 1;
+        Arrays.fill(slotItems, EMPTY);
+
+        if (oldItems == null)
+            return;
+        for (var slot = 0; slot < oldItems.length; slot++) {
+            if (oldItems[slot] != EMPTY) {
+                var newSlot = slotOf(oldItems[slot]);
+                slotItems[newSlot] = oldItems[slot];
+                slotPositions[newSlot] = oldPositions[slot];
+            }
+        }
+    }
+
+    private static int hash(int item) {
+        var h = item * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -6,6 +6,9 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a graph optimized for sparse data.
@@ -18,6 +21,8 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
     private final Map<V, Set<AbstractEdge<V, L>>> adjacencyMap;
     private final boolean directed;
     private final boolean labelled;
+    private final boolean sharedEdges;
+    private final List<GraphListener<V, L>> listeners;
     private int numEdges;
 
     /**
@@ -30,9 +35,34 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
      */
 
     public Graph(boolean directed, boolean labelled) {
+        this(directed, labelled, false);
+    }
+
+    /**
+     * Constructs a new {@link Graph} with the specified characteristics and edge
+     * storage.
+     * With shared edges, every undirected edge is stored as a single record that
+     * the adjacency sets of both its nodes refer to, instead of one record per
+     * direction: this halves the memory and the hashing spent on edges, and lets
+     * {@link #removeNode} unlink the edges of a node without scanning the whole
+     * graph. The storage is invisible through the methods of the graph, except that
+     * {@link #getEdges()} then builds the reverse direction of every edge on the
+     * fly, so {@link #getUndirectedEdges()} should be preferred.
+     *
+     * @param directed    {@code true} if the graph is directed, {@code false}
+     *                    otherwise.
+     * @param labelled    {@code true} if the graph is labelled, {@code false}
+     *                    otherwise.
+     * @param sharedEdges {@code true} to store every undirected edge once,
+     *                    {@code false} to store it once per direction. It is
+     *                    ignored if the graph is directed.
+     */
+    public Graph(boolean directed, boolean labelled, boolean sharedEdges) {
         this.adjacencyMap = new HashMap<>();
         this.directed = directed;
         this.labelled = labelled;
+        this.sharedEdges = sharedEdges && !directed;
+        this.listeners = new ArrayList<>();
         this.numEdges = 0;
     }
 
@@ -79,6 +109,10 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
             return false;
 
         adjacencyMap.put(node, new HashSet<>());
+
+        for (var listener : listeners)
+            listener.nodeAdded(node);
+
         return true;
     }
 
@@ -123,13 +157,15 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
 
         numEdges++;
 
-        // If it is not directed add the inverse edge
+        // If it is not directed add the inverse edge, or the same one when edges are shared
         if (!directed) {
-            edge = new Edge<>(end, start, label);
-            adjacencyMap.get(end).add(edge);
+            adjacencyMap.get(end).add(sharedEdges ? edge : new Edge<>(end, start, label));
             numEdges++;
         }
 
+        for (var listener : listeners)
+            listener.edgeAdded(start, end, label);
+
         return true;
     }
 
@@ -170,7 +206,7 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
         }
 
         for (var edge : adjacencyMap.get(start)) {
-            if (Objects.equals(end, edge.getEnd())) {
+            if (Objects.equals(end, neighbour(edge, start))) {
                 return true;
             }
         }
@@ -197,19 +233,46 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
         if (!containsNode(node))
             return false;
 
-        numEdges -= adjacencyMap.get(node).size();
-        adjacencyMap.remove(node);
+        var removed = adjacencyMap.remove(node);
+        numEdges -= removed.size();
+
+        // A shared edge is in the set of its other node too, so it can be unlinked from there directly.
+        if (sharedEdges) {
+            for (var edge : removed) {
+                var neighbour = neighbour(edge, node);
+                if (!Objects.equals(neighbour, node) && adjacencyMap.get(neighbour).remove(edge))
+                    numEdges--;
+            }
+
+            for (var listener : listeners) {
+                for (var edge : removed)
+                    listener.edgeRemoved(node, neighbour(edge, node), edge.getLabel());
+                listener.nodeRemoved(node);
+            }
+
+            return true;
+        }
 
         for (var edges : adjacencyMap.values()) {
             for (var edge : edges) { // -> O(1) when the graph is really sparse
                 if (Objects.equals(edge.getEnd(), node)) {
                     edges.remove(edge);
                     numEdges--;
+
+                    // The reverse arcs of an undirected graph are notified through the removed outgoing ones.
+                    if (directed && !listeners.isEmpty())
+                        removed.add(edge);
                     break;
                 }
             }
         }
 
+        for (var listener : listeners) {
+            for (var edge : removed)
+                listener.edgeRemoved(edge.getStart(), edge.getEnd(), edge.getLabel());
+            listener.nodeRemoved(node);
+        }
+
         return true;
     }
 
@@ -233,16 +296,23 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
         if (!containsEdge(start, end))
             return false;
 
+        L label = null;
         for (var edge : adjacencyMap.get(start)) {
-            if (Objects.equals(edge.getEnd(), end)) {
+            if (Objects.equals(neighbour(edge, start), end)) {
                 adjacencyMap.get(start).remove(edge);
+                label = edge.getLabel();
+
+                if (sharedEdges)
+                    adjacencyMap.get(end).remove(edge);
                 break;
             }
         }
 
         numEdges--;
 
-        if (!directed) {
+        if (sharedEdges) {
+            numEdges--;
+        } else if (!directed) {
             for (var edge : adjacencyMap.get(end)) {
                 if (Objects.equals(edge.getEnd(), start)) {
                     adjacencyMap.get(end).remove(edge);
@@ -252,9 +322,38 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
             }
         }
 
+        for (var listener : listeners)
+            listener.edgeRemoved(start, end, label);
+
         return true;
     }
 
+    /**
+     * Registers a listener to be notified of every later change to the graph.
+     *
+     * @param listener The listener.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(mutates = "this")
+    public void addListener(@NotNull GraphListener<V, L> listener) {
+        Objects.requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener The listener.
+     * @return {@code true} if the listener was registered, {@code false} otherwise.
+     * @implNote This operation has linear time complexity in the number of
+     * listeners.
+     */
+    @Contract(mutates = "this")
+    public boolean removeListener(@NotNull GraphListener<V, L> listener) {
+        Objects.requireNonNull(listener);
+        return listeners.remove(listener);
+    }
+
     /**
      * Gets the number of nodes in the graph.
      *
@@ -295,6 +394,11 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
                 return adjacencyMap.keySet().iterator();
             }
 
+            @Override
+            public @NotNull Spliterator<V> spliterator() {
+                return adjacencyMap.keySet().spliterator();
+            }
+
             @Override
             public int size() {
                 return adjacencyMap.size();
@@ -313,10 +417,104 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
     @Contract(pure = true)
     public @NotNull Collection<? extends AbstractEdge<V, L>> getEdges() {
         List<AbstractEdge<V, L>> edgeList = new ArrayList<>();
-        adjacencyMap.values().forEach(edgeList::addAll);
+        if (sharedEdges)
+            adjacencyMap.keySet().forEach(node -> edgeList.addAll(edgesOf(node)));
+        else
+            adjacencyMap.values().forEach(edgeList::addAll);
         return edgeList;
     }
 
+    /**
+     * Gets a collection of all the edges of the undirected graph, where every edge
+     * appears once.
+     *
+     * @return A collection of all the edges in the graph.
+     * @throws IllegalStateException If the graph is directed.
+     * @implNote This operation has linear time complexity O(N + E).
+     */
+    @Override
+    @Contract(pure = true)
+    public @NotNull Collection<? extends AbstractEdge<V, L>> getUndirectedEdges() {
+        if (directed)
+            throw new IllegalStateException("The graph is directed");
+
+        var edgeList = new ArrayList<AbstractEdge<V, L>>(numEdges / 2);
+        if (sharedEdges) {
+            // Every record is in the set of its start node, where it is taken.
+            adjacencyMap.forEach((node, edges) -> {
+                for (var edge : edges) {
+                    if (Objects.equals(edge.getStart(), node))
+                        edgeList.add(edge);
+                }
+            });
+        } else {
+            var walked = new HashSet<V>();
+            adjacencyMap.forEach((node, edges) -> {
+                for (var edge : edges) {
+                    if (!walked.contains(edge.getEnd()))
+                        edgeList.add(edge);
+                }
+                walked.add(node);
+            });
+        }
+        return edgeList;
+    }
+
+    /**
+     * Gets a sequential stream of all the nodes in the graph.
+     * The stream reads the nodes straight from the hash table of the graph, and a
+     * parallel stream splits the table into halves.
+     *
+     * @return A stream of all the nodes in the graph.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public @NotNull Stream<V> nodes() {
+        return adjacencyMap.keySet().stream();
+    }
+
+    /**
+     * Gets a sequential stream of all the edges in the graph, without the copy
+     * made by {@link #getEdges()}.
+     * A parallel stream splits the hash table of the nodes into halves, and streams
+     * the edges of each node where its node falls.
+     *
+     * @return A stream of all the edges in the graph.
+     * @implNote This operation has linear time complexity O(N), to count the
+     * edges.
+     */
+    @Override
+    @Contract(pure = true)
+    public @NotNull Stream<? extends AbstractEdge<V, L>> edges() {
+        var size = 0L;
+        for (var edges : adjacencyMap.values())
+            size += edges.size();
+        return StreamSupport.stream(new EdgeSpliterator(adjacencyMap.entrySet().spliterator(), size, true), false);
+    }
+
+    /**
+     * Gets a sequential stream of the edges leaving a node, each starting from
+     * that node.
+     * The node shall not be {@code null} and shall be present in the graph.
+     *
+     * @param node The node whose edges are to be streamed.
+     * @return A stream of the edges leaving the node.
+     * @throws IllegalStateException If the node is not present in the graph.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public @NotNull Stream<? extends AbstractEdge<V, L>> edges(@NotNull V node) {
+        Objects.requireNonNull(node);
+
+        if (!containsNode(node))
+            throw new IllegalStateException("The graph does not contain the provided node");
+
+        var edges = adjacencyMap.get(node).stream();
+        return sharedEdges ? edges.map(edge -> orient(edge, node)) : edges;
+    }
+
     /**
      * Get a collection of neighboring nodes for the given node.
      * The node shall not be {@code null} and shall be present in the graph.
@@ -335,13 +533,18 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
             throw new IllegalStateException("The graph does not contain the provided node");
 
         var neighbours = new HashSet<V>();
-        adjacencyMap.get(node).forEach(edge -> neighbours.add(edge.getEnd()));
+        adjacencyMap.get(node).forEach(edge -> neighbours.add(neighbour(edge, node)));
         return new AbstractCollection<>() {
             @Override
             public @NotNull Iterator<V> iterator() {
                 return neighbours.iterator();
             }
 
+            @Override
+            public @NotNull Spliterator<V> spliterator() {
+                return neighbours.spliterator();
+            }
+
             @Override
             public int size() {
                 return neighbours.size();
@@ -375,10 +578,109 @@ public class Graph<V, L> implements AbstractGraph<V, L> {
             return null;
 
         for (var edge : adjacencyMap.get(start)) {
-            if (Objects.equals(end, edge.getEnd()))
+            if (Objects.equals(end, neighbour(edge, start)))
                 return edge.getLabel();
         }
 
         return null;
     }
-}
\ No newline at end of file
+
+    // The edges leaving a node, with their labels, without the copy made by getNeighbours. Shared edges stored in
+    // the other direction are turned around.
+    @Contract(pure = true)
+    @Unmodifiable Collection<AbstractEdge<V, L>> edgesOf(V node) {
+        var edges = adjacencyMap.get(node);
+        if (!sharedEdges)
+            return Collections.unmodifiableSet(edges);
+
+        var oriented = new ArrayList<AbstractEdge<V, L>>(edges.size());
+        for (var edge : edges)
+            oriented.add(orient(edge, node));
+        return Collections.unmodifiableList(oriented);
+    }
+
+    // A shared edge stored in the other direction, turned around to start from the given node.
+    private static <V, L> AbstractEdge<V, L> orient(AbstractEdge<V, L> edge, V node) {
+        return Objects.equals(edge.getStart(), node) ? edge : new Edge<>(node, edge.getStart(), edge.getLabel());
+    }
+
+    /**
+     * Streams the edges of the nodes handed out by a spliterator of the adjacency
+     * map, so that splitting it splits the nodes.
+     * Only the spliterator of the whole map knows the exact number of edges; the
+     * ones split from it estimate their share from the share of the nodes.
+     */
+    private final class EdgeSpliterator implements Spliterator<AbstractEdge<V, L>> {
+        private final Spliterator<Map.Entry<V, Set<AbstractEdge<V, L>>>> nodes;
+        private Iterator<AbstractEdge<V, L>> edges = Collections.emptyIterator();
+        private V node;
+        private long size;
+        private boolean sized;
+
+        private EdgeSpliterator(Spliterator<Map.Entry<V, Set<AbstractEdge<V, L>>>> nodes, long size, boolean sized) {
+            this.nodes = nodes;
+            this.size = size;
+            this.sized = sized;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super AbstractEdge<V, L>> action) {
+            while (!edges.hasNext()) {
+                if (!nodes.tryAdvance(entry -> {
+                    node = entry.getKey();
+                    edges = entry.getValue().iterator();
+                }))
+                    return false;
+            }
+
+            if (size > 0)
+                size--;
+            var edge = edges.next();
+            action.accept(sharedEdges ? orient(edge, node) : edge);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super AbstractEdge<V, L>> action) {
+            while (edges.hasNext()) {
+                var edge = edges.next();
+                action.accept(sharedEdges ? orient(edge, node) : edge);
+            }
+
+            nodes.forEachRemaining(entry -> {
+                for (var edge : entry.getValue())
+                    action.accept(sharedEdges ? orient(edge, entry.getKey()) : edge);
+            });
+            size = 0;
+        }
+
+        @Override
+        public Spliterator<AbstractEdge<V, L>> trySplit() {
+            var remaining = nodes.estimateSize();
+            var prefix = nodes.trySplit();
+            if (prefix == null)
+                return null;
+
+            // The edges of the current node stay here.
+            var prefixSize = remaining == 0 ? 0 : (long) ((double) size * prefix.estimateSize() / remaining);
+            size -= prefixSize;
+            sized = false;
+            return new EdgeSpliterator(prefix, prefixSize, false);
+        }
+
+        @Override
+        public long estimateSize() {
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return DISTINCT | NONNULL | (sized ? SIZED : 0);
+        }
+    }
+
+    // The other node of an edge of the set of the given node.
+    private static <V> V neighbour(AbstractEdge<V, ?> edge, V node) {
+        return Objects.equals(edge.getStart(), node) ? edge.getEnd() : edge.getStart();
+    }
+}
@@ -0,0 +1,51 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines a listener notified of the changes made to a {@link Graph}.
+ * Every notification is delivered on the mutating thread after the change has
+ * been applied, and only for changes that took effect. Every method does nothing
+ * by default.
+ *
+ * @param <V> The type of nodes in the graph.
+ * @param <L> The type of labels associated with edges in the graph.
+ */
+public interface GraphListener<V, L> {
+    /**
+     * Called after a node has been added.
+     *
+     * @param node The added node.
+     */
+    default void nodeAdded(@NotNull V node) {
+    }
+
+    /**
+     * Called after a node has been removed, once {@link #edgeRemoved} has been
+     * called for every edge linked to it.
+     *
+     * @param node The removed node.
+     */
+    default void nodeRemoved(@NotNull V node) {
+    }
+
+    /**
+     * Called after an edge has been added. An undirected edge is notified once.
+     *
+     * @param start The start node of the edge.
+     * @param end   The end node of the edge.
+     * @param label The label of the edge.
+     */
+    default void edgeAdded(@NotNull V start, @NotNull V end, L label) {
+    }
+
+    /**
+     * Called after an edge has been removed. An undirected edge is notified once.
+     *
+     * @param start The start node of the edge.
+     * @param end   The end node of the edge.
+     * @param label The label of the edge.
+     */
+    default void edgeRemoved(@NotNull V start, @NotNull V end, L label) {
+    }
+}
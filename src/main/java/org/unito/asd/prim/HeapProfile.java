@@ -0,0 +1,167 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Records how a {@link PriorityQueue} behaves on a workload: the calls to its
+ * comparator, the swaps of its nodes, the number of levels every sift-up and
+ * sift-down moves an element through, and its peak size.
+ * Users of the queue that leave stale entries in it, as the lazy Prim's algorithm
+ * does, can report each one they discard with {@link #recordStaleDiscard()}.
+ * A profile is attached to a queue when the queue is constructed; a queue without
+ * one keeps its comparator as it is and skips the recording altogether.
+ * The same profile can be attached to several queues, to sum their behaviour.
+ *
+ * @implNote A profile is not thread-safe, just like the queues it is attached to.
+ */
+public final class HeapProfile {
+    // A heap holding up to Integer.MAX_VALUE elements has fewer levels than this.
+    private static final int MAX_DEPTH = Integer.SIZE;
+
+    private final long[] siftUpDepths = new long[MAX_DEPTH];
+    private final long[] siftDownDepths = new long[MAX_DEPTH];
+    private long numComparisons;
+    private long numSwaps;
+    private long numStaleDiscards;
+    private int peakSize;
+
+    /**
+     * Constructs a new, empty {@link HeapProfile}.
+     */
+    public HeapProfile() {
+    }
+
+    /**
+     * Gets the number of calls to the comparator of the queues.
+     *
+     * @return The number of comparisons.
+     */
+    @Contract(pure = true)
+    public long numComparisons() {
+        return numComparisons;
+    }
+
+    /**
+     * Gets the number of swaps of two nodes of the heaps.
+     * A sift-down that moves the element down a hole, as the bulk insertion does,
+     * moves no pair of nodes and is not counted here.
+     *
+     * @return The number of swaps.
+     */
+    @Contract(pure = true)
+    public long numSwaps() {
+        return numSwaps;
+    }
+
+    /**
+     * Gets the number of stale entries discarded from the top of the queues.
+     *
+     * @return The number of discards reported with {@link #recordStaleDiscard()}.
+     */
+    @Contract(pure = true)
+    public long numStaleDiscards() {
+        return numStaleDiscards;
+    }
+
+    /**
+     * Gets the largest number of elements held at once by a queue.
+     *
+     * @return The peak size.
+     */
+    @Contract(pure = true)
+    public int peakSize() {
+        return peakSize;
+    }
+
+    /**
+     * Gets the histogram of the sift-up depths.
+     *
+     * @return An array whose element {@code d} is the number of sift-ups that
+     * moved the element up {@code d} levels, up to the deepest one recorded.
+     */
+    @Contract(pure = true)
+    public long @NotNull [] siftUpDepths() {
+        return trim(siftUpDepths);
+    }
+
+    /**
+     * Gets the histogram of the sift-down depths.
+     *
+     * @return An array whose element {@code d} is the number of sift-downs that
+     * moved the element down {@code d} levels, up to the deepest one recorded.
+     */
+    @Contract(pure = true)
+    public long @NotNull [] siftDownDepths() {
+        return trim(siftDownDepths);
+    }
+
+    /**
+     * Reports that a stale entry has been discarded from the top of a queue.
+     */
+    @Contract(mutates = "this")
+    public void recordStaleDiscard() {
+        numStaleDiscards++;
+    }
+
+    /**
+     * Clears all the counters and histograms.
+     */
+    @Contract(mutates = "this")
+    public void reset() {
+        Arrays.fill(siftUpDepths, 0);
+        Arrays.fill(siftDownDepths, 0);
+        numComparisons = 0;
+        numSwaps = 0;
+        numStaleDiscards = 0;
+        peakSize = 0;
+    }
+
+    /**
+     * Gets a report of the profile, with a line per counter and per histogram.
+     *
+     * @return The report.
+     */
+    @Override
+    @Contract(pure = true)
+    public @NotNull String toString() {
+        return String.format("Comparisons: %d%nSwaps: %d%nStale discards: %d%nPeak size: %d%n"
+                        + "Sift-up depths: %s%nSift-down depths: %s",
+                numComparisons, numSwaps, numStaleDiscards, peakSize,
+                Arrays.toString(siftUpDepths()), Arrays.toString(siftDownDepths()));
+    }
+
+    // The comparator of a profiled queue, counting its calls.
+    <E> Comparator<E> counting(Comparator<E> comparator) {
+        return (first, second) -> {
+            numComparisons++;
+            return comparator.compare(first, second);
+        };
+    }
+
+    void recordSwap() {
+        numSwaps++;
+    }
+
+    void recordSiftUp(int depth) {
+        siftUpDepths[Math.min(depth, MAX_DEPTH - 1)]++;
+    }
+
+    void recordSiftDown(int depth) {
+        siftDownDepths[Math.min(depth, MAX_DEPTH - 1)]++;
+    }
+
+    void recordSize(int size) {
+        peakSize = Math.max(peakSize, size);
+    }
+
+    private static long[] trim(long[] histogram) {
+        var length = histogram.length;
+        while (length > 0 && histogram[length - 1] == 0)
+            length--;
+        return Arrays.copyOf(histogram, length);
+    }
+}
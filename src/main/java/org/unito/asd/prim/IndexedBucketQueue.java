@@ -0,0 +1,145 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Represents a bucket queue of the integers {@code [0, capacity)} keyed by an
+ * integer in a bounded range, supporting decrease-key.
+ * It is the primitive counterpart of {@link BucketQueue}, as
+ * {@link IndexedMinHeap} is of {@link PriorityQueue}: every bucket is a doubly
+ * linked list threaded through arrays indexed by item, so inserting, lowering
+ * the key of and removing an item all take constant time, and it never
+ * allocates after construction.
+ */
+final class IndexedBucketQueue {
+    private static final int NONE = -1;
+
+    private final int minKey;
+    private final int[] heads;
+    private final int[] next;
+    private final int[] previous;
+    private final int[] buckets;
+    private int cursor;
+    private int size;
+
+    /**
+     * Constructs a new, empty {@link IndexedBucketQueue}.
+     *
+     * @param capacity The number of items the queue can hold.
+     * @param minKey   The lowest key an item can have.
+     * @param maxKey   The highest key an item can have.
+     * @throws IllegalArgumentException If the range of keys is empty or larger
+     *                                  than {@link BucketQueue#MAX_RANGE}.
+     */
+    IndexedBucketQueue(int capacity, int minKey, int maxKey) {
+        if (maxKey < minKey || (long) maxKey - minKey >= BucketQueue.MAX_RANGE)
+            throw new IllegalArgumentException("The range of keys must hold between 1 and " + BucketQueue.MAX_RANGE + " values");
+
+        this.minKey = minKey;
+        this.heads = new int[maxKey - minKey + 1];
+        this.next = new int[capacity];
+        this.previous = new int[capacity];
+        this.buckets = new int[capacity];
+        this.cursor = heads.length;
+        this.size = 0;
+
+        Arrays.fill(heads, NONE);
+        Arrays.fill(buckets, NONE);
+    }
+
+    @Contract(pure = true)
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Contract(pure = true)
+    boolean contains(int item) {
+        return buckets[item] != NONE;
+    }
+
+    /**
+     * Gets the key of the item at the top of the queue.
+     *
+     * @return The minimum key.
+     * @throws NoSuchElementException If the queue is empty.
+     */
+    @Contract(pure = true)
+    int minKey() {
+        if (size == 0)
+            throw new NoSuchElementException("The queue is empty");
+
+        skipEmptyBuckets();
+        return minKey + cursor;
+    }
+
+    /**
+     * Inserts an item, or lowers its key if it is already present with a greater
+     * one.
+     *
+     * @param item The item.
+     * @param key  The key of the item, within the range of the queue.
+     * @return {@code true} if the queue changed, {@code false} otherwise.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(mutates = "this")
+    boolean pushOrDecrease(int item, int key) {
+        var bucket = key - minKey;
+
+        if (buckets[item] == NONE) {
+            size++;
+        } else if (bucket >= buckets[item]) {
+            return false;
+        } else {
+            unlink(item);
+        }
+
+        buckets[item] = bucket;
+        previous[item] = NONE;
+        next[item] = heads[bucket];
+        if (heads[bucket] != NONE)
+            previous[heads[bucket]] = item;
+        heads[bucket] = item;
+
+        cursor = Math.min(cursor, bucket);
+        return true;
+    }
+
+    /**
+     * Removes the item at the top of the queue.
+     *
+     * @return The removed item.
+     * @throws NoSuchElementException If the queue is empty.
+     * @implNote This operation skips the empty buckets below the top item, so it
+     * takes time proportional to the range of keys in the worst case.
+     */
+    @Contract(mutates = "this")
+    int pop() {
+        if (size == 0)
+            throw new NoSuchElementException("The queue is empty");
+
+        skipEmptyBuckets();
+        var top = heads[cursor];
+        unlink(top);
+        buckets[top] = NONE;
+        size--;
+        return top;
+    }
+
+    private void unlink(int item) {
+        if (previous[item] == NONE)
+            heads[buckets[item]] = next[item];
+        else
+            next[previous[item]] = next[item];
+
+        if (next[item] != NONE)
+            previous[next[item]] = previous[item];
+    }
+
+    private void skipEmptyBuckets() {
+        while (heads[cursor] == NONE)
+            cursor++;
+    }
+}
@@ -0,0 +1,174 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Represents a binary min-heap of the integers {@code [0, capacity)} keyed by a
+ * {@code double}, supporting decrease-key.
+ * It is the primitive counterpart of {@link PriorityQueue} used by the engines
+ * that address nodes by index, and it never allocates after construction.
+ */
+final class IndexedMinHeap {
+    private static final int ABSENT = -1;
+
+    private final int[] heap;
+    private final int[] positions;
+    private final double[] keys;
+    private int size;
+    private int peakSize;
+
+    /**
+     * Constructs a new, empty {@link IndexedMinHeap}.
+     *
+     * @param capacity The number of items the heap can hold.
+     */
+    IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new double[capacity];
+        this.size = 0;
+
+        Arrays.fill(positions, ABSENT);
+    }
+
+    @Contract(pure = true)
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Contract(pure = true)
+    int size() {
+        return size;
+    }
+
+    // The largest number of items held at once since the heap was constructed.
+    @Contract(pure = true)
+    int peakSize() {
+        return peakSize;
+    }
+
+    @Contract(pure = true)
+    boolean contains(int item) {
+        return positions[item] != ABSENT;
+    }
+
+    /**
+     * Removes all the items from the heap.
+     *
+     * @implNote This operation has linear time complexity O(N) in the number of
+     * items in the heap, not in its capacity.
+     */
+    @Contract(mutates = "this")
+    void clear() {
+        for (int position = 0; position < size; position++)
+            positions[heap[position]] = ABSENT;
+        size = 0;
+    }
+
+    /**
+     * Gets the key of the item at the top of the heap.
+     *
+     * @return The minimum key.
+     * @throws NoSuchElementException If the heap is empty.
+     */
+    @Contract(pure = true)
+    double minKey() {
+        if (size == 0)
+            throw new NoSuchElementException("The heap is empty");
+        return keys[heap[0]];
+    }
+
+    /**
+     * Inserts an item, or lowers its key if it is already present with a greater
+     * one.
+     *
+     * @param item The item.
+     * @param key  The key of the item.
+     * @return {@code true} if the heap changed, {@code false} otherwise.
+     * @implNote This operation has logarithmic time complexity O(log N).
+     */
+    @Contract(mutates = "this")
+    boolean pushOrDecrease(int item, double key) {
+        int position = positions[item];
+
+        if (position == ABSENT) {
+            position = size++;
+            peakSize = Math.max(peakSize, size);
+            heap[position] = item;
+            positions[item] = position;
+        } else if (Double.compare(key, keys[item]) >= 0) {
+            return false;
+        }
+
+        keys[item] = key;
+        siftUp(position);
+        return true;
+    }
+
+    /**
+     * Removes the item at the top of the heap.
+     *
+     * @return The removed item.
+     * @throws NoSuchElementException If the heap is empty.
+     * @implNote This operation has logarithmic time complexity O(log N).
+     */
+    @Contract(mutates = "this")
+    int pop() {
+        if (size == 0)
+            throw new NoSuchElementException("The heap is empty");
+
+        int top = heap[0];
+        positions[top] = ABSENT;
+
+        if (--size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+
+        return top;
+    }
+
+    private void siftUp(int position) {
+        int item = heap[position];
+        double key = keys[item];
+
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (Double.compare(keys[heap[parent]], key) <= 0)
+                break;
+
+            heap[position] = heap[parent];
+            positions[heap[position]] = position;
+            position = parent;
+        }
+
+        heap[position] = item;
+        positions[item] = position;
+    }
+
+    private void siftDown(int position) {
+        int item = heap[position];
+        double key = keys[item];
+
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size)
+                break;
+            if (child + 1 < size && Double.compare(keys[heap[child + 1]], keys[heap[child]]) < 0)
+                child++;
+            if (Double.compare(keys[heap[child]], key) >= 0)
+                break;
+
+            heap[position] = heap[child];
+            positions[heap[position]] = position;
+            position = child;
+        }
+
+        heap[position] = item;
+        positions[item] = position;
+    }
+}
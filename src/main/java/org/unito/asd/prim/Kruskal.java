@@ -0,0 +1,52 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Implements Kruskal's algorithm.
+ * The edges are sorted by weight once, and then scanned in order, keeping every
+ * edge that links two different trees of a {@link DisjointSet}. The weights are
+ * sorted with a radix sort over their bits, in O(E) time, so the running time is
+ * O(E alpha(V)).
+ * Only undirected graphs are supported.
+ */
+public final class Kruskal implements MsfSolver {
+    /**
+     * Computes the minimum spanning forest for a given undirected graph.
+     *
+     * @param graph the graph to compute the minimum spanning forest for
+     * @param <V>   the type of vertices in the graph
+     * @param <L>   the type of the edge label (weight), must extend Number
+     * @return a collection of edges representing the minimum spanning forest
+     * @throws IllegalArgumentException if the graph is directed
+     */
+    @Override
+    @Contract(pure = true)
+    public <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(@NotNull AbstractGraph<V, L> graph) {
+        if (graph.isDirected())
+            throw new IllegalArgumentException("Kruskal's algorithm requires an undirected graph");
+
+        var csr = CsrGraph.of(graph);
+        var arcs = csr.undirectedArcs();
+        var weights = new double[arcs.length];
+        for (var i = 0; i < arcs.length; i++)
+            weights[i] = csr.weight(arcs[i]);
+
+        Sorting.radixSort(weights, arcs, 0, arcs.length);
+
+        var disjointSet = new DisjointSet(csr.numNodes());
+        var msf = new ArrayList<AbstractEdge<V, L>>();
+        var maxEdges = csr.numNodes() - 1;
+
+        for (var i = 0; i < arcs.length && msf.size() < maxEdges; i++) {
+            if (disjointSet.union(csr.source(arcs[i]), csr.target(arcs[i])))
+                msf.add(csr.edge(arcs[i]));
+        }
+
+        return msf;
+    }
+}
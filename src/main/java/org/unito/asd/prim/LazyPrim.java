@@ -0,0 +1,114 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Objects;
+
+/**
+ * Implements the lazy variant of Prim's algorithm.
+ * The edges leaving the tree are kept in a non-indexed {@link PriorityQueue}, and
+ * the ones reaching an already visited node are discarded only when they get to
+ * the top of the queue, so the queue never needs to look up an edge. The edges of
+ * each newly reached node are pushed as one batch. It works directly on the
+ * {@link AbstractGraph} interface, without taking a snapshot of the graph, which
+ * makes it the cheapest choice for small graphs.
+ */
+public final class LazyPrim implements MsfSolver {
+    private final HeapProfile profile;
+
+    /**
+     * Constructs a new {@link LazyPrim} solver.
+     */
+    public LazyPrim() {
+        this.profile = null;
+    }
+
+    /**
+     * Constructs a new {@link LazyPrim} solver that records the behaviour of its
+     * priority queue, including the stale edges it discards, in a profile.
+     * As the profile is not thread-safe, the solver shall then be used by one
+     * thread at a time.
+     *
+     * @param profile The profile of the priority queue.
+     */
+    public LazyPrim(@NotNull HeapProfile profile) {
+        this.profile = Objects.requireNonNull(profile);
+    }
+
+    /**
+     * Computes the minimum spanning forest for a given graph.
+     * Prim's algorithm is applied to each unvisited node, and edges are added
+     * to the forest in the order of their weight, ensuring no cycles.
+     *
+     * @param graph the graph to compute the minimum spanning forest for
+     * @param <V>   the type of vertices in the graph
+     * @param <L>   the type of the edge label (weight), must extend Number
+     * @return a collection of edges representing the minimum spanning forest
+     */
+    @Override
+    @Contract(pure = true)
+    public <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(@NotNull AbstractGraph<V, L> graph) {
+        var visitedNodes = new HashSet<V>(graph.numNodes());
+        Comparator<Edge<V, L>> comparator = Comparator.comparingDouble(edge -> edge.getLabel().doubleValue());
+        var priorityQueue = profile == null
+                ? new PriorityQueue<>(comparator, false)
+                : new PriorityQueue<>(comparator, false, profile);
+        var msf = new ArrayList<AbstractEdge<V, L>>();
+        var batch = new ArrayList<Edge<V, L>>();
+        var peakSize = 0;
+
+        // Iter through all the nodes to make sure every mst is considered.
+        for (var node : graph.getNodes()) {
+            // If the node has been already visited, continue with the next one, otherwise, mark it as visited.
+            if (!visitedNodes.add(node))
+                continue;
+
+            // Loop until eventually all the nodes has been analyzed
+            // this condition is true iff there is only one mst in the graph, otherwise the "break" from below will be used.
+            while (visitedNodes.size() < graph.numNodes()) {
+
+                // Add all the edges from the current node to its neighbours to the priority queue.
+                for (var neighbour : graph.getNeighbours(node)) {
+                    // Optimization: Add it iff the node has not been considered yet.
+                    if (!visitedNodes.contains(neighbour))
+                        batch.add(new Edge<>(node, neighbour, graph.getLabel(node, neighbour)));
+                }
+                priorityQueue.pushAll(batch);
+                batch.clear();
+                peakSize = Math.max(peakSize, priorityQueue.size());
+
+                // Keep extracting the min edge from the priority queue,
+                // until the priority queue is empty (the mst is complete) or
+                // the end node of the edge has already been visited (it should be ignored).
+                var minEdge = priorityQueue.top();
+                while (minEdge != null && visitedNodes.contains(minEdge.getEnd())) {
+                    priorityQueue.pop();
+                    if (profile != null)
+                        profile.recordStaleDiscard();
+                    minEdge = priorityQueue.top();
+                }
+
+                // If the min edge is null, the mst built from 'node' is complete, so we should break the loop.
+                if (minEdge == null)
+                    break;
+
+                // Add the edge to the mst, add its end node to the visited nodes and restart the loop, using the end
+                // node as the start node for the subsequent node search.
+                msf.add(minEdge);
+                visitedNodes.add(minEdge.getEnd());
+                node = minEdge.getEnd();
+            }
+
+            if (visitedNodes.size() == graph.numNodes())
+                break;
+        }
+
+        PrimMetrics.get().recordQueueSize(peakSize);
+        return msf;
+    }
+}
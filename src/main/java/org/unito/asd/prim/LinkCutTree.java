@@ -0,0 +1,251 @@
+package org.unito.asd.prim;
+
+import java.util.Arrays;
+
+/**
+ * Represents a forest of weighted nodes as link-cut trees (Sleator and Tarjan),
+ * supporting links, cuts, connectivity and path-maximum queries in amortized
+ * O(log N) time.
+ * Every tree is split into preferred paths, each stored in a splay tree keyed by
+ * depth, whose nodes also keep the heaviest node of their subtree. The nodes are
+ * integers handed out by {@link #newNode(double)}; ties between equal weights
+ * are broken by the node with the higher index, so that the maximum of a path is
+ * always unique.
+ */
+final class LinkCutTree {
+    static final int NONE = -1;
+
+    private int[] left = new int[16];
+    private int[] right = new int[16];
+    private int[] parents = new int[16];
+    private boolean[] flipped = new boolean[16];
+    private double[] weights = new double[16];
+    private int[] heaviest = new int[16];
+    private int[] freeNodes = new int[16];
+    private int[] stack = new int[16];
+    private int numFree;
+    private int size;
+
+    /**
+     * Creates a new node forming a tree by itself.
+     *
+     * @param weight The weight of the node.
+     * @return The new node.
+     */
+    int newNode(double weight) {
+        int node;
+        if (numFree > 0) {
+            node = freeNodes[--numFree];
+        } else {
+            if (size == left.length)
+                grow();
+            node = size++;
+        }
+
+        left[node] = NONE;
+        right[node] = NONE;
+        parents[node] = NONE;
+        flipped[node] = false;
+        weights[node] = weight;
+        heaviest[node] = node;
+        return node;
+    }
+
+    /**
+     * Releases a node, which shall form a tree by itself, so that it can be handed
+     * out again.
+     *
+     * @param node The node.
+     */
+    void freeNode(int node) {
+        if (numFree == freeNodes.length)
+            freeNodes = Arrays.copyOf(freeNodes, 2 * numFree);
+        freeNodes[numFree++] = node;
+    }
+
+    double weight(int node) {
+        return weights[node];
+    }
+
+    /**
+     * Links two nodes in different trees with an edge.
+     *
+     * @param first  The first node.
+     * @param second The second node.
+     */
+    void link(int first, int second) {
+        makeRoot(first);
+        parents[first] = second;
+    }
+
+    /**
+     * Removes the edge between two adjacent nodes.
+     *
+     * @param first  The first node.
+     * @param second The second node.
+     */
+    void cut(int first, int second) {
+        makeRoot(first);
+        access(second);
+
+        // The path is now first-second, so first is the whole left subtree of second.
+        left[second] = NONE;
+        parents[first] = NONE;
+        update(second);
+    }
+
+    /**
+     * Checks whether two nodes are in the same tree.
+     *
+     * @param first  The first node.
+     * @param second The second node.
+     * @return {@code true} if the nodes are connected, {@code false} otherwise.
+     */
+    boolean connected(int first, int second) {
+        return first == second || findRoot(first) == findRoot(second);
+    }
+
+    /**
+     * Finds the heaviest node on the path between two connected nodes, both
+     * included.
+     *
+     * @param first  The first node.
+     * @param second The second node.
+     * @return The heaviest node on the path.
+     */
+    int pathMax(int first, int second) {
+        makeRoot(first);
+        access(second);
+        return heaviest[second];
+    }
+
+    private int findRoot(int node) {
+        access(node);
+        while (true) {
+            push(node);
+            if (left[node] == NONE)
+                break;
+            node = left[node];
+        }
+        splay(node);
+        return node;
+    }
+
+    private void makeRoot(int node) {
+        access(node);
+        flipped[node] ^= true;
+    }
+
+    // Makes the path from the root of the tree to the node preferred, leaving the node at the root of its splay tree.
+    private void access(int node) {
+        var last = NONE;
+        for (var current = node; current != NONE; current = parents[current]) {
+            splay(current);
+            right[current] = last;
+            update(current);
+            last = current;
+        }
+        splay(node);
+    }
+
+    private boolean isSplayRoot(int node) {
+        var parent = parents[node];
+        return parent == NONE || (left[parent] != node && right[parent] != node);
+    }
+
+    private void splay(int node) {
+        pushFromSplayRoot(node);
+
+        while (!isSplayRoot(node)) {
+            var parent = parents[node];
+            if (!isSplayRoot(parent)) {
+                var grandparent = parents[parent];
+                var zigZig = (left[grandparent] == parent) == (left[parent] == node);
+                rotate(zigZig ? parent : node);
+            }
+            rotate(node);
+        }
+    }
+
+    // Pushes the pending reversals down the path from the root of the splay tree to the node.
+    private void pushFromSplayRoot(int node) {
+        var depth = 0;
+        for (var current = node; ; current = parents[current]) {
+            if (depth == stack.length)
+                stack = Arrays.copyOf(stack, 2 * depth);
+            stack[depth++] = current;
+            if (isSplayRoot(current))
+                break;
+        }
+
+        while (depth > 0)
+            push(stack[--depth]);
+    }
+
+    private void rotate(int node) {
+        var parent = parents[node];
+        var grandparent = parents[parent];
+
+        if (!isSplayRoot(parent)) {
+            if (left[grandparent] == parent)
+                left[grandparent] = node;
+            else
+                right[grandparent] = node;
+        }
+
+        if (left[parent] == node) {
+            left[parent] = right[node];
+            if (right[node] != NONE)
+                parents[right[node]] = parent;
+            right[node] = parent;
+        } else {
+            right[parent] = left[node];
+            if (left[node] != NONE)
+                parents[left[node]] = parent;
+            left[node] = parent;
+        }
+
+        parents[parent] = node;
+        parents[node] = grandparent;
+        update(parent);
+        update(node);
+    }
+
+    private void push(int node) {
+        if (!flipped[node])
+            return;
+
+        var child = left[node];
+        left[node] = right[node];
+        right[node] = child;
+
+        if (left[node] != NONE)
+            flipped[left[node]] ^= true;
+        if (right[node] != NONE)
+            flipped[right[node]] ^= true;
+        flipped[node] = false;
+    }
+
+    private void update(int node) {
+        var max = node;
+        if (left[node] != NONE && isHeavier(heaviest[left[node]], max))
+            max = heaviest[left[node]];
+        if (right[node] != NONE && isHeavier(heaviest[right[node]], max))
+            max = heaviest[right[node]];
+        heaviest[node] = max;
+    }
+
+    private boolean isHeavier(int first, int second) {
+        return weights[first] > weights[second] || (weights[first] == weights[second] && first > second);
+    }
+
+    private void grow() {
+        var capacity = 2 * left.length;
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+        flipped = Arrays.copyOf(flipped, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+        heaviest = Arrays.copyOf(heaviest, capacity);
+    }
+}
@@ -0,0 +1,140 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Chooses the fastest {@link MsfStrategy} for a graph, from a cheap profile of its
+ * size, density, kind and weights and of the machine it runs on.
+ */
+public final class MsfPlanner {
+    /**
+     * Graphs with fewer edges than this are solved in place by {@link LazyPrim}:
+     * taking a snapshot of them would cost more than it saves.
+     */
+    public static final int SMALL_GRAPH_EDGES = 256;
+
+    /**
+     * Undirected graphs with at least this many edges are solved by the parallel
+     * {@link Boruvka} when more than one core is available.
+     */
+    public static final int PARALLEL_EDGES = 1 << 18;
+
+    /**
+     * Undirected graphs whose average degree is at most this are solved by
+     * {@link Kruskal}, whose sort beats the heap of Prim's algorithm on few edges;
+     * denser ones by {@link FilterKruskal}, which discards most edges unsorted.
+     */
+    public static final double SPARSE_AVERAGE_DEGREE = 8;
+
+    private static final int SAMPLED_NODES = 16;
+
+    private MsfPlanner() {
+    }
+
+    /**
+     * Describes the characteristics of a graph, and of the machine it is processed
+     * on, that drive the choice of a strategy.
+     *
+     * @param numNodes        The number of nodes.
+     * @param numEdges        The number of edges, counted as {@link AbstractGraph#numEdges()} does.
+     * @param directed        Whether the graph is directed.
+     * @param integralWeights Whether all the sampled weights have an integral type.
+     * @param offHeap         Whether the graph is an {@link OffHeapGraph}.
+     * @param cores           The number of available cores.
+     */
+    public record Profile(int numNodes, long numEdges, boolean directed, boolean integralWeights, boolean offHeap,
+                          int cores) {
+    }
+
+    /**
+     * Profiles a graph.
+     *
+     * @param graph The graph.
+     * @return The profile of the graph.
+     * @implNote This operation samples the label of the first edge of each of the
+     * first few nodes only, so it runs in about constant time on a {@link Graph}. A
+     * graph that relies on the default {@link AbstractGraph#edges(Object)} pays the
+     * degree of every sampled node instead.
+     */
+    @Contract(pure = true)
+    public static @NotNull Profile profile(@NotNull AbstractGraph<?, ? extends Number> graph) {
+        Objects.requireNonNull(graph);
+
+        return new Profile(graph.numNodes(), graph.numEdges(), graph.isDirected(), hasIntegralWeights(graph),
+                graph instanceof OffHeapGraph, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Chooses the strategy for a graph.
+     *
+     * @param graph The graph.
+     * @return The fastest strategy for the graph.
+     */
+    @Contract(pure = true)
+    public static @NotNull MsfStrategy plan(@NotNull AbstractGraph<?, ? extends Number> graph) {
+        return plan(profile(graph));
+    }
+
+    /**
+     * Chooses the strategy for a profiled graph.
+     *
+     * @param profile The profile of the graph.
+     * @return The fastest strategy for the graph.
+     */
+    @Contract(pure = true)
+    public static @NotNull MsfStrategy plan(@NotNull Profile profile) {
+        Objects.requireNonNull(profile);
+
+        // Every other engine would copy the edges back onto the heap.
+        if (profile.offHeap())
+            return MsfStrategy.EAGER_PRIM;
+
+        if (profile.numEdges() < SMALL_GRAPH_EDGES)
+            return MsfStrategy.LAZY_PRIM;
+
+        if (DensePrim.isDense(profile.numNodes(), profile.numEdges()))
+            return MsfStrategy.DENSE_PRIM;
+
+        // Only the variants of Prim's algorithm follow the direction of the edges.
+        if (profile.directed())
+            return profile.integralWeights() ? MsfStrategy.BUCKET_PRIM : MsfStrategy.EAGER_PRIM;
+
+        if (profile.cores() > 1 && profile.numEdges() >= PARALLEL_EDGES)
+            return MsfStrategy.BORUVKA;
+
+        // Integer weights are queued by bucket; a range too wide for that is left to the engine to detect.
+        if (profile.integralWeights())
+            return MsfStrategy.BUCKET_PRIM;
+
+        if (profile.numEdges() <= SPARSE_AVERAGE_DEGREE * profile.numNodes())
+            return MsfStrategy.KRUSKAL;
+
+        return MsfStrategy.FILTER_KRUSKAL;
+    }
+
+    private static <V> boolean hasIntegralWeights(AbstractGraph<V, ? extends Number> graph) {
+        // The weights of an off-heap graph are always doubles.
+        if (!graph.isLabelled() || graph instanceof OffHeapGraph)
+            return false;
+
+        var sampled = 0;
+        var found = false;
+        for (var node : graph.getNodes()) {
+            var edge = graph.edges(node).findFirst();
+            if (edge.isPresent()) {
+                var label = edge.get().getLabel();
+                if (!(label instanceof Integer || label instanceof Long || label instanceof Short || label instanceof Byte))
+                    return false;
+                found = true;
+            }
+
+            if (++sampled == SAMPLED_NODES)
+                break;
+        }
+
+        return found;
+    }
+}
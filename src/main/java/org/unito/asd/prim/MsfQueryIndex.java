@@ -0,0 +1,224 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Answers path queries over a minimum spanning forest: whether two nodes are
+ * connected, and which edge is the heaviest on the forest path between them (the
+ * bottleneck of the path).
+ * Every tree is rooted, and every node stores its ancestors at distances
+ * 1, 2, 4, ... together with the heaviest edge on the way to each of them (binary
+ * lifting), so a path is split into O(log N) precomputed jumps. Building the index
+ * takes O(N log N) time and space; every query takes O(log N) time.
+ * Nodes that appear in no edge are considered isolated.
+ *
+ * @param <V> The type of nodes in the forest.
+ * @param <L> The type of labels associated with edges in the forest.
+ */
+public final class MsfQueryIndex<V, L extends Number> {
+    private static final int NONE = -1;
+
+    private final Map<V, Integer> indices;
+    private final List<AbstractEdge<V, L>> edges;
+    private final double[] weights;
+    private final int[] trees;
+    private final int[] depths;
+    // ancestors[k][node] is the ancestor 2^k levels up, and heaviest[k][node] the heaviest edge on the way there.
+    private final int[][] ancestors;
+    private final int[][] heaviest;
+
+    private MsfQueryIndex(Map<V, Integer> indices, List<AbstractEdge<V, L>> edges, int levels) {
+        var numNodes = indices.size();
+        this.indices = indices;
+        this.edges = edges;
+        this.weights = new double[edges.size()];
+        this.trees = new int[numNodes];
+        this.depths = new int[numNodes];
+        this.ancestors = new int[levels][numNodes];
+        this.heaviest = new int[levels][numNodes];
+
+        for (var i = 0; i < edges.size(); i++)
+            weights[i] = edges.get(i).getLabel().doubleValue();
+    }
+
+    /**
+     * Builds the index of a forest.
+     *
+     * @param forest The edges of the forest, for example as returned by
+     *               {@link Prim#minimumSpanningForest(AbstractGraph)}.
+     * @param <V>    The type of nodes in the forest.
+     * @param <L>    The type of labels associated with edges in the forest.
+     * @return The index.
+     * @throws IllegalArgumentException If the edges contain a cycle.
+     * @implNote This operation has time complexity O(N log N).
+     */
+    @Contract(pure = true)
+    public static <V, L extends Number> @NotNull MsfQueryIndex<V, L> of(@NotNull Collection<? extends AbstractEdge<V, L>> forest) {
+        Objects.requireNonNull(forest);
+
+        var indices = new HashMap<V, Integer>();
+        var edges = new ArrayList<AbstractEdge<V, L>>(forest);
+        for (var edge : edges) {
+            indices.putIfAbsent(edge.getStart(), indices.size());
+            indices.putIfAbsent(edge.getEnd(), indices.size());
+        }
+
+        var numNodes = indices.size();
+        var disjointSet = new DisjointSet(numNodes);
+        var offsets = new int[numNodes + 1];
+        for (var edge : edges) {
+            var start = indices.get(edge.getStart());
+            var end = indices.get(edge.getEnd());
+            if (!disjointSet.union(start, end))
+                throw new IllegalArgumentException("The edges do not form a forest");
+            offsets[start + 1]++;
+            offsets[end + 1]++;
+        }
+        for (var node = 0; node < numNodes; node++)
+            offsets[node + 1] += offsets[node];
+
+        // Both directions of every edge, grouped by node, as edge indices.
+        var incident = new int[offsets[numNodes]];
+        var cursors = Arrays.copyOf(offsets, numNodes);
+        for (var i = 0; i < edges.size(); i++) {
+            incident[cursors[indices.get(edges.get(i).getStart())]++] = i;
+            incident[cursors[indices.get(edges.get(i).getEnd())]++] = i;
+        }
+
+        var levels = 1;
+        while ((1 << levels) < numNodes)
+            levels++;
+
+        var index = new MsfQueryIndex<>(indices, edges, levels);
+        index.root(offsets, incident);
+        return index;
+    }
+
+    // Roots every tree with a breadth-first visit, then fills the jump tables level by level.
+    private void root(int[] offsets, int[] incident) {
+        var numNodes = trees.length;
+        var visited = new boolean[numNodes];
+        var queue = new int[numNodes];
+
+        for (var root = 0; root < numNodes; root++) {
+            if (visited[root])
+                continue;
+
+            visited[root] = true;
+            trees[root] = root;
+            ancestors[0][root] = root;
+            heaviest[0][root] = NONE;
+
+            var head = 0;
+            var tail = 0;
+            queue[tail++] = root;
+            while (head < tail) {
+                var node = queue[head++];
+                for (var i = offsets[node]; i < offsets[node + 1]; i++) {
+                    var edge = edges.get(incident[i]);
+                    var start = indices.get(edge.getStart());
+                    var other = start == node ? indices.get(edge.getEnd()) : start;
+                    if (visited[other])
+                        continue;
+
+                    visited[other] = true;
+                    trees[other] = root;
+                    depths[other] = depths[node] + 1;
+                    ancestors[0][other] = node;
+                    heaviest[0][other] = incident[i];
+                    queue[tail++] = other;
+                }
+            }
+        }
+
+        for (var level = 1; level < ancestors.length; level++) {
+            for (var node = 0; node < numNodes; node++) {
+                var middle = ancestors[level - 1][node];
+                ancestors[level][node] = ancestors[level - 1][middle];
+                heaviest[level][node] = heavier(heaviest[level - 1][node], heaviest[level - 1][middle]);
+            }
+        }
+    }
+
+    /**
+     * Checks whether two nodes are connected by the forest.
+     *
+     * @param first  The first node.
+     * @param second The second node.
+     * @return {@code true} if the nodes are connected, {@code false} otherwise.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public boolean connected(@NotNull V first, @NotNull V second) {
+        Objects.requireNonNull(first);
+        Objects.requireNonNull(second);
+
+        if (first.equals(second))
+            return true;
+
+        var firstIndex = indices.get(first);
+        var secondIndex = indices.get(second);
+        return firstIndex != null && secondIndex != null && trees[firstIndex] == trees[secondIndex];
+    }
+
+    /**
+     * Finds the heaviest edge on the forest path between two nodes.
+     * In a minimum spanning forest this is the edge that a new edge between the two
+     * nodes would have to be lighter than to enter the forest.
+     *
+     * @param first  The first node.
+     * @param second The second node.
+     * @return The heaviest edge on the path, or {@code null} if the nodes are not
+     * connected or are the same node.
+     * @implNote This operation has logarithmic time complexity O(log N).
+     */
+    @Contract(pure = true)
+    public @Nullable AbstractEdge<V, L> heaviestEdge(@NotNull V first, @NotNull V second) {
+        if (first.equals(second) || !connected(first, second))
+            return null;
+
+        int firstIndex = indices.get(first);
+        int secondIndex = indices.get(second);
+        if (depths[firstIndex] < depths[secondIndex]) {
+            var swap = firstIndex;
+            firstIndex = secondIndex;
+            secondIndex = swap;
+        }
+
+        // Lift the deeper node to the depth of the other one.
+        var result = NONE;
+        var gap = depths[firstIndex] - depths[secondIndex];
+        for (var level = 0; gap > 0; level++, gap >>= 1) {
+            if ((gap & 1) != 0) {
+                result = heavier(result, heaviest[level][firstIndex]);
+                firstIndex = ancestors[level][firstIndex];
+            }
+        }
+
+        // Lift both nodes right below their lowest common ancestor.
+        if (firstIndex != secondIndex) {
+            for (var level = ancestors.length - 1; level >= 0; level--) {
+                if (ancestors[level][firstIndex] != ancestors[level][secondIndex]) {
+                    result = heavier(result, heavier(heaviest[level][firstIndex], heaviest[level][secondIndex]));
+                    firstIndex = ancestors[level][firstIndex];
+                    secondIndex = ancestors[level][secondIndex];
+                }
+            }
+            result = heavier(result, heavier(heaviest[0][firstIndex], heaviest[0][secondIndex]));
+        }
+
+        return edges.get(result);
+    }
+
+    private int heavier(int first, int second) {
+        if (first == NONE)
+            return second;
+        if (second == NONE)
+            return first;
+        return weights[second] > weights[first] ? second : first;
+    }
+}
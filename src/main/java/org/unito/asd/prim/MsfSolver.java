@@ -0,0 +1,25 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Defines an interface representing an algorithm computing the minimum spanning
+ * forest (MSF) of a graph.
+ * Every node of a directed graph is linked through its outgoing edges, as done by
+ * Prim's algorithm; solvers that cannot follow the direction of the edges reject
+ * directed graphs.
+ */
+public interface MsfSolver {
+    /**
+     * Computes the minimum spanning forest for a given graph.
+     *
+     * @param graph the graph to compute the minimum spanning forest for
+     * @param <V>   the type of vertices in the graph
+     * @param <L>   the type of the edge label (weight), must extend Number
+     * @return a collection of edges representing the minimum spanning forest
+     * @throws IllegalArgumentException if the solver cannot process the graph
+     */
+    <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(@NotNull AbstractGraph<V, L> graph);
+}
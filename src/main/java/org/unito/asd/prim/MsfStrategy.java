@@ -0,0 +1,95 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Enumerates the algorithms available to compute a minimum spanning forest.
+ */
+public enum MsfStrategy {
+    /**
+     * Prim's algorithm with lazy deletion, see {@link LazyPrim}.
+     */
+    LAZY_PRIM(new LazyPrim(), true),
+
+    /**
+     * Prim's algorithm with decrease-key, see {@link EagerPrim}.
+     */
+    EAGER_PRIM(new EagerPrim(), true),
+
+    /**
+     * Kruskal's algorithm, see {@link Kruskal}.
+     */
+    KRUSKAL(new Kruskal(), false),
+
+    /**
+     * The Filter-Kruskal algorithm, see {@link FilterKruskal}.
+     */
+    FILTER_KRUSKAL(new FilterKruskal(), false),
+
+    /**
+     * Boruvka's algorithm, see {@link Boruvka}.
+     */
+    BORUVKA(new Boruvka(), false),
+
+    /**
+     * Prim's algorithm over an adjacency matrix, see {@link DensePrim}.
+     */
+    DENSE_PRIM(new DensePrim(), true),
+
+    /**
+     * Prim's algorithm over a bucket queue for small integer weights, see
+     * {@link BucketPrim}.
+     */
+    BUCKET_PRIM(new BucketPrim(), true),
+
+    /**
+     * Prim's algorithm growing many trees in parallel, see {@link ParallelPrim}.
+     */
+    PARALLEL_PRIM(new ParallelPrim(), false);
+
+    private final MsfSolver solver;
+    private final boolean supportsDirected;
+
+    MsfStrategy(MsfSolver solver, boolean supportsDirected) {
+        this.solver = solver;
+        this.supportsDirected = supportsDirected;
+    }
+
+    /**
+     * Gets the solver implementing the strategy.
+     *
+     * @return The solver.
+     */
+    @Contract(pure = true)
+    public @NotNull MsfSolver solver() {
+        return solver;
+    }
+
+    /**
+     * Checks whether the strategy can process directed graphs.
+     *
+     * @return {@code true} if directed graphs are supported, {@code false}
+     * otherwise.
+     */
+    @Contract(pure = true)
+    public boolean supportsDirected() {
+        return supportsDirected;
+    }
+
+    /**
+     * Gets the strategy with the given name, ignoring case and accepting dashes in
+     * place of underscores (for example {@code eager-prim}).
+     *
+     * @param name The name of the strategy.
+     * @return The strategy.
+     * @throws IllegalArgumentException If no strategy has the given name.
+     */
+    public static @NotNull MsfStrategy fromName(@NotNull String name) {
+        Objects.requireNonNull(name);
+        return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
@@ -0,0 +1,312 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Verifies that a collection of edges is a minimum spanning forest of an
+ * undirected graph, without recomputing the forest.
+ * The candidate edges are checked to belong to the graph and to be acyclic while
+ * they are merged into a {@link DisjointSet}, which then tells whether the forest
+ * spans every edge of the graph. Minimality is checked with the cycle property:
+ * no edge of the graph may be lighter than the heaviest forest edge on the path
+ * between its endpoints. These path maxima are computed all together, offline,
+ * during a single depth-first visit of the forest, with Tarjan's lowest common
+ * ancestor algorithm over a second disjoint-set forest that also keeps the
+ * heaviest edge towards the root of every set. The whole verification runs in
+ * O((N + E) log N) time, and is almost linear in practice.
+ */
+public final class MsfVerifier {
+    private static final int NONE = -1;
+
+    private MsfVerifier() {
+    }
+
+    /**
+     * Enumerates the reasons why a collection of edges is not a minimum spanning
+     * forest.
+     */
+    public enum Violation {
+        /**
+         * The edge is not in the graph, or it has a different weight there.
+         */
+        NOT_IN_GRAPH,
+
+        /**
+         * The edge closes a cycle with the candidate edges before it.
+         */
+        CYCLE,
+
+        /**
+         * The edge of the graph links two nodes that the candidate does not connect.
+         */
+        NOT_SPANNING,
+
+        /**
+         * The edge of the graph is lighter than the heaviest edge of the candidate
+         * on the path between its endpoints.
+         */
+        NOT_MINIMAL
+    }
+
+    /**
+     * Describes the outcome of a verification.
+     *
+     * @param violation     The reason why the candidate is not a minimum spanning
+     *                      forest, or {@code null} if it is one.
+     * @param violatingEdge The first edge found to break the property, or
+     *                      {@code null} if the candidate is a minimum spanning
+     *                      forest. It belongs to the candidate for
+     *                      {@link Violation#NOT_IN_GRAPH} and
+     *                      {@link Violation#CYCLE}, and to the graph otherwise.
+     * @param <V>           The type of nodes in the graph.
+     * @param <L>           The type of labels associated with edges in the graph.
+     */
+    public record Result<V, L>(@Nullable Violation violation, @Nullable AbstractEdge<V, L> violatingEdge) {
+        /**
+         * Checks whether the candidate is a minimum spanning forest.
+         *
+         * @return {@code true} if the candidate is a minimum spanning forest,
+         * {@code false} otherwise.
+         */
+        @Contract(pure = true)
+        public boolean isValid() {
+            return violation == null;
+        }
+    }
+
+    /**
+     * Verifies that a collection of edges is a minimum spanning forest of a graph.
+     *
+     * @param graph     The undirected graph.
+     * @param candidate The edges to verify.
+     * @param <V>       The type of nodes in the graph.
+     * @param <L>       The type of labels associated with edges in the graph.
+     * @return The outcome of the verification.
+     * @throws IllegalArgumentException If the graph is directed.
+     */
+    @Contract(pure = true)
+    public static <V, L extends Number> @NotNull Result<V, L> verify(@NotNull AbstractGraph<V, L> graph,
+                                                                    @NotNull Collection<? extends AbstractEdge<V, L>> candidate) {
+        Objects.requireNonNull(graph);
+        Objects.requireNonNull(candidate);
+        if (graph.isDirected())
+            throw new IllegalArgumentException("Only the forests of undirected graphs can be verified");
+
+        var nodes = new ArrayList<V>(graph.getNodes());
+        var indices = new HashMap<V, Integer>(2 * nodes.size());
+        for (var i = 0; i < nodes.size(); i++)
+            indices.put(nodes.get(i), i);
+
+        // The candidate must be a forest of edges of the graph.
+        var forest = new ArrayList<AbstractEdge<V, L>>(candidate);
+        var treeStarts = new int[forest.size()];
+        var treeEnds = new int[forest.size()];
+        var treeWeights = new double[forest.size()];
+        var disjointSet = new DisjointSet(nodes.size());
+        for (var i = 0; i < forest.size(); i++) {
+            var edge = forest.get(i);
+            if (!graph.containsNode(edge.getStart()) || !graph.containsNode(edge.getEnd())
+                    || !graph.containsEdge(edge.getStart(), edge.getEnd())
+                    || graph.getLabel(edge.getStart(), edge.getEnd()).doubleValue() != edge.getLabel().doubleValue())
+                return new Result<>(Violation.NOT_IN_GRAPH, edge);
+
+            treeStarts[i] = indices.get(edge.getStart());
+            treeEnds[i] = indices.get(edge.getEnd());
+            treeWeights[i] = edge.getLabel().doubleValue();
+            if (!disjointSet.union(treeStarts[i], treeEnds[i]))
+                return new Result<>(Violation.CYCLE, edge);
+        }
+
+        // Every edge of the graph must be within a tree, and is then a path query.
+        var edges = new ArrayList<AbstractEdge<V, L>>(graph.getEdges());
+        var queries = new PathMaxima(nodes.size(), treeStarts, treeEnds, treeWeights, edges.size());
+        for (var i = 0; i < edges.size(); i++) {
+            var edge = edges.get(i);
+            int start = indices.get(edge.getStart());
+            int end = indices.get(edge.getEnd());
+            if (disjointSet.find(start) != disjointSet.find(end))
+                return new Result<>(Violation.NOT_SPANNING, edge);
+
+            // Both arcs of an undirected edge are listed: query the path once.
+            if (start < end)
+                queries.add(i, start, end, edge.getLabel().doubleValue());
+        }
+
+        var violating = queries.firstViolation();
+        return violating == NONE ? new Result<>(null, null) : new Result<>(Violation.NOT_MINIMAL, edges.get(violating));
+    }
+
+    // The offline computation of the heaviest forest edge on the path of every query.
+    private static final class PathMaxima {
+        private final int numNodes;
+        private final int[] treeStarts;
+        private final int[] treeEnds;
+        private final double[] treeWeights;
+        private final int[] queryIds;
+        private final int[] queryStarts;
+        private final int[] queryEnds;
+        private final double[] queryWeights;
+        private int numQueries;
+
+        // A disjoint-set forest whose roots are the lowest unfinished ancestors, where every node also keeps the
+        // heaviest weight on its way to its current parent.
+        private final int[] parents;
+        private final double[] maxima;
+        private final int[] path;
+
+        private PathMaxima(int numNodes, int[] treeStarts, int[] treeEnds, double[] treeWeights, int maxQueries) {
+            this.numNodes = numNodes;
+            this.treeStarts = treeStarts;
+            this.treeEnds = treeEnds;
+            this.treeWeights = treeWeights;
+            this.queryIds = new int[maxQueries];
+            this.queryStarts = new int[maxQueries];
+            this.queryEnds = new int[maxQueries];
+            this.queryWeights = new double[maxQueries];
+            this.parents = new int[numNodes];
+            this.maxima = new double[numNodes];
+            this.path = new int[numNodes];
+        }
+
+        private void add(int id, int start, int end, double weight) {
+            queryIds[numQueries] = id;
+            queryStarts[numQueries] = start;
+            queryEnds[numQueries] = end;
+            queryWeights[numQueries] = weight;
+            numQueries++;
+        }
+
+        // Returns the id of the first query lighter than the heaviest edge on its path, or NONE.
+        private int firstViolation() {
+            var numEdges = treeStarts.length;
+            var treeOffsets = new int[numNodes + 1];
+            for (var i = 0; i < numEdges; i++) {
+                treeOffsets[treeStarts[i] + 1]++;
+                treeOffsets[treeEnds[i] + 1]++;
+            }
+            for (var node = 0; node < numNodes; node++)
+                treeOffsets[node + 1] += treeOffsets[node];
+            var treeArcs = new int[treeOffsets[numNodes]];
+            var treeCursors = Arrays.copyOf(treeOffsets, numNodes);
+            for (var i = 0; i < numEdges; i++) {
+                treeArcs[treeCursors[treeStarts[i]]++] = i;
+                treeArcs[treeCursors[treeEnds[i]]++] = i;
+            }
+
+            var queryOffsets = new int[numNodes + 1];
+            for (var i = 0; i < numQueries; i++) {
+                queryOffsets[queryStarts[i] + 1]++;
+                queryOffsets[queryEnds[i] + 1]++;
+            }
+            for (var node = 0; node < numNodes; node++)
+                queryOffsets[node + 1] += queryOffsets[node];
+            var nodeQueries = new int[queryOffsets[numNodes]];
+            var queryCursors = Arrays.copyOf(queryOffsets, numNodes);
+            for (var i = 0; i < numQueries; i++) {
+                nodeQueries[queryCursors[queryStarts[i]]++] = i;
+                nodeQueries[queryCursors[queryEnds[i]]++] = i;
+            }
+
+            // The queries answered once their lowest common ancestor is finished, chained per ancestor.
+            var pendingHeads = new int[numNodes];
+            var pendingNext = new int[numQueries];
+            Arrays.fill(pendingHeads, NONE);
+
+            var finished = new boolean[numNodes];
+            var visited = new boolean[numNodes];
+            var parentWeights = new double[numNodes];
+            var treeParents = new int[numNodes];
+            var stack = new int[numNodes];
+            var cursors = Arrays.copyOf(treeOffsets, numNodes);
+            var first = NONE;
+
+            for (var node = 0; node < numNodes; node++) {
+                parents[node] = node;
+                maxima[node] = Double.NEGATIVE_INFINITY;
+            }
+
+            for (var root = 0; root < numNodes; root++) {
+                if (visited[root])
+                    continue;
+
+                var depth = 0;
+                stack[depth++] = root;
+                visited[root] = true;
+                treeParents[root] = NONE;
+
+                while (depth > 0) {
+                    var node = stack[depth - 1];
+
+                    if (cursors[node] < treeOffsets[node + 1]) {
+                        var arc = treeArcs[cursors[node]++];
+                        var child = treeStarts[arc] == node ? treeEnds[arc] : treeStarts[arc];
+                        if (!visited[child]) {
+                            visited[child] = true;
+                            treeParents[child] = node;
+                            parentWeights[child] = treeWeights[arc];
+                            stack[depth++] = child;
+                        }
+                        continue;
+                    }
+
+                    // Every child is finished and linked under the node: find the ancestors of its queries.
+                    depth--;
+                    finished[node] = true;
+                    for (var i = queryOffsets[node]; i < queryOffsets[node + 1]; i++) {
+                        var query = nodeQueries[i];
+                        var other = queryStarts[query] == node ? queryEnds[query] : queryStarts[query];
+                        if (finished[other]) {
+                            var ancestor = find(other);
+                            pendingNext[query] = pendingHeads[ancestor];
+                            pendingHeads[ancestor] = query;
+                        }
+                    }
+
+                    // Both ends of these queries are now linked under the node, which is still the root of their set.
+                    for (var query = pendingHeads[node]; query != NONE; query = pendingNext[query]) {
+                        find(queryStarts[query]);
+                        find(queryEnds[query]);
+                        var heaviest = Math.max(pathMax(queryStarts[query]), pathMax(queryEnds[query]));
+                        if (heaviest > queryWeights[query] && (first == NONE || queryIds[query] < first))
+                            first = queryIds[query];
+                    }
+
+                    if (treeParents[node] != NONE) {
+                        parents[node] = treeParents[node];
+                        maxima[node] = parentWeights[node];
+                    }
+                }
+            }
+
+            return first;
+        }
+
+        // Compresses the path of the node to the root of its set, keeping the heaviest weight along the way.
+        private int find(int node) {
+            var root = node;
+            while (parents[root] != root)
+                root = parents[root];
+
+            // Walk the path twice: first collect it, then fold the maxima from the top.
+            var length = 0;
+            for (var current = node; current != root && parents[current] != root; current = parents[current])
+                path[length++] = current;
+            while (length > 0) {
+                var current = path[--length];
+                var parent = parents[current];
+                maxima[current] = Math.max(maxima[current], maxima[parent]);
+                parents[current] = root;
+            }
+            return root;
+        }
+
+        // The heaviest weight between a node and the root of its set, right after find compressed it.
+        private double pathMax(int node) {
+            return parents[node] == node ? Double.NEGATIVE_INFINITY : maxima[node];
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Represents a relaxed concurrent priority queue, made of several sequential heaps
+ * each guarded by its own lock.
+ * An element is pushed onto a random heap, and {@link #poll()} removes the
+ * better of the tops of two random heaps; a thread that finds a heap locked just
+ * picks other ones instead of waiting. Threads thus rarely contend on the same
+ * lock, at the price of an order that is only approximately by priority: the
+ * element returned is, with high probability, among the first few in the queue.
+ * {@link #top()} and {@link #pop()} keep the exact contract of
+ * {@link AbstractQueue} instead, by scanning the tops of all the heaps.
+ * Like a non-indexed {@link PriorityQueue}, it accepts duplicate elements and
+ * supports neither {@link #contains} nor {@link #remove}.
+ *
+ * @param <E> The type of elements in the multi-queue.
+ * @implNote All the operations are thread-safe. {@link #empty()}, {@link #top()}
+ * and {@link #pop()} read the tops of the heaps without locking, so they are
+ * exact only while no other thread is modifying the queue.
+ */
+public final class MultiQueue<E> implements AbstractQueue<E> {
+    /**
+     * The default number of heaps per available core.
+     */
+    public static final int DEFAULT_HEAPS_PER_CORE = 2;
+
+    private final Comparator<E> comparator;
+    private final PriorityQueue<E>[] heaps;
+    private final ReentrantLock[] locks;
+    private final AtomicReferenceArray<E> tops;
+
+    /**
+     * Constructs a new, empty {@link MultiQueue} with
+     * {@link #DEFAULT_HEAPS_PER_CORE} heaps per available core.
+     * The provided comparator shall not be {@code null}.
+     *
+     * @param comparator The comparator used to compare elements priority in the
+     *                   multi-queue.
+     */
+    public MultiQueue(@NotNull Comparator<E> comparator) {
+        this(comparator, DEFAULT_HEAPS_PER_CORE * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new, empty {@link MultiQueue}.
+     * The provided comparator shall not be {@code null}.
+     *
+     * @param comparator The comparator used to compare elements priority in the
+     *                   multi-queue.
+     * @param numHeaps   The number of heaps. It shall be positive; with a single
+     *                   heap the order is exact, but every operation contends on
+     *                   the same lock.
+     * @throws IllegalArgumentException If the number of heaps is not positive.
+     */
+    public MultiQueue(@NotNull Comparator<E> comparator, int numHeaps) {
+        Objects.requireNonNull(comparator);
+        if (numHeaps <= 0)
+            throw new IllegalArgumentException("The number of heaps must be positive");
+
+        this.comparator = comparator;
+        @SuppressWarnings("unchecked")
+        var heaps = (PriorityQueue<E>[]) new PriorityQueue<?>[numHeaps];
+        this.heaps = heaps;
+        this.locks = new ReentrantLock[numHeaps];
+        this.tops = new AtomicReferenceArray<>(numHeaps);
+
+        for (var i = 0; i < numHeaps; i++) {
+            heaps[i] = new PriorityQueue<>(comparator, false);
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Gets the number of heaps.
+     *
+     * @return The number of heaps.
+     */
+    @Contract(pure = true)
+    public int numHeaps() {
+        return heaps.length;
+    }
+
+    /**
+     * Checks whether the multi-queue is empty or not.
+     *
+     * @return {@code true} if all the heaps are empty, {@code false} otherwise.
+     * @implNote This operation has linear time complexity O(H) in the number of
+     * heaps.
+     */
+    @Override
+    @Contract(pure = true)
+    public boolean empty() {
+        for (var i = 0; i < heaps.length; i++) {
+            if (tops.get(i) != null)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Pushes an element onto a random heap of the multi-queue.
+     * The element shall not be {@code null}.
+     *
+     * @param element The element to be pushed.
+     * @return {@code true}, as duplicate elements are accepted.
+     * @implNote This operation has logarithmic time complexity O(log N), plus the
+     * retries on locked heaps.
+     */
+    @Override
+    @Contract(mutates = "this")
+    public boolean push(@NotNull E element) {
+        Objects.requireNonNull(element);
+
+        var random = ThreadLocalRandom.current();
+        while (true) {
+            var i = random.nextInt(heaps.length);
+            if (!locks[i].tryLock())
+                continue;
+
+            try {
+                heaps[i].push(element);
+                tops.set(i, heaps[i].top());
+                return true;
+            } finally {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Not supported, as the multi-queue does not index its elements.
+     *
+     * @param element The element to check for existence.
+     * @return Never.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    @Contract("_ -> fail")
+    public boolean contains(@NotNull E element) {
+        throw new UnsupportedOperationException("A multi-queue cannot look up its elements");
+    }
+
+    /**
+     * Accesses the element at the top of the multi-queue without removing it.
+     * Since other threads may pop it at any moment, concurrent consumers should use
+     * {@link #poll()} instead.
+     *
+     * @return The element with the highest priority among the tops of all the
+     * heaps, or {@code null} if the multi-queue is empty.
+     * @implNote This operation has linear time complexity O(H) in the number of
+     * heaps.
+     */
+    @Override
+    @Contract(pure = true)
+    public @Nullable E top() {
+        var i = bestHeap();
+        return i < 0 ? null : tops.get(i);
+    }
+
+    /**
+     * Removes the element at the top of the multi-queue, the one {@link #top()}
+     * reports.
+     *
+     * @throws NoSuchElementException If the multi-queue is empty.
+     * @implNote This operation has time complexity O(H + log N), and waits for the
+     * lock of the heap holding the top.
+     */
+    @Override
+    @Contract(mutates = "this")
+    public void pop() {
+        while (true) {
+            var i = bestHeap();
+            if (i < 0)
+                throw new NoSuchElementException("Cannot pop from an empty multi-queue");
+
+            var top = tops.get(i);
+            locks[i].lock();
+            try {
+                // Another thread has changed the heap since its top was read: look again.
+                var heap = heaps[i];
+                if (heap.empty() || heap.top() != top)
+                    continue;
+
+                heap.pop();
+                tops.set(i, heap.top());
+                return;
+            } finally {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes and returns an element close to the top of the multi-queue: the top
+     * of the better of two random heaps.
+     *
+     * @return The removed element, or {@code null} if the multi-queue is empty.
+     * @implNote This operation has logarithmic time complexity O(log N), plus the
+     * retries on locked heaps; when both the random heaps are empty, all the heaps
+     * are scanned.
+     */
+    @Contract(mutates = "this")
+    public @Nullable E poll() {
+        var random = ThreadLocalRandom.current();
+        while (true) {
+            var i = random.nextInt(heaps.length);
+            var j = random.nextInt(heaps.length);
+            var top = tops.get(i);
+            var other = tops.get(j);
+
+            if (top == null || (other != null && comparator.compare(other, top) < 0)) {
+                i = j;
+                top = other;
+            }
+
+            if (top == null) {
+                i = nonEmptyHeap(i);
+                if (i < 0)
+                    return null;
+            }
+
+            if (!locks[i].tryLock())
+                continue;
+
+            try {
+                var heap = heaps[i];
+                if (heap.empty())
+                    continue;
+
+                var element = heap.top();
+                heap.pop();
+                tops.set(i, heap.top());
+                return element;
+            } finally {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Not supported, as the multi-queue does not index its elements.
+     *
+     * @param element The element to be removed.
+     * @return Never.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    @Contract("_ -> fail")
+    public boolean remove(@NotNull E element) {
+        throw new UnsupportedOperationException("A multi-queue cannot look up its elements");
+    }
+
+    // The heap whose top has the highest priority, or -1 if all the heaps are empty.
+    private int bestHeap() {
+        var best = -1;
+        E bestTop = null;
+        for (var i = 0; i < heaps.length; i++) {
+            var top = tops.get(i);
+            if (top != null && (bestTop == null || comparator.compare(top, bestTop) < 0)) {
+                best = i;
+                bestTop = top;
+            }
+        }
+        return best;
+    }
+
+    private int nonEmptyHeap(int from) {
+        // Start from a random heap, so that threads draining the last elements spread over the heaps.
+        for (var k = 0; k < heaps.length; k++) {
+            var i = (from + k) % heaps.length;
+            if (tops.get(i) != null)
+                return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,598 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.*;
+
+/**
+ * Represents a weighted graph whose adjacency lives outside the Java heap.
+ * Nodes are the integers in {@code [0, capacity)}. Every node keeps a linked list
+ * of outgoing arcs, and every arc (next arc, end node and weight) is stored in
+ * direct {@link ByteBuffer} chunks, so the heap footprint does not depend on the
+ * number of edges and the garbage collector never has to trace them.
+ * An undirected edge is stored as two arcs, as in {@link Graph}.
+ *
+ * @implNote Nodes, edges and neighbours returned through the {@link AbstractGraph}
+ * interface are boxed on demand. Bulk consumers should prefer
+ * {@link #forEachEdge(int, EdgeConsumer)} and the primitive overloads.
+ */
+@SuppressWarnings("Contract")
+public final class OffHeapGraph implements AbstractGraph<Integer, Double> {
+    /**
+     * Consumer of the outgoing arcs of a node.
+     */
+    @FunctionalInterface
+    public interface EdgeConsumer {
+        /**
+         * Consumes an arc.
+         *
+         * @param end    The end node of the arc.
+         * @param weight The weight of the arc.
+         */
+        void accept(int end, double weight);
+    }
+
+    static final int NO_ARC = -1;
+
+    private static final int CHUNK_BITS = 20;
+    private static final int CHUNK_ARCS = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_ARCS - 1;
+    private static final int ARC_BYTES = 16;
+    private static final int NEXT_OFFSET = 0;
+    private static final int END_OFFSET = 4;
+    private static final int WEIGHT_OFFSET = 8;
+
+    private final boolean directed;
+    private final int capacity;
+    private final ByteBuffer present;
+    private final IntBuffer heads;
+    private final List<ByteBuffer> chunks;
+    private int usedArcs;
+    private int freeArc;
+    private int numNodes;
+    private int numEdges;
+
+    /**
+     * Constructs a new, empty {@link OffHeapGraph} able to hold the nodes
+     * {@code [0, capacity)}.
+     *
+     * @param directed {@code true} if the graph is directed, {@code false}
+     *                 otherwise.
+     * @param capacity The number of node ids the graph can address. It shall be
+     *                 positive and at most {@code Integer.MAX_VALUE / 4}.
+     * @throws IllegalArgumentException If the capacity is out of range.
+     */
+    public OffHeapGraph(boolean directed, int capacity) {
+        if (capacity <= 0 || capacity > Integer.MAX_VALUE / Integer.BYTES)
+            throw new IllegalArgumentException("Capacity out of range: " + capacity);
+
+        this.directed = directed;
+        this.capacity = capacity;
+        this.present = ByteBuffer.allocateDirect(capacity);
+        this.heads = ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+        this.chunks = new ArrayList<>();
+        this.usedArcs = 0;
+        this.freeArc = NO_ARC;
+        this.numNodes = 0;
+        this.numEdges = 0;
+
+        for (int i = 0; i < capacity; i++)
+            heads.put(i, NO_ARC);
+    }
+
+    /**
+     * Gets the number of node ids the graph can address.
+     *
+     * @return The capacity of the graph.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Checks if the graph is directed.
+     *
+     * @return {@code true} if the graph is directed, {@code false} otherwise.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public boolean isDirected() {
+        return directed;
+    }
+
+    /**
+     * Checks if the graph is labelled. An {@link OffHeapGraph} is always labelled
+     * with the weights of its edges.
+     *
+     * @return {@code true}.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public boolean isLabelled() {
+        return true;
+    }
+
+    /**
+     * Adds a node to the graph.
+     * The node shall not be {@code null}.
+     *
+     * @param node The node to be added.
+     * @return {@code true} if the node was successfully added, {@code false}
+     * otherwise.
+     * @throws IllegalArgumentException If the node is out of the capacity of the
+     *                                  graph.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(mutates = "this")
+    public boolean addNode(@NotNull Integer node) {
+        Objects.requireNonNull(node);
+        return addNode(node.intValue());
+    }
+
+    /**
+     * Adds a node to the graph.
+     *
+     * @param node The node to be added.
+     * @return {@code true} if the node was successfully added, {@code false}
+     * otherwise.
+     * @throws IllegalArgumentException If the node is out of the capacity of the
+     *                                  graph.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(mutates = "this")
+    public boolean addNode(int node) {
+        checkRange(node);
+
+        if (present.get(node) != 0)
+            return false;
+
+        present.put(node, (byte) 1);
+        numNodes++;
+        return true;
+    }
+
+    /**
+     * Adds an edge from node {@code start} to node {@code end} if the graph is
+     * directed, or between node {@code start} to node {@code end} if the graph is
+     * undirected.
+     * The provided nodes and label shall not be {@code null}.
+     *
+     * @param start The start node of the edge.
+     * @param end   The end node of the edge.
+     * @param label The weight of the edge.
+     * @return {@code true} if the edge was successfully added,
+     * {@code false otherwise}.
+     * @implNote This operation has time complexity proportional to the degree of
+     * {@code start}.
+     */
+    @Override
+    @Contract(mutates = "this")
+    public boolean addEdge(@NotNull Integer start, @NotNull Integer end, @NotNull Double label) {
+        Objects.requireNonNull(start);
+        Objects.requireNonNull(end);
+        Objects.requireNonNull(label);
+
+        return addEdge(start.intValue(), end.intValue(), label.doubleValue());
+    }
+
+    /**
+     * Adds an edge from node {@code start} to node {@code end} if the graph is
+     * directed, or between node {@code start} to node {@code end} if the graph is
+     * undirected.
+     * An edge can be added if and only if the graph contains the two nodes and
+     * they are not linked yet.
+     *
+     * @param start  The start node of the edge.
+     * @param end    The end node of the edge.
+     * @param weight The weight of the edge.
+     * @return {@code true} if the edge was successfully added,
+     * {@code false otherwise}.
+     * @implNote This operation has time complexity proportional to the degree of
+     * {@code start}.
+     */
+    @Contract(mutates = "this")
+    public boolean addEdge(int start, int end, double weight) {
+        if (!containsNode(start) || !containsNode(end) || findArc(start, end) != NO_ARC)
+            return false;
+
+        linkArc(start, end, weight);
+        numEdges++;
+
+        if (!directed && start != end) {
+            linkArc(end, start, weight);
+            numEdges++;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if a node is present in the graph.
+     * The node shall not be {@code null}.
+     *
+     * @param node The node to check for.
+     * @return {@code true} if the node is present in the graph, {@code false}
+     * otherwise.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public boolean containsNode(@NotNull Integer node) {
+        Objects.requireNonNull(node);
+        return containsNode(node.intValue());
+    }
+
+    /**
+     * Checks if a node is present in the graph.
+     *
+     * @param node The node to check for.
+     * @return {@code true} if the node is present in the graph, {@code false}
+     * otherwise.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public boolean containsNode(int node) {
+        return node >= 0 && node < capacity && present.get(node) != 0;
+    }
+
+    /**
+     * Checks if a node is present from node {@code start} to {@code end} if the
+     * graph is directed, or between {@code start} and {@code end} if the graph is
+     * undirected.
+     * The nodes shall not be {@code null}.
+     *
+     * @param start The start node of the edge.
+     * @param end   The end node of the edge.
+     * @implNote This operation has time complexity proportional to the degree of
+     * {@code start}.
+     */
+    @Override
+    @Contract(pure = true)
+    public boolean containsEdge(@NotNull Integer start, @NotNull Integer end) {
+        Objects.requireNonNull(start);
+        Objects.requireNonNull(end);
+
+        return containsNode(start.intValue()) && findArc(start, end) != NO_ARC;
+    }
+
+    /**
+     * Removes a node from the graph, deleting also the edges linked from and linked
+     * to it.
+     * The node shall not be {@code null}.
+     *
+     * @param node The node to be removed.
+     * @return {@code true} if the node was successfully removed, {@code false}
+     * otherwise.
+     * @implNote This operation has linear time complexity O(N) on undirected
+     * graphs, and has to scan every arc on directed ones.
+     */
+    @Override
+    @Contract(mutates = "this")
+    public boolean removeNode(@NotNull Integer node) {
+        Objects.requireNonNull(node);
+
+        int id = node;
+        if (!containsNode(id))
+            return false;
+
+        // Detach the incoming arcs first, while the outgoing ones can still be used to find them.
+        if (directed) {
+            for (int other = 0; other < capacity; other++) {
+                if (other != id && present.get(other) != 0 && unlinkArc(other, id))
+                    numEdges--;
+            }
+        } else {
+            for (int arc = heads.get(id); arc != NO_ARC; arc = arcNext(arc)) {
+                if (arcEnd(arc) != id && unlinkArc(arcEnd(arc), id))
+                    numEdges--;
+            }
+        }
+
+        int arc = heads.get(id);
+        while (arc != NO_ARC) {
+            int next = arcNext(arc);
+            releaseArc(arc);
+            numEdges--;
+            arc = next;
+        }
+
+        heads.put(id, NO_ARC);
+        present.put(id, (byte) 0);
+        numNodes--;
+        return true;
+    }
+
+    /**
+     * Removes an edge between two nodes from the graph.
+     * The nodes shall not be {@code null}.
+     *
+     * @param start The start node of the edge.
+     * @param end   The end node of the edge.
+     * @return {@code true} if the edge was successfully removed, {@code false}
+     * otherwise.
+     * @implNote This operation has time complexity proportional to the degree of
+     * the two nodes.
+     */
+    @Override
+    @Contract(mutates = "this")
+    public boolean removeEdge(@NotNull Integer start, @NotNull Integer end) {
+        Objects.requireNonNull(start);
+        Objects.requireNonNull(end);
+
+        int from = start;
+        int to = end;
+        if (!containsNode(from) || !containsNode(to) || !unlinkArc(from, to))
+            return false;
+
+        numEdges--;
+
+        if (!directed && from != to && unlinkArc(to, from))
+            numEdges--;
+
+        return true;
+    }
+
+    /**
+     * Gets the number of nodes in the graph.
+     *
+     * @return The number of nodes in the graph.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public int numNodes() {
+        return numNodes;
+    }
+
+    /**
+     * Gets the number of edges in the graph.
+     *
+     * @return The number of edges in the graph.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Override
+    @Contract(pure = true)
+    public int numEdges() {
+        return numEdges;
+    }
+
+    /**
+     * Gets a readonly view of the nodes in the graph.
+     *
+     * @return A collection of all the nodes in the graph.
+     * @implNote This operation has constant time complexity O(1); iterating the
+     * view scans the whole capacity.
+     */
+    @Override
+    @Contract(pure = true)
+    public @NotNull @Unmodifiable Collection<Integer> getNodes() {
+        return new AbstractCollection<>() {
+            @Override
+            public @NotNull Iterator<Integer> iterator() {
+                return new Iterator<>() {
+                    private int next = advance(0);
+
+                    private int advance(int from) {
+                        while (from < capacity && present.get(from) == 0)
+                            from++;
+                        return from;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < capacity;
+                    }
+
+                    @Override
+                    public Integer next() {
+                        if (!hasNext())
+                            throw new NoSuchElementException();
+
+                        int node = next;
+                        next = advance(next + 1);
+                        return node;
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof Integer node && containsNode(node.intValue());
+            }
+
+            @Override
+            public int size() {
+                return numNodes;
+            }
+        };
+    }
+
+    /**
+     * Gets a collection of all the edges in the graph, copied onto the heap.
+     *
+     * @return A collection of all the edges in the graph.
+     * @implNote This operation has linear time complexity O(N) and allocates one
+     * {@link Edge} per arc.
+     */
+    @Override
+    @Contract(pure = true)
+    public @NotNull Collection<? extends AbstractEdge<Integer, Double>> getEdges() {
+        var edgeList = new ArrayList<Edge<Integer, Double>>(numEdges);
+        for (int node = 0; node < capacity; node++) {
+            if (present.get(node) == 0)
+                continue;
+
+            final int start = node;
+            forEachEdge(node, (end, weight) -> edgeList.add(new Edge<>(start, end, weight)));
+        }
+        return edgeList;
+    }
+
+    /**
+     * Get a collection of neighbouring nodes for the given node.
+     * The node shall not be {@code null} and shall be present in the graph.
+     *
+     * @param node The node for which neighbours are to be received.
+     * @return A collection of neighbouring nodes for the given node.
+     * @throws IllegalStateException If the node is not present in the graph.
+     * @implNote This operation has time complexity proportional to the degree of
+     * the node.
+     */
+    @Override
+    @Contract(pure = true)
+    public @NotNull @Unmodifiable Collection<Integer> getNeighbours(@NotNull Integer node) {
+        Objects.requireNonNull(node);
+
+        if (!containsNode(node.intValue()))
+            throw new IllegalStateException("The graph does not contain the provided node");
+
+        var neighbours = new ArrayList<Integer>();
+        forEachEdge(node, (end, weight) -> neighbours.add(end));
+        return Collections.unmodifiableList(neighbours);
+    }
+
+    /**
+     * Gets the weight of the edge between nodes {@code start} and node
+     * {@code end}.
+     * The nodes shall not be {@code null}.
+     *
+     * @param start The start node of the edge.
+     * @param end   The end node of the edge.
+     * @return The weight of the edge, if exists, or {@code null} if the edge does
+     * not exist.
+     * @implNote This operation has time complexity proportional to the degree of
+     * {@code start}.
+     */
+    @Override
+    @Contract(pure = true)
+    public @Nullable Double getLabel(@NotNull Integer start, @NotNull Integer end) {
+        Objects.requireNonNull(start);
+        Objects.requireNonNull(end);
+
+        if (!containsNode(start.intValue()))
+            return null;
+
+        int arc = findArc(start, end);
+        return arc == NO_ARC ? null : arcWeight(arc);
+    }
+
+    /**
+     * Visits every outgoing arc of a node, without allocating.
+     * The node shall be present in the graph.
+     *
+     * @param node     The node whose arcs are visited.
+     * @param consumer The consumer of the arcs.
+     * @throws IllegalStateException If the node is not present in the graph.
+     * @implNote This operation has time complexity proportional to the degree of
+     * the node.
+     */
+    public void forEachEdge(int node, @NotNull EdgeConsumer consumer) {
+        Objects.requireNonNull(consumer);
+
+        if (!containsNode(node))
+            throw new IllegalStateException("The graph does not contain the provided node");
+
+        for (int arc = heads.get(node); arc != NO_ARC; arc = arcNext(arc))
+            consumer.accept(arcEnd(arc), arcWeight(arc));
+    }
+
+    // Cursor-style accessors used by the engines to walk the arcs without lambdas.
+
+    int firstArc(int node) {
+        return heads.get(node);
+    }
+
+    int arcNext(int arc) {
+        return chunk(arc).getInt(arcOffset(arc) + NEXT_OFFSET);
+    }
+
+    int arcEnd(int arc) {
+        return chunk(arc).getInt(arcOffset(arc) + END_OFFSET);
+    }
+
+    double arcWeight(int arc) {
+        return chunk(arc).getDouble(arcOffset(arc) + WEIGHT_OFFSET);
+    }
+
+    private int findArc(int start, int end) {
+        for (int arc = heads.get(start); arc != NO_ARC; arc = arcNext(arc)) {
+            if (arcEnd(arc) == end)
+                return arc;
+        }
+        return NO_ARC;
+    }
+
+    private void linkArc(int start, int end, double weight) {
+        int arc = allocateArc();
+        var chunk = chunk(arc);
+        int offset = arcOffset(arc);
+
+        chunk.putInt(offset + NEXT_OFFSET, heads.get(start));
+        chunk.putInt(offset + END_OFFSET, end);
+        chunk.putDouble(offset + WEIGHT_OFFSET, weight);
+        heads.put(start, arc);
+    }
+
+    private boolean unlinkArc(int start, int end) {
+        int previous = NO_ARC;
+        for (int arc = heads.get(start); arc != NO_ARC; previous = arc, arc = arcNext(arc)) {
+            if (arcEnd(arc) != end)
+                continue;
+
+            if (previous == NO_ARC)
+                heads.put(start, arcNext(arc));
+            else
+                chunk(previous).putInt(arcOffset(previous) + NEXT_OFFSET, arcNext(arc));
+
+            releaseArc(arc);
+            return true;
+        }
+        return false;
+    }
+
+    private int allocateArc() {
+        if (freeArc != NO_ARC) {
+            int arc = freeArc;
+            freeArc = arcNext(arc);
+            return arc;
+        }
+
+        if (usedArcs == Integer.MAX_VALUE)
+            throw new IllegalStateException("The graph cannot hold more edges");
+
+        if ((usedArcs & CHUNK_MASK) == 0 && (usedArcs >>> CHUNK_BITS) == chunks.size())
+            chunks.add(ByteBuffer.allocateDirect(CHUNK_ARCS * ARC_BYTES).order(ByteOrder.nativeOrder()));
+
+        return usedArcs++;
+    }
+
+    // Released arcs are chained through their "next" field and reused by later insertions.
+    private void releaseArc(int arc) {
+        chunk(arc).putInt(arcOffset(arc) + NEXT_OFFSET, freeArc);
+        freeArc = arc;
+    }
+
+    private ByteBuffer chunk(int arc) {
+        return chunks.get(arc >>> CHUNK_BITS);
+    }
+
+    private static int arcOffset(int arc) {
+        return (arc & CHUNK_MASK) * ARC_BYTES;
+    }
+
+    private void checkRange(int node) {
+        if (node < 0 || node >= capacity)
+            throw new IllegalArgumentException("Node out of range: " + node);
+    }
+}
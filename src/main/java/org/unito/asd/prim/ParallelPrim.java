@@ -0,0 +1,214 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Implements a parallel variant of Prim's algorithm that grows many trees at once.
+ * Every worker repeatedly picks an unclaimed seed and grows a tree from it as the
+ * eager Prim's algorithm does, claiming each node it reaches with an atomic
+ * compare-and-set. A tree stops growing when its lightest outgoing arc reaches a
+ * node already claimed by another tree: up to that point each arc added is the
+ * lightest one leaving the tree, so all of them belong to a minimum spanning
+ * forest. Once every node is claimed, the trees are contracted and joined by
+ * Kruskal's algorithm over the arcs linking different trees, which are usually
+ * far fewer than the arcs of the graph.
+ * Only undirected graphs are supported.
+ *
+ * @implNote Besides the claims shared by all the workers, every worker only holds
+ * the frontier of its current tree and the arcs of its trees, so adding workers
+ * does not multiply the memory taken by the nodes of the graph.
+ */
+public final class ParallelPrim implements MsfSolver {
+    private static final int UNCLAIMED = -1;
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private final int numWorkers;
+
+    /**
+     * Constructs a new {@link ParallelPrim} solver with a worker per available
+     * core.
+     */
+    public ParallelPrim() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new {@link ParallelPrim} solver.
+     *
+     * @param numWorkers The number of trees grown at once, each on its own thread.
+     *                   It shall be positive.
+     * @throws IllegalArgumentException If the number of workers is not positive.
+     */
+    public ParallelPrim(int numWorkers) {
+        if (numWorkers <= 0)
+            throw new IllegalArgumentException("The number of workers must be positive");
+
+        this.numWorkers = numWorkers;
+    }
+
+    /**
+     * Computes the minimum spanning forest for a given undirected graph.
+     * Graphs with few edges are processed by a single worker.
+     *
+     * @param graph the graph to compute the minimum spanning forest for
+     * @param <V>   the type of vertices in the graph
+     * @param <L>   the type of the edge label (weight), must extend Number
+     * @return a collection of edges representing the minimum spanning forest
+     * @throws IllegalArgumentException if the graph is directed
+     */
+    @Override
+    @Contract(pure = true)
+    public <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(@NotNull AbstractGraph<V, L> graph) {
+        if (graph.isDirected())
+            throw new IllegalArgumentException("The parallel Prim's algorithm requires an undirected graph");
+
+        var csr = CsrGraph.of(graph);
+        var numNodes = csr.numNodes();
+        var owners = new AtomicIntegerArray(numNodes);
+        for (var node = 0; node < numNodes; node++)
+            owners.set(node, UNCLAIMED);
+
+        var seeds = new Seeds(numNodes);
+        var workers = new ArrayList<Worker>();
+        for (var i = csr.numArcs() < PARALLEL_THRESHOLD ? 1 : numWorkers; i > 0; i--)
+            workers.add(new Worker(csr, owners, seeds));
+
+        if (workers.size() == 1) {
+            workers.getFirst().run();
+        } else {
+            try (var pool = new ForkJoinPool(workers.size())) {
+                var tasks = new ArrayList<ForkJoinTask<?>>();
+                for (var worker : workers)
+                    tasks.add(pool.submit(worker));
+                for (var task : tasks)
+                    task.join();
+            }
+        }
+
+        var msf = new ArrayList<AbstractEdge<V, L>>();
+        for (var worker : workers) {
+            for (var i = 0; i < worker.numTreeArcs; i++)
+                msf.add(csr.edge(worker.treeArcs[i]));
+            PrimMetrics.get().recordQueueSize(worker.heap.peakSize());
+        }
+
+        contract(csr, owners, msf);
+        return msf;
+    }
+
+    /**
+     * Hands out the seeds in a scattered order, so that the first trees start far
+     * from each other in the numbering of the nodes, which often follows locality.
+     */
+    private static final class Seeds {
+        private final int numNodes;
+        private final int stride;
+        private final AtomicInteger next = new AtomicInteger();
+
+        private Seeds(int numNodes) {
+            this.numNodes = numNodes;
+
+            // Any stride coprime with the number of nodes visits all of them.
+            var stride = Math.max(1, (int) (numNodes * 0.6180339887));
+            while (gcd(stride, numNodes) != 1)
+                stride++;
+            this.stride = stride;
+        }
+
+        private int next() {
+            var k = next.getAndIncrement();
+            return k < numNodes ? (int) ((long) k * stride % numNodes) : -1;
+        }
+
+        private static int gcd(int a, int b) {
+            while (b != 0) {
+                var t = a % b;
+                a = b;
+                b = t;
+            }
+            return a;
+        }
+    }
+
+    private static final class Worker implements Runnable {
+        private final CsrGraph<?, ?> csr;
+        private final AtomicIntegerArray owners;
+        private final Seeds seeds;
+        private final FrontierHeap heap = new FrontierHeap();
+        private int[] treeArcs = new int[16];
+        private int numTreeArcs;
+
+        private Worker(CsrGraph<?, ?> csr, AtomicIntegerArray owners, Seeds seeds) {
+            this.csr = csr;
+            this.owners = owners;
+            this.seeds = seeds;
+        }
+
+        @Override
+        public void run() {
+            int seed;
+            while ((seed = seeds.next()) >= 0) {
+                if (owners.compareAndSet(seed, UNCLAIMED, seed))
+                    grow(seed);
+            }
+        }
+
+        private void grow(int tree) {
+            var node = tree;
+            while (true) {
+                // Arcs towards other trees stay in the heap: they are part of the cut this tree has to respect.
+                for (var arc = csr.firstArc(node); arc < csr.endArc(node); arc++) {
+                    var end = csr.target(arc);
+                    if (owners.get(end) != tree)
+                        heap.pushOrDecrease(end, csr.weight(arc), arc);
+                }
+
+                if (heap.isEmpty())
+                    break;
+
+                // The lightest arc leaving the tree reaches another tree: leave the link to the contraction.
+                var parentArc = heap.minArc();
+                node = heap.pop();
+                if (!owners.compareAndSet(node, UNCLAIMED, tree))
+                    break;
+
+                if (numTreeArcs == treeArcs.length)
+                    treeArcs = Arrays.copyOf(treeArcs, 2 * numTreeArcs);
+                treeArcs[numTreeArcs++] = parentArc;
+            }
+
+            heap.clear();
+        }
+    }
+
+    private static <V, L extends Number> void contract(CsrGraph<V, L> csr, AtomicIntegerArray owners,
+                                                       Collection<AbstractEdge<V, L>> msf) {
+        var count = 0;
+        var arcs = csr.undirectedArcs();
+        for (var arc : arcs) {
+            if (owners.get(csr.source(arc)) != owners.get(csr.target(arc)))
+                arcs[count++] = arc;
+        }
+
+        var weights = new double[count];
+        for (var i = 0; i < count; i++)
+            weights[i] = csr.weight(arcs[i]);
+        Sorting.radixSort(weights, arcs, 0, count);
+
+        // Every tree is named after its seed, so the trees can be joined on the node indices.
+        var disjointSet = new DisjointSet(csr.numNodes());
+        for (var i = 0; i < count; i++) {
+            if (disjointSet.union(owners.get(csr.source(arcs[i])), owners.get(csr.target(arcs[i]))))
+                msf.add(csr.edge(arcs[i]));
+        }
+    }
+}
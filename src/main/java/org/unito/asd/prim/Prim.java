@@ -4,12 +4,12 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.file.Path;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashSet;
+import java.util.Objects;
 
 /**
  * A class implementing Prim's algorithm to compute the minimum spanning forest (MSF)
@@ -17,10 +17,12 @@ import java.util.HashSet;
  * the minimum total weight, ensuring that there is no cycle.
  */
 public class Prim {
+    private static final long DEFAULT_WATCH_INTERVAL = 1_000;
+
     /**
      * Computes the minimum spanning forest for a given graph.
-     * Prim's algorithm is applied to each unvisited node, and edges are added
-     * to the forest in the order of their weight, ensuring no cycles.
+     * The algorithm is chosen by {@link MsfPlanner} according to the size, the
+     * density and the kind of the graph.
      *
      * @param graph the graph to compute the minimum spanning forest for
      * @param <V>   the type of vertices in the graph
@@ -28,57 +30,47 @@ public class Prim {
      * @return a collection of edges representing the minimum spanning forest
      */
     @Contract(pure = true)
-    public static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(@NotNull Graph<V, L> graph) {
-        var visitedNodes = new HashSet<V>(graph.numNodes());
-        var priorityQueue = new PriorityQueue<Edge<V, L>>(Comparator.comparing(edge -> edge.getLabel().doubleValue()));
-        var msf = new ArrayList<AbstractEdge<V, L>>();
-
-        // Iter through all the nodes to make sure every mst is considered.
-        for (var node : graph.getNodes()) {
-            // If the node has been already visited, continue with the next one, otherwise, mark it as visited.
-            if (!visitedNodes.add(node))
-                continue;
-
-            // Loop until eventually all the nodes has been analyzed
-            // this condition is true iff there is only one mst in the graph, otherwise the "break" from below will be used.
-            while (visitedNodes.size() < graph.numNodes()) {
-
-                // Add all the edges from the current node to its neighbours to the priority queue.
-                for (var neighbour : graph.getNeighbours(node)) {
-                    // Optimization: Add it iff the node has not been considered yet.
-                    if (!visitedNodes.contains(neighbour)) {
-                        var edge = new Edge<>(node, neighbour, graph.getLabel(node, neighbour));
-                        priorityQueue.push(edge);
-                    }
-                }
-
-                // Keep extracting the min edge from the priority queue,
-                // until the priority queue is empty (the mst is complete) or
-                // the end node of the edge has already been visited (it should be ignored).
-                var minEdge = priorityQueue.top();
-                while (minEdge != null && visitedNodes.contains(minEdge.getEnd())) {
-                    priorityQueue.pop();
-                    minEdge = priorityQueue.top();
-                }
-
-                // If the min edge is null, the mst built from 'node' is complete, so we should break the loop.
-                if (minEdge == null)
-                    break;
-
-                // Add the edge to the mst, add its end node to the visited nodes and restart the loop, using the end
-                // node as the start node for the subsequent node search.
-                msf.add(minEdge);
-                visitedNodes.add(minEdge.getEnd());
-                node = minEdge.getEnd();
-            }
+    public static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(@NotNull AbstractGraph<V, L> graph) {
+        return minimumSpanningForest(graph, MsfPlanner.plan(graph));
+    }
 
-            if (visitedNodes.size() == graph.numNodes())
-                break;
-        }
+    /**
+     * Computes the minimum spanning forest for a given graph with the given
+     * strategy, overriding the choice of {@link MsfPlanner}.
+     *
+     * @param graph    the graph to compute the minimum spanning forest for
+     * @param strategy the algorithm to use
+     * @param <V>      the type of vertices in the graph
+     * @param <L>      the type of the edge label (weight), must extend Number
+     * @return a collection of edges representing the minimum spanning forest
+     * @throws IllegalArgumentException if the strategy cannot process the graph
+     */
+    @Contract(pure = true)
+    public static <V, L extends Number> Collection<? extends AbstractEdge<V, L>> minimumSpanningForest(@NotNull AbstractGraph<V, L> graph,
+                                                                                                     @NotNull MsfStrategy strategy) {
+        Objects.requireNonNull(graph);
+        Objects.requireNonNull(strategy);
 
+        var start = System.nanoTime();
+        var msf = strategy.solver().minimumSpanningForest(graph);
+        PrimMetrics.get().recordMsf(System.nanoTime() - start);
         return msf;
     }
 
+    /**
+     * Computes the minimum spanning forest for a given off-heap graph.
+     * The eager variant of Prim's algorithm is applied, keeping at most one queue
+     * entry per node, so the heap usage is proportional to the number of nodes no
+     * matter how many edges the graph holds.
+     *
+     * @param graph the off-heap graph to compute the minimum spanning forest for
+     * @return a collection of edges representing the minimum spanning forest
+     */
+    @Contract(pure = true)
+    public static Collection<? extends AbstractEdge<Integer, Double>> minimumSpanningForest(@NotNull OffHeapGraph graph) {
+        return minimumSpanningForest(graph, MsfStrategy.EAGER_PRIM);
+    }
+
     /**
      * Reads data from the given file and constructs a graph.
      * Each line in the file should describe an edge in the format:
@@ -89,7 +81,9 @@ public class Prim {
      * @throws IOException if an I/O error occurs while reading the file
      */
     private static Graph<String, Double> readDataToGraph(BufferedReader inputFile) throws IOException {
-        var graph = new Graph<String, Double>(false, true);
+        var graph = new Graph<String, Double>(false, true, true);
+        var start = System.nanoTime();
+        var numEdges = 0L;
 
         String line;
         while ((line = inputFile.readLine()) != null) {
@@ -98,8 +92,10 @@ public class Prim {
             graph.addNode(fmtLine[0]);  // from
             graph.addNode(fmtLine[1]);  // to
             graph.addEdge(fmtLine[0], fmtLine[1], Double.parseDouble(fmtLine[2]));  // distance
+            numEdges++;
         }
 
+        PrimMetrics.get().recordLoad(numEdges, System.nanoTime() - start);
         return graph;
     }
 
@@ -114,35 +110,236 @@ public class Prim {
      */
     private static <V, L extends Number> void printMsfInfo(@NotNull Collection<? extends AbstractEdge<V, L>> msf) {
         for (var edge : msf) {
-            System.out.printf("[%s]--(%s)--[%s]%n", edge.getStart(), edge.getLabel(), edge.getEnd());
+            printEdge(edge);
+        }
+        printMsfSummary(msf.size(), msf.stream().mapToDouble(edge -> edge.getLabel().doubleValue()).sum());
+    }
+
+    /**
+     * Prints the details of a single edge of the minimum spanning forest (MSF).
+     *
+     * @param edge the edge to print
+     */
+    private static void printEdge(@NotNull AbstractEdge<?, ? extends Number> edge) {
+        System.out.printf("[%s]--(%s)--[%s]%n", edge.getStart(), edge.getLabel(), edge.getEnd());
+    }
+
+    /**
+     * Prints the number of edges and the total weight of the minimum spanning
+     * forest (MSF).
+     *
+     * @param numEdges    the number of edges of the MSF
+     * @param totalWeight the total weight of the MSF
+     */
+    private static void printMsfSummary(long numEdges, double totalWeight) {
+        System.out.printf("Number of edges: %d%n", numEdges);
+        System.out.printf("Total weight: %.0f km%n", totalWeight);
+    }
+
+    /**
+     * Computes the minimum spanning forest of the given file with
+     * {@link ExternalKruskal}, printing every edge as soon as it is found.
+     *
+     * @param path the path to the input file containing the graph data
+     * @throws IOException if an I/O error occurs while reading the file
+     */
+    private static void printExternalMsfInfo(@NotNull String path) throws IOException {
+        var numEdges = new long[1];
+        var totalWeight = new double[1];
+
+        try (var inputFile = CompressedInput.newReader(Path.of(path))) {
+            new ExternalKruskal().minimumSpanningForest(inputFile, edge -> {
+                printEdge(edge);
+                numEdges[0]++;
+                totalWeight[0] += edge.getLabel();
+            });
+        }
+
+        printMsfSummary(numEdges[0], totalWeight[0]);
+    }
+
+    /**
+     * Prints the minimum spanning forest of an edge log, then keeps polling the log
+     * and printing the summary of the forest whenever new edges are appended.
+     *
+     * @param path     the path to the edge log
+     * @param interval the number of milliseconds between two polls
+     * @throws IOException if an I/O error occurs while reading the file
+     */
+    private static void watch(@NotNull Path path, long interval) throws IOException {
+        try (var watcher = new EdgeLogWatcher(path)) {
+            PrimMetrics.get().registerGraph(watcher.getGraph());
+            watcher.refresh();
+            printMsfInfo(watcher.getForest());
+
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(interval);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                if (watcher.refresh() > 0) {
+                    var forest = watcher.getForest();
+                    printMsfSummary(forest.size(), forest.stream().mapToDouble(edge -> edge.getLabel()).sum());
+                }
+            }
         }
-        System.out.printf("Number of edges: %d%n", msf.size());
-        System.out.printf("Total weight: %.0f km%n", msf.stream().mapToDouble(edge -> edge.getLabel().doubleValue()).sum());
     }
 
     /**
      * The main method of the application. Reads the graph from a file, computes the
      * minimum spanning forest using Prim's algorithm, and prints the results.
+     * With the {@code --external} option the graph is never loaded in memory: the
+     * forest is computed by {@link ExternalKruskal} and printed while it is built.
+     * With the {@code --points} option the file lists sites as
+     * "name,latitude,longitude", and {@link EuclideanMst} links them by great-circle
+     * distance without building the complete graph.
+     * With the {@code --stream} option the edges are read in a single pass by
+     * {@link StreamingMsf}, which keeps the current forest only.
+     * With the {@code --watch[=<millis>]} option the file is treated as an
+     * append-only log: after the forest of its current content is printed, the
+     * file is polled every {@code millis} milliseconds (one second by default) and
+     * the edges appended since the last poll are applied incrementally by
+     * {@link EdgeLogWatcher}, printing the updated summary, until the process is
+     * stopped.
+     * With the {@code --engine=<strategy>} option the algorithm is forced to the
+     * given {@link MsfStrategy} (for example {@code --engine=kruskal}) instead of
+     * being chosen by {@link MsfPlanner}.
+     * With the {@code --coordinator=<port>} and {@code --workers=<count>} options no
+     * file is read: the given number of workers started with the
+     * {@code --worker=<host>:<port>} option, each with its own shard of the graph,
+     * compute the forest with {@link DistributedBoruvka}, and the coordinator
+     * prints it.
+     * With the {@code --jmx} option the {@link PrimMetrics} are registered in the
+     * platform MBean server, which is mostly useful together with
+     * {@code --watch}.
      *
-     * @param args the command-line arguments, where the first argument is the path
-     *             to the input file containing the graph data
+     * @param args the command-line arguments, where the last argument is the path
+     *             to the input file containing the graph data, optionally preceded
+     *             by {@code --external}, {@code --points}, {@code --stream},
+     *             {@code --watch[=<millis>]}, {@code --jmx},
+     *             {@code --engine=<strategy>} or {@code --worker=<host>:<port>}, or
+     *             just {@code --coordinator=<port>} and {@code --workers=<count>}
      */
     public static void main(String @NotNull [] args) {
         try {
-            if (args.length == 0)
+            var external = false;
+            var points = false;
+            var stream = false;
+            Long watchInterval = null;
+            MsfStrategy strategy = null;
+            Integer coordinatorPort = null;
+            var numWorkers = 1;
+            String worker = null;
+            String path = null;
+
+            for (var arg : args) {
+                if (arg.equals("--external"))
+                    external = true;
+                else if (arg.equals("--points"))
+                    points = true;
+                else if (arg.equals("--stream"))
+                    stream = true;
+                else if (arg.equals("--watch"))
+                    watchInterval = DEFAULT_WATCH_INTERVAL;
+                else if (arg.startsWith("--watch="))
+                    watchInterval = Long.parseLong(arg.substring("--watch=".length()));
+                else if (arg.equals("--jmx"))
+                    PrimMetrics.register();
+                else if (arg.startsWith("--engine="))
+                    strategy = MsfStrategy.fromName(arg.substring("--engine=".length()));
+                else if (arg.startsWith("--coordinator="))
+                    coordinatorPort = Integer.parseInt(arg.substring("--coordinator=".length()));
+                else if (arg.startsWith("--workers="))
+                    numWorkers = Integer.parseInt(arg.substring("--workers=".length()));
+                else if (arg.startsWith("--worker="))
+                    worker = arg.substring("--worker=".length());
+                else if (arg.startsWith("--"))
+                    throw new RuntimeException("Unknown option: " + arg);
+                else
+                    path = arg;
+            }
+
+            if (coordinatorPort != null) {
+                try (var server = new ServerSocket(coordinatorPort)) {
+                    printMsfInfo(DistributedBoruvka.coordinate(server, numWorkers));
+                } catch (IOException e) {
+                    System.err.println("Error while coordinating the workers");
+                    throw new RuntimeException(e);
+                }
+                return;
+            }
+
+            if (path == null)
                 throw new RuntimeException("Wrong number of arguments (input file not found!)");
 
-            var path = args[0];
+            if (worker != null) {
+                var separator = worker.lastIndexOf(':');
+                if (separator < 0)
+                    throw new RuntimeException("The coordinator address must be <host>:<port>");
+
+                try {
+                    DistributedBoruvka.work(new InetSocketAddress(worker.substring(0, separator),
+                            Integer.parseInt(worker.substring(separator + 1))), Path.of(path));
+                } catch (IOException e) {
+                    System.err.println("Error while working for the coordinator");
+                    throw new RuntimeException(e);
+                }
+                return;
+            }
+
+            if (external) {
+                try {
+                    printExternalMsfInfo(path);
+                } catch (IOException e) {
+                    System.err.println("Error while reading input file");
+                    throw new RuntimeException(e);
+                }
+                return;
+            }
+
+            if (points) {
+                try (var inputFile = CompressedInput.newReader(Path.of(path))) {
+                    printMsfInfo(EuclideanMst.minimumSpanningTree(inputFile));
+                } catch (IOException e) {
+                    System.err.println("Error while opening input file");
+                    throw new RuntimeException(e);
+                }
+                return;
+            }
+
+            if (watchInterval != null) {
+                try {
+                    watch(Path.of(path), watchInterval);
+                } catch (IOException e) {
+                    System.err.println("Error while reading input file");
+                    throw new RuntimeException(e);
+                }
+                return;
+            }
+
+            if (stream) {
+                try {
+                    printMsfInfo(StreamingMsf.of(Path.of(path)).getForest());
+                } catch (IOException e) {
+                    System.err.println("Error while reading input file");
+                    throw new RuntimeException(e);
+                }
+                return;
+            }
 
             Graph<String, Double> graph;
-            try (var inputFile = new BufferedReader(new FileReader(path))) {
+            try (var inputFile = CompressedInput.newReader(Path.of(path))) {
                 graph = readDataToGraph(inputFile);
             } catch (IOException e) {
                 System.err.println("Error while opening input file");
                 throw new RuntimeException(e);
             }
 
-            var msf = minimumSpanningForest(graph);
+            PrimMetrics.get().registerGraph(graph);
+            var msf = minimumSpanningForest(graph, strategy == null ? MsfPlanner.plan(graph) : strategy);
             printMsfInfo(msf);
 
         } catch (Exception e) {
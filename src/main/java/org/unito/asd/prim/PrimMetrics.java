@@ -0,0 +1,219 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the metrics of the library: the graphs registered by the application,
+ * the minimum spanning forest computations, the priority queues of Prim's
+ * algorithm and the loaders.
+ * The metrics are always collected, on {@link LongAdder}s that threads update
+ * without contending with each other, and they are read only when asked for, so
+ * the overhead stays negligible. They can be exposed as a platform MXBean named
+ * {@link #OBJECT_NAME} with {@link #register()}, to be read by any JMX client.
+ * Graphs are held weakly: a registered graph that is no longer used elsewhere is
+ * dropped from the metrics.
+ */
+public final class PrimMetrics implements PrimMetricsMXBean {
+    /**
+     * The name of the MXBean in the platform MBean server.
+     */
+    public static final String OBJECT_NAME = "org.unito.asd.prim:type=PrimMetrics";
+
+    private static final PrimMetrics INSTANCE = new PrimMetrics();
+
+    private final Set<AbstractGraph<?, ?>> graphs = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private final LongAdder msfInvocations = new LongAdder();
+    private final LongAdder[] latencies = new LongAdder[Long.SIZE];
+    private volatile long lastComputeNanos;
+    private final LongAccumulator queueHighWaterMark = new LongAccumulator(Math::max, 0);
+    private final LongAdder loadedEdges = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    private PrimMetrics() {
+        for (var i = 0; i < latencies.length; i++)
+            latencies[i] = new LongAdder();
+    }
+
+    /**
+     * Gets the metrics of the library.
+     *
+     * @return The metrics.
+     */
+    @Contract(pure = true)
+    public static @NotNull PrimMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the metrics in the platform MBean server, if not registered yet.
+     *
+     * @throws IllegalStateException If the MBean server refuses the registration.
+     */
+    public static synchronized void register() {
+        try {
+            var server = ManagementFactory.getPlatformMBeanServer();
+            var name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name))
+                server.registerMBean(INSTANCE, name);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register the metrics MBean", e);
+        }
+    }
+
+    /**
+     * Removes the metrics from the platform MBean server, if registered.
+     * The metrics keep being collected.
+     *
+     * @throws IllegalStateException If the MBean server refuses the removal.
+     */
+    public static synchronized void unregister() {
+        try {
+            var server = ManagementFactory.getPlatformMBeanServer();
+            var name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name))
+                server.unregisterMBean(name);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister the metrics MBean", e);
+        }
+    }
+
+    /**
+     * Adds a graph to the ones whose size is exposed.
+     *
+     * @param graph The graph.
+     */
+    public void registerGraph(@NotNull AbstractGraph<?, ?> graph) {
+        graphs.add(Objects.requireNonNull(graph));
+    }
+
+    /**
+     * Removes a graph from the ones whose size is exposed.
+     *
+     * @param graph The graph.
+     */
+    public void unregisterGraph(@NotNull AbstractGraph<?, ?> graph) {
+        graphs.remove(Objects.requireNonNull(graph));
+    }
+
+    @Override
+    public int getRegisteredGraphs() {
+        return graphs.size();
+    }
+
+    @Override
+    public long getNumNodes() {
+        var numNodes = 0L;
+        synchronized (graphs) {
+            for (var graph : graphs)
+                numNodes += graph.numNodes();
+        }
+        return numNodes;
+    }
+
+    @Override
+    public long getNumEdges() {
+        var numEdges = 0L;
+        synchronized (graphs) {
+            for (var graph : graphs)
+                numEdges += graph.numEdges();
+        }
+        return numEdges;
+    }
+
+    @Override
+    public long getMsfInvocations() {
+        return msfInvocations.sum();
+    }
+
+    @Override
+    public long getLastComputeNanos() {
+        return lastComputeNanos;
+    }
+
+    @Override
+    public long getComputeNanosP50() {
+        return latencyPercentile(0.50);
+    }
+
+    @Override
+    public long getComputeNanosP90() {
+        return latencyPercentile(0.90);
+    }
+
+    @Override
+    public long getComputeNanosP99() {
+        return latencyPercentile(0.99);
+    }
+
+    @Override
+    public long getQueueHighWaterMark() {
+        return queueHighWaterMark.get();
+    }
+
+    @Override
+    public long getLoadedEdges() {
+        return loadedEdges.sum();
+    }
+
+    @Override
+    public double getLoaderEdgesPerSecond() {
+        var nanos = loadNanos.sum();
+        return nanos == 0 ? 0 : loadedEdges.sum() * 1e9 / nanos;
+    }
+
+    @Override
+    public void reset() {
+        msfInvocations.reset();
+        for (var bucket : latencies)
+            bucket.reset();
+        lastComputeNanos = 0;
+        queueHighWaterMark.reset();
+        loadedEdges.reset();
+        loadNanos.reset();
+    }
+
+    // Counts a minimum spanning forest computation, in the bucket of the power of two just above its latency.
+    void recordMsf(long nanos) {
+        nanos = Math.max(0, nanos);
+        msfInvocations.increment();
+        latencies[Long.SIZE - Long.numberOfLeadingZeros(nanos)].increment();
+        lastComputeNanos = nanos;
+    }
+
+    void recordQueueSize(long size) {
+        queueHighWaterMark.accumulate(size);
+    }
+
+    void recordLoad(long numEdges, long nanos) {
+        loadedEdges.add(numEdges);
+        loadNanos.add(Math.max(0, nanos));
+    }
+
+    private long latencyPercentile(double percentile) {
+        var counts = new long[latencies.length];
+        var total = 0L;
+        for (var i = 0; i < latencies.length; i++) {
+            counts[i] = latencies[i].sum();
+            total += counts[i];
+        }
+        if (total == 0)
+            return 0;
+
+        var rank = (long) Math.ceil(percentile * total);
+        var seen = 0L;
+        for (var i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank)
+                return i == 0 ? 0 : (1L << i) - 1;
+        }
+        return Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,95 @@
+package org.unito.asd.prim;
+
+/**
+ * Defines the management interface of {@link PrimMetrics}, as exposed through
+ * JMX.
+ * The latencies are in nanoseconds; the percentiles are rounded up to the bound
+ * of a power-of-two bucket, so they are exact within a factor of two.
+ */
+public interface PrimMetricsMXBean {
+    /**
+     * Gets the number of graphs registered and still alive.
+     *
+     * @return The number of registered graphs.
+     */
+    int getRegisteredGraphs();
+
+    /**
+     * Gets the total number of nodes of the registered graphs.
+     *
+     * @return The number of nodes.
+     */
+    long getNumNodes();
+
+    /**
+     * Gets the total number of edges of the registered graphs.
+     *
+     * @return The number of edges.
+     */
+    long getNumEdges();
+
+    /**
+     * Gets the number of minimum spanning forests computed through
+     * {@link Prim#minimumSpanningForest}.
+     *
+     * @return The number of computations.
+     */
+    long getMsfInvocations();
+
+    /**
+     * Gets the latency of the last minimum spanning forest computed.
+     *
+     * @return The latency, or 0 if none has been computed.
+     */
+    long getLastComputeNanos();
+
+    /**
+     * Gets the median latency of the minimum spanning forest computations.
+     *
+     * @return The latency, or 0 if none has been computed.
+     */
+    long getComputeNanosP50();
+
+    /**
+     * Gets the 90th percentile of the latency of the minimum spanning forest
+     * computations.
+     *
+     * @return The latency, or 0 if none has been computed.
+     */
+    long getComputeNanosP90();
+
+    /**
+     * Gets the 99th percentile of the latency of the minimum spanning forest
+     * computations.
+     *
+     * @return The latency, or 0 if none has been computed.
+     */
+    long getComputeNanosP99();
+
+    /**
+     * Gets the largest number of entries held at once by the priority queue of a
+     * Prim's algorithm.
+     *
+     * @return The high-water mark of the queues.
+     */
+    long getQueueHighWaterMark();
+
+    /**
+     * Gets the number of edges read by the loaders.
+     *
+     * @return The number of edges.
+     */
+    long getLoadedEdges();
+
+    /**
+     * Gets the average throughput of the loaders, over the time spent loading.
+     *
+     * @return The number of edges read per second, or 0 if nothing has been read.
+     */
+    double getLoaderEdgesPerSecond();
+
+    /**
+     * Resets all the counters, keeping the registered graphs.
+     */
+    void reset();
+}
@@ -8,6 +8,11 @@ import java.util.*;
 
 /**
  * Represents a generic priority queue.
+ * An indexed priority queue keeps the position of every element in a hash map, so
+ * that it can tell whether it contains an element and remove any element; a
+ * non-indexed one keeps only the heap, accepts duplicate elements and supports
+ * neither {@link #contains} nor {@link #remove}, which spares every operation the
+ * hashing of the elements.
  *
  * @param <E> The type of elements in the priority queue.
  * @implNote The priority queue is implemented using a max-heap.
@@ -16,21 +21,96 @@ public final class PriorityQueue<E> implements AbstractQueue<E> {
     private final Comparator<E> comparator;
     private final List<E> heap;
     private final Map<E, Integer> indexMap;
+    private final HeapProfile profile;
 
     /**
-     * Constructs a new {@link PriorityQueue} with the given comparator and heap
-     * policy.
+     * Constructs a new indexed {@link PriorityQueue} with the given comparator and
+     * heap policy.
      * The provided comparator shall not be {@code null}.
      *
      * @param comparator The comparator used to compare elements priority in the
      *                   priority queue.
      */
     public PriorityQueue(@NotNull Comparator<E> comparator) {
+        this(comparator, true);
+    }
+
+    /**
+     * Constructs a new {@link PriorityQueue} with the given comparator and heap
+     * policy, either indexed or not.
+     * The provided comparator shall not be {@code null}.
+     *
+     * @param comparator The comparator used to compare elements priority in the
+     *                   priority queue.
+     * @param indexed    {@code true} to keep the index of the elements, which
+     *                   rejects duplicates and supports {@link #contains} and
+     *                   {@link #remove}, {@code false} to keep only the heap.
+     */
+    public PriorityQueue(@NotNull Comparator<E> comparator, boolean indexed) {
+        this(comparator, indexed, 10, null);
+    }
+
+    /**
+     * Constructs a new {@link PriorityQueue} with the given comparator and heap
+     * policy, either indexed or not, whose behaviour is recorded in a profile.
+     * The provided comparator and profile shall not be {@code null}.
+     *
+     * @param comparator The comparator used to compare elements priority in the
+     *                   priority queue.
+     * @param indexed    {@code true} to keep the index of the elements, which
+     *                   rejects duplicates and supports {@link #contains} and
+     *                   {@link #remove}, {@code false} to keep only the heap.
+     * @param profile    The profile recording the operations of the priority
+     *                   queue.
+     */
+    public PriorityQueue(@NotNull Comparator<E> comparator, boolean indexed, @NotNull HeapProfile profile) {
+        this(comparator, indexed, 10, Objects.requireNonNull(profile));
+    }
+
+    /**
+     * Constructs a new {@link PriorityQueue} with the given comparator and heap
+     * policy, either indexed or not, holding the elements of a collection.
+     * The provided comparator and collection shall not be {@code null}.
+     *
+     * @param comparator The comparator used to compare elements priority in the
+     *                   priority queue.
+     * @param indexed    {@code true} to keep the index of the elements, which
+     *                   rejects duplicates and supports {@link #contains} and
+     *                   {@link #remove}, {@code false} to keep only the heap.
+     * @param elements   The initial elements of the priority queue.
+     * @implNote This operation has linear time complexity O(N).
+     */
+    public PriorityQueue(@NotNull Comparator<E> comparator, boolean indexed, @NotNull Collection<? extends E> elements) {
+        this(comparator, indexed, elements.size(), null);
+        pushAll(elements);
+    }
+
+    private PriorityQueue(Comparator<E> comparator, boolean indexed, int capacity, HeapProfile profile) {
         Objects.requireNonNull(comparator);
 
-        this.comparator = comparator;
-        this.heap = new ArrayList<>();
-        this.indexMap = new HashMap<>();
+        // Only a profiled queue pays for counting the comparisons.
+        this.comparator = profile == null ? comparator : profile.counting(comparator);
+        this.heap = new ArrayList<>(capacity);
+        this.indexMap = indexed ? HashMap.newHashMap(capacity) : null;
+        this.profile = profile;
+    }
+
+    /**
+     * Checks whether the priority queue keeps the index of its elements.
+     *
+     * @return {@code true} if the priority queue is indexed, {@code false}
+     * otherwise.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public boolean isIndexed() {
+        return indexMap != null;
+    }
+
+    // The number of elements in the priority queue.
+    @Contract(pure = true)
+    int size() {
+        return heap.size();
     }
 
     /**
@@ -48,7 +128,8 @@ public final class PriorityQueue<E> implements AbstractQueue<E> {
     /**
      * Pushes an element onto the priority queue.
      * The element shall not be {@code null}.
-     * An element is not pushed when it is already present in the priority queue.
+     * If the priority queue is indexed, an element is not pushed when it is already
+     * present in the priority queue.
      *
      * @param element The element to be pushed.
      * @return {@code true} if the element is successfully pushed, {@code false}
@@ -60,13 +141,77 @@ public final class PriorityQueue<E> implements AbstractQueue<E> {
     public boolean push(@NotNull E element) {
         Objects.requireNonNull(element);
 
-        if (contains(element))
-            return false;
+        if (indexMap != null) {
+            if (indexMap.containsKey(element))
+                return false;
+            indexMap.put(element, heap.size());
+        }
 
         heap.add(element);
-        indexMap.put(element, heap.size() - 1);
 
-        heapifyUp(heap.size() - 1);
+        var depth = heapifyUp(heap.size() - 1);
+        if (profile != null) {
+            profile.recordSiftUp(depth);
+            profile.recordSize(heap.size());
+        }
+        return true;
+    }
+
+    /**
+     * Pushes all the elements of a collection onto the priority queue.
+     * The collection and its elements shall not be {@code null}.
+     * If the priority queue is indexed, an element is not pushed when it is already
+     * present in the priority queue or earlier in the collection.
+     * The elements are appended to the heap, which is then restored bottom-up
+     * (Floyd's method) over the ancestors of the appended elements only.
+     *
+     * @param elements The elements to be pushed.
+     * @return {@code true} if at least one element is pushed, {@code false}
+     * otherwise.
+     * @implNote This operation has time complexity O(K + log^2 N) for K elements,
+     * and linear time complexity O(N) when K is at least N.
+     */
+    @Override
+    @Contract(mutates = "this")
+    public boolean pushAll(@NotNull Collection<? extends E> elements) {
+        Objects.requireNonNull(elements);
+
+        var first = heap.size();
+        for (var element : elements) {
+            Objects.requireNonNull(element);
+            if (indexMap == null || indexMap.putIfAbsent(element, heap.size()) == null)
+                heap.add(element);
+        }
+
+        var last = heap.size() - 1;
+        if (last < first)
+            return false;
+
+        // A large batch moves most of the heap, so its index is rewritten in one pass at the end.
+        var reindex = indexMap != null && last - first >= first;
+
+        // Sift down every ancestor of the appended elements, level by level from the bottom.
+        while (last > 0) {
+            first = getParentIndex(first);
+            last = getParentIndex(last);
+            for (var i = last; i >= first; i--) {
+                var depth = reindex || indexMap == null ? siftDown(i) : heapifyDown(i);
+                if (profile != null)
+                    profile.recordSiftDown(depth);
+            }
+
+            // The levels above have all been sifted down along with the root.
+            if (first == 0)
+                break;
+        }
+
+        if (profile != null)
+            profile.recordSize(heap.size());
+
+        if (reindex) {
+            for (var i = 0; i < heap.size(); i++)
+                indexMap.put(heap.get(i), i);
+        }
         return true;
     }
 
@@ -76,13 +221,14 @@ public final class PriorityQueue<E> implements AbstractQueue<E> {
      *
      * @param element The element to check for existence.
      * @return {@code true} if the element is present, {@code false} otherwise.
+     * @throws UnsupportedOperationException If the priority queue is not indexed.
      * @implNote This operation has constant time complexity O(1).
      */
     @Override
     @Contract(pure = true)
     public boolean contains(@NotNull E element) {
         Objects.requireNonNull(element);
-        return indexMap.containsKey(element);
+        return index().containsKey(element);
     }
 
     /**
@@ -111,7 +257,15 @@ public final class PriorityQueue<E> implements AbstractQueue<E> {
         if (empty())
             throw new NoSuchElementException("Cannot pop from an empty priority queue");
 
-        remove(top());
+        if (indexMap != null) {
+            remove(top());
+            return;
+        }
+
+        int lastIndex = heap.size() - 1;
+        swapNodes(0, lastIndex);
+        heap.remove(lastIndex);
+        recordSiftDown(heapifyDown(0));
     }
 
     /**
@@ -122,6 +276,7 @@ public final class PriorityQueue<E> implements AbstractQueue<E> {
      * @param element The element to be removed.
      * @return {@code true} if the element is successfully removed, {@code false}
      * otherwise.
+     * @throws UnsupportedOperationException If the priority queue is not indexed.
      * @implNote This operation has logarithmic time complexity O(log N).
      */
     @Override
@@ -129,7 +284,7 @@ public final class PriorityQueue<E> implements AbstractQueue<E> {
     public boolean remove(@NotNull E element) {
         Objects.requireNonNull(element);
 
-        if (empty() || (indexMap.get(element) == null)) {
+        if (empty() || (index().get(element) == null)) {
             return false;
         } else {
             int elementIndex = indexMap.get(element);
@@ -138,12 +293,13 @@ public final class PriorityQueue<E> implements AbstractQueue<E> {
             swapNodes(elementIndex, lastIndex);
             indexMap.remove(element);
             heap.remove(lastIndex);
-            heapifyDown(elementIndex);
+            recordSiftDown(heapifyDown(elementIndex));
             return true;
         }
     }
 
-    private void heapifyDown(int elementIndex) {
+    // Each sift returns the number of levels the element moved through.
+    private int heapifyDown(int elementIndex) {
         int leftIndex = (2 * elementIndex) + 1;
         int rightIndex = 2 * elementIndex + 2;
         int minChildIndex = elementIndex;
@@ -158,8 +314,33 @@ public final class PriorityQueue<E> implements AbstractQueue<E> {
 
         if (minChildIndex != elementIndex) {
             swapNodes(elementIndex, minChildIndex);
-            heapifyDown(minChildIndex);
+            return 1 + heapifyDown(minChildIndex);
         }
+        return 0;
+    }
+
+    private int siftDown(int elementIndex) {
+        // Move the element down a hole, writing each displaced child once and leaving the index untouched.
+        var element = heap.get(elementIndex);
+        var size = heap.size();
+        var depth = 0;
+
+        while (true) {
+            var childIndex = (2 * elementIndex) + 1;
+            if (childIndex >= size)
+                break;
+            if (childIndex + 1 < size && comparator.compare(heap.get(childIndex + 1), heap.get(childIndex)) < 0)
+                childIndex++;
+            if (comparator.compare(heap.get(childIndex), element) >= 0)
+                break;
+
+            heap.set(elementIndex, heap.get(childIndex));
+            elementIndex = childIndex;
+            depth++;
+        }
+
+        heap.set(elementIndex, element);
+        return depth;
     }
 
     private int getParentIndex(int nodeIndex) {
@@ -170,12 +351,23 @@ public final class PriorityQueue<E> implements AbstractQueue<E> {
         if (sourceIndex == destinationIndex)
             return;
 
+        if (profile != null)
+            profile.recordSwap();
+
         var tmp = heap.get(sourceIndex);
         heap.set(sourceIndex, heap.get(destinationIndex));
         heap.set(destinationIndex, tmp);
 
-        indexMap.put(heap.get(sourceIndex), sourceIndex);
-        indexMap.put(heap.get(destinationIndex), destinationIndex);
+        if (indexMap != null) {
+            indexMap.put(heap.get(sourceIndex), sourceIndex);
+            indexMap.put(heap.get(destinationIndex), destinationIndex);
+        }
+    }
+
+    private Map<E, Integer> index() {
+        if (indexMap == null)
+            throw new UnsupportedOperationException("A non-indexed priority queue cannot look up its elements");
+        return indexMap;
     }
 
     private int maxChildParent(int childIndex) {
@@ -188,14 +380,20 @@ public final class PriorityQueue<E> implements AbstractQueue<E> {
         return max;
     }
 
-    private void heapifyUp(int fromIndex) {
+    private int heapifyUp(int fromIndex) {
         if (fromIndex > 0) {
             var minIndex = maxChildParent(fromIndex);
 
             if (minIndex != fromIndex) {
                 swapNodes(fromIndex, minIndex);
-                heapifyUp(minIndex);
+                return 1 + heapifyUp(minIndex);
             }
         }
+        return 0;
+    }
+
+    private void recordSiftDown(int depth) {
+        if (profile != null)
+            profile.recordSiftDown(depth);
     }
 }
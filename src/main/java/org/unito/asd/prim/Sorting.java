@@ -0,0 +1,164 @@
+package org.unito.asd.prim;
+
+import java.util.Arrays;
+
+/**
+ * Sorting routines over primitive arrays shared by the engines.
+ */
+final class Sorting {
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    private static final int RADIX_SORT_THRESHOLD = 1 << 12;
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+
+    private Sorting() {
+    }
+
+    /**
+     * Sorts {@code keys[from, to)} in ascending order, applying the same
+     * permutation to {@code values}.
+     *
+     * @param keys   The keys to sort.
+     * @param values The values carried along with the keys.
+     * @param from   The first index, inclusive.
+     * @param to     The last index, exclusive.
+     * @implNote Median-of-three quicksort, recursing on the smaller side, so the
+     * stack depth is O(log N).
+     */
+    static void sort(double[] keys, int[] values, int from, int to) {
+        int low = from;
+        int high = to - 1;
+
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] < keys[low])
+                swap(keys, values, middle, low);
+            if (keys[high] < keys[low])
+                swap(keys, values, high, low);
+            if (keys[high] < keys[middle])
+                swap(keys, values, high, middle);
+
+            double pivot = keys[middle];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (keys[i] < pivot)
+                    i++;
+                while (keys[j] > pivot)
+                    j--;
+                if (i <= j)
+                    swap(keys, values, i++, j--);
+            }
+
+            if (j - low < high - i) {
+                sort(keys, values, low, j + 1);
+                low = i;
+            } else {
+                sort(keys, values, i, high + 1);
+                high = j;
+            }
+        }
+
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && keys[j] < keys[j - 1]; j--)
+                swap(keys, values, j, j - 1);
+        }
+    }
+
+    /**
+     * Sorts {@code keys[from, to)} in ascending order, applying the same
+     * permutation to {@code values}. The sort is not stable: equal keys may end up
+     * in any order.
+     *
+     * @param keys   The keys to sort.
+     * @param values The values carried along with the keys.
+     * @param from   The first index, inclusive.
+     * @param to     The last index, exclusive.
+     * @implNote LSD radix sort over the bits of the keys, mapped to longs whose
+     * unsigned order is the numeric order of the doubles. It makes at most six
+     * passes of 11 bits, skipping the digits on which all the keys agree, so it runs
+     * in O(N) time with O(N) extra space. Short ranges fall back to the quicksort
+     * of {@link #sort(double[], int[], int, int)}.
+     */
+    static void radixSort(double[] keys, int[] values, int from, int to) {
+        var length = to - from;
+        if (length < RADIX_SORT_THRESHOLD) {
+            sort(keys, values, from, to);
+            return;
+        }
+
+        var sortKeys = new long[length];
+        var sortValues = new int[length];
+        var bufferKeys = new long[length];
+        var bufferValues = new int[length];
+        var counts = new int[RADIX];
+
+        var allOnes = -1L;
+        var allZeros = 0L;
+        for (var i = 0; i < length; i++) {
+            var key = toSortable(keys[from + i]);
+            sortKeys[i] = key;
+            sortValues[i] = values[from + i];
+            allOnes &= key;
+            allZeros |= key;
+        }
+
+        for (var shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+            // A digit shared by every key leaves the order unchanged.
+            if ((((allOnes ^ allZeros) >>> shift) & RADIX_MASK) == 0)
+                continue;
+
+            Arrays.fill(counts, 0);
+            for (var i = 0; i < length; i++)
+                counts[(int) (sortKeys[i] >>> shift) & RADIX_MASK]++;
+
+            var offset = 0;
+            for (var digit = 0; digit < RADIX; digit++) {
+                var count = counts[digit];
+                counts[digit] = offset;
+                offset += count;
+            }
+
+            for (var i = 0; i < length; i++) {
+                var position = counts[(int) (sortKeys[i] >>> shift) & RADIX_MASK]++;
+                bufferKeys[position] = sortKeys[i];
+                bufferValues[position] = sortValues[i];
+            }
+
+            var swapKeys = sortKeys;
+            sortKeys = bufferKeys;
+            bufferKeys = swapKeys;
+
+            var swapValues = sortValues;
+            sortValues = bufferValues;
+            bufferValues = swapValues;
+        }
+
+        for (var i = 0; i < length; i++) {
+            keys[from + i] = fromSortable(sortKeys[i]);
+            values[from + i] = sortValues[i];
+        }
+    }
+
+    // Flips the sign bit of positive doubles and every bit of negative ones, so that the unsigned order of the
+    // result is the numeric order of the doubles.
+    private static long toSortable(double key) {
+        var bits = Double.doubleToRawLongBits(key);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    private static double fromSortable(long key) {
+        return Double.longBitsToDouble(key ^ ((~key >> 63) | Long.MIN_VALUE));
+    }
+
+    private static void swap(double[] keys, int[] values, int first, int second) {
+        var key = keys[first];
+        keys[first] = keys[second];
+        keys[second] = key;
+
+        var value = values[first];
+        values[first] = values[second];
+        values[second] = value;
+    }
+}
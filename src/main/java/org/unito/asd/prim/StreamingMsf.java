@@ -0,0 +1,225 @@
+package org.unito.asd.prim;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Builds the minimum spanning forest of an undirected graph whose edges arrive one
+ * at a time, in a single pass and without storing the graph.
+ * Only the current forest is kept, in a {@link LinkCutTree}: an edge between two
+ * trees links them, while an edge closing a cycle evicts the heaviest edge of the
+ * cycle, which may be the new edge itself. Every edge costs amortized O(log N)
+ * time, and the memory is O(N) no matter how many edges flow through.
+ *
+ * @param <V> The type of nodes in the graph.
+ * @param <L> The type of labels associated with edges in the graph.
+ */
+public final class StreamingMsf<V, L extends Number> {
+    private final LinkCutTree tree = new LinkCutTree();
+    private final Map<V, Integer> vertices = new HashMap<>();
+    private final Map<Integer, AbstractEdge<V, L>> treeEdges = new HashMap<>();
+    private long numEdgesSeen;
+
+    /**
+     * Constructs a new {@link StreamingMsf} that has seen no edges yet.
+     */
+    public StreamingMsf() {
+    }
+
+    /**
+     * Builds the minimum spanning forest of the edges read from a file.
+     * Each line of the file should describe an edge in the format
+     * "node1,node2,weight". The file may be compressed with gzip, as read by
+     * {@link CompressedInput}.
+     *
+     * @param file The path of the file.
+     * @return The minimum spanning forest of the edges of the file.
+     * @throws IOException If an I/O error occurs while reading the file.
+     */
+    public static @NotNull StreamingMsf<String, Double> of(@NotNull Path file) throws IOException {
+        try (var input = CompressedInput.newReader(file)) {
+            return of(input);
+        }
+    }
+
+    /**
+     * Builds the minimum spanning forest of the edges read from a reader, which is
+     * not closed.
+     * Each line of the input should describe an edge in the format
+     * "node1,node2,weight".
+     *
+     * @param input The reader.
+     * @return The minimum spanning forest of the edges read.
+     * @throws IOException If an I/O error occurs while reading.
+     */
+    public static @NotNull StreamingMsf<String, Double> of(@NotNull Reader input) throws IOException {
+        Objects.requireNonNull(input);
+
+        var msf = new StreamingMsf<String, Double>();
+        var reader = input instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(input);
+
+        String line;
+        while ((line = reader.readLine()) != null)
+            addRecord(msf, line);
+
+        return msf;
+    }
+
+    /**
+     * Builds the minimum spanning forest of the edges of an iterator.
+     *
+     * @param edges The edges.
+     * @param <V>   The type of nodes.
+     * @param <L>   The type of labels.
+     * @return The minimum spanning forest of the edges.
+     */
+    public static <V, L extends Number> @NotNull StreamingMsf<V, L> of(@NotNull Iterator<? extends AbstractEdge<V, L>> edges) {
+        Objects.requireNonNull(edges);
+
+        var msf = new StreamingMsf<V, L>();
+        msf.addAll(edges);
+        return msf;
+    }
+
+    /**
+     * Parses an edge in the format "node1,node2,weight" and adds it to the forest
+     * of a stream of textual edges.
+     *
+     * @param msf  The forest.
+     * @param line The edge.
+     * @return {@code true} if the edge entered the forest, {@code false} otherwise.
+     * @throws NumberFormatException          If the weight is not a number.
+     * @throws ArrayIndexOutOfBoundsException If the line has less than three
+     *                                        fields.
+     */
+    @Contract(mutates = "param1")
+    static boolean addRecord(StreamingMsf<String, Double> msf, String line) {
+        var fmtLine = line.split(",");
+        return msf.add(fmtLine[0], fmtLine[1], Double.parseDouble(fmtLine[2]));
+    }
+
+    /**
+     * Adds an edge to the stream.
+     *
+     * @param start The start node of the edge.
+     * @param end   The end node of the edge.
+     * @param label The label of the edge.
+     * @return {@code true} if the edge entered the forest, {@code false} if it
+     * closed a cycle where it was the heaviest edge, or it was a loop.
+     * @implNote This operation has amortized logarithmic time complexity
+     * O(log N).
+     */
+    @Contract(mutates = "this")
+    public boolean add(@NotNull V start, @NotNull V end, @NotNull L label) {
+        Objects.requireNonNull(start);
+        Objects.requireNonNull(end);
+        Objects.requireNonNull(label);
+
+        numEdgesSeen++;
+
+        var first = vertex(start);
+        var second = vertex(end);
+        if (first == second)
+            return false;
+
+        if (tree.connected(first, second)) {
+            var heaviest = tree.pathMax(first, second);
+            if (!(tree.weight(heaviest) > label.doubleValue()))
+                return false;
+
+            var evicted = treeEdges.remove(heaviest);
+            tree.cut(vertices.get(evicted.getStart()), heaviest);
+            tree.cut(heaviest, vertices.get(evicted.getEnd()));
+            tree.freeNode(heaviest);
+        }
+
+        var edge = tree.newNode(label.doubleValue());
+        tree.link(first, edge);
+        tree.link(edge, second);
+        treeEdges.put(edge, new Edge<>(start, end, label));
+        return true;
+    }
+
+    /**
+     * Adds every remaining edge of an iterator to the stream.
+     *
+     * @param edges The edges.
+     */
+    @Contract(mutates = "this")
+    public void addAll(@NotNull Iterator<? extends AbstractEdge<V, L>> edges) {
+        Objects.requireNonNull(edges);
+
+        while (edges.hasNext()) {
+            var edge = edges.next();
+            add(edge.getStart(), edge.getEnd(), edge.getLabel());
+        }
+    }
+
+    /**
+     * Gets the edges of the minimum spanning forest of the edges added so far.
+     * The collection is a live view that follows the later additions.
+     *
+     * @return The edges of the minimum spanning forest.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public @NotNull @Unmodifiable Collection<? extends AbstractEdge<V, L>> getForest() {
+        return Collections.unmodifiableCollection(treeEdges.values());
+    }
+
+    /**
+     * Checks whether two nodes are linked by the edges added so far.
+     *
+     * @param first  The first node.
+     * @param second The second node.
+     * @return {@code true} if the nodes are connected, {@code false} otherwise,
+     * also when a node has never been seen.
+     * @implNote This operation has amortized logarithmic time complexity
+     * O(log N).
+     */
+    @Contract(pure = true)
+    public boolean connected(@NotNull V first, @NotNull V second) {
+        var firstVertex = vertices.get(Objects.requireNonNull(first));
+        var secondVertex = vertices.get(Objects.requireNonNull(second));
+        return firstVertex != null && secondVertex != null && tree.connected(firstVertex, secondVertex);
+    }
+
+    /**
+     * Gets the number of nodes seen so far.
+     *
+     * @return The number of nodes.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public int numNodes() {
+        return vertices.size();
+    }
+
+    /**
+     * Gets the number of edges added so far, including those that did not enter
+     * the forest.
+     *
+     * @return The number of edges.
+     * @implNote This operation has constant time complexity O(1).
+     */
+    @Contract(pure = true)
+    public long numEdgesSeen() {
+        return numEdgesSeen;
+    }
+
+    private int vertex(V node) {
+        var vertex = vertices.get(node);
+        if (vertex == null) {
+            vertex = tree.newNode(Double.NEGATIVE_INFINITY);
+            vertices.put(node, vertex);
+        }
+        return vertex;
+    }
+}
@@ -0,0 +1,155 @@
+package org.unito.asd.prim.tests.graph;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.unito.asd.prim.ConcurrentGraph;
+import org.unito.asd.prim.Graph;
+import org.unito.asd.prim.Prim;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("DataFlowIssue")
+public final class ConcurrentGraphTests {
+    private static final int THREADS = 8;
+    private static final int NODES = 2_000;
+
+    private ConcurrentGraph<Integer, Double> graph;
+
+    @Before
+    public void setUp() {
+        graph = new ConcurrentGraph<>(false, true);
+    }
+
+    @Test
+    public void addNode() {
+        assertThrows(NullPointerException.class, () -> graph.addNode(null));
+        assertTrue(graph.addNode(1));
+        assertFalse(graph.addNode(1));
+        assertEquals(1, graph.numNodes());
+    }
+
+    @Test
+    public void addEdge() {
+        graph.addNode(1);
+        graph.addNode(2);
+
+        assertFalse(graph.addEdge(1, 3, 1.0));
+        assertTrue(graph.addEdge(1, 2, 1.0));
+        assertFalse(graph.addEdge(2, 1, 2.0)); // Because it's undirected.
+        assertEquals(2, graph.numEdges());
+        assertEquals(1.0, graph.getLabel(2, 1));
+        assertThrows(NullPointerException.class, () -> graph.addEdge(1, 2, null));
+    }
+
+    @Test
+    public void removeNode() {
+        graph.addNode(1);
+        graph.addNode(2);
+        graph.addNode(3);
+        graph.addEdge(1, 2, 1.0);
+        graph.addEdge(3, 1, 1.0);
+
+        assertTrue(graph.removeNode(1));
+        assertFalse(graph.removeNode(1));
+        assertFalse(graph.containsEdge(2, 1));
+        assertFalse(graph.containsEdge(3, 1));
+        assertEquals(0, graph.numEdges());
+        assertEquals(2, graph.numNodes());
+    }
+
+    @Test
+    public void removeEdge() {
+        graph.addNode(1);
+        graph.addNode(2);
+        graph.addEdge(1, 2, 1.0);
+
+        assertTrue(graph.removeEdge(2, 1));
+        assertFalse(graph.removeEdge(1, 2)); // Because it's undirected.
+        assertEquals(0, graph.numEdges());
+    }
+
+    @Test
+    public void getNeighbours() {
+        assertThrows(IllegalStateException.class, () -> graph.getNeighbours(1));
+
+        graph.addNode(1);
+        graph.addNode(2);
+        graph.addNode(3);
+        graph.addEdge(1, 2, 1.0);
+        graph.addEdge(3, 1, 1.0);
+
+        assertEquals(2, graph.getNeighbours(1).size());
+        assertTrue(graph.getNeighbours(1).contains(3));
+    }
+
+    @Test
+    public void getLabel() {
+        var unlabelled = new ConcurrentGraph<Integer, Double>(true, false);
+        assertThrows(IllegalStateException.class, () -> unlabelled.getLabel(1, 2));
+        assertNull(graph.getLabel(1, 2));
+    }
+
+    @Test
+    public void concurrentIngestion() throws InterruptedException {
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+
+        for (int t = 0; t < THREADS; t++) {
+            final int offset = t;
+            var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                // Every thread adds all the nodes and its own slice of the edges, racing on shared endpoints.
+                for (int i = 0; i < NODES; i++)
+                    graph.addNode(i);
+                for (int i = offset; i < NODES; i += THREADS) {
+                    graph.addEdge(i, (i + 1) % NODES, (double) i);
+                    graph.addEdge((i + 1) % NODES, i, -1.0); // Always rejected, the edge is undirected.
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        for (var thread : threads)
+            thread.join();
+
+        assertEquals(NODES, graph.numNodes());
+        assertEquals(2 * NODES, graph.numEdges());
+        assertEquals(graph.numEdges(), graph.getEdges().size());
+        for (int i = 0; i < NODES; i++) {
+            assertTrue(graph.containsEdge((i + 1) % NODES, i));
+            assertEquals(graph.getLabel(i, (i + 1) % NODES), graph.getLabel((i + 1) % NODES, i));
+        }
+    }
+
+    @Test
+    public void minimumSpanningForest() {
+        var reference = new Graph<Integer, Double>(false, true);
+        for (int i = 0; i < 50; i++) {
+            graph.addNode(i);
+            reference.addNode(i);
+        }
+        for (int i = 0; i < 50; i++) {
+            for (int j = i + 1; j < 50; j += 7) {
+                graph.addEdge(i, j, (double) ((i * 31 + j * 17) % 23));
+                reference.addEdge(i, j, (double) ((i * 31 + j * 17) % 23));
+            }
+        }
+
+        var expected = Prim.minimumSpanningForest(reference);
+        var actual = Prim.minimumSpanningForest(graph);
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.stream().mapToDouble(edge -> edge.getLabel()).sum(),
+                actual.stream().mapToDouble(edge -> edge.getLabel()).sum());
+    }
+}
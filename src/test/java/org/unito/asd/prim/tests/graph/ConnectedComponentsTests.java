@@ -0,0 +1,133 @@
+package org.unito.asd.prim.tests.graph;
+
+import org.junit.Test;
+import org.unito.asd.prim.ConcurrentDisjointSet;
+import org.unito.asd.prim.ConnectedComponents;
+import org.unito.asd.prim.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ConnectedComponentsTests {
+    private static final int THREADS = 8;
+
+    @Test
+    public void disjointSet() {
+        var disjointSet = new ConcurrentDisjointSet(5);
+
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentDisjointSet(-1));
+        assertEquals(5, disjointSet.size());
+        assertTrue(disjointSet.union(0, 1));
+        assertTrue(disjointSet.union(3, 1));
+        assertFalse(disjointSet.union(0, 3));
+        assertTrue(disjointSet.connected(3, 0));
+        assertFalse(disjointSet.connected(2, 0));
+        assertEquals(disjointSet.find(0), disjointSet.find(3));
+    }
+
+    @Test
+    public void concurrentUnions() throws InterruptedException {
+        var size = 100_000;
+        var disjointSet = new ConcurrentDisjointSet(size);
+        var merges = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+
+        // Every thread links the same chain in a different order, so every union is raced.
+        for (int t = 0; t < THREADS; t++) {
+            var random = new Random(t);
+            var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < size - 1; i++) {
+                    var first = random.nextInt(size - 1);
+                    if (disjointSet.union(first, first + 1))
+                        merges.incrementAndGet();
+                }
+                for (int i = 0; i < size - 1; i++) {
+                    if (disjointSet.union(i, i + 1))
+                        merges.incrementAndGet();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (var thread : threads)
+            thread.join();
+
+        assertEquals(size - 1, merges.get());
+        for (int i = 0; i < size; i++)
+            assertTrue(disjointSet.connected(0, i));
+    }
+
+    @Test
+    public void components() {
+        var graph = new Graph<String, Integer>(false, true);
+        for (var node : new String[]{"a", "b", "c", "d", "e", "f"})
+            graph.addNode(node);
+        graph.addEdge("a", "b", 1);
+        graph.addEdge("c", "b", 2);
+        graph.addEdge("d", "e", 3);
+
+        var components = ConnectedComponents.components(graph);
+
+        assertEquals(3, components.numComponents());
+        assertTrue(components.connected("a", "c"));
+        assertFalse(components.connected("a", "d"));
+        assertEquals(3, components.size(components.componentOf("b")));
+        assertEquals(2, components.size(components.componentOf("e")));
+        assertEquals(1, components.size(components.componentOf("f")));
+        assertEquals(6, Arrays.stream(components.sizes()).sum());
+        assertThrows(IllegalStateException.class, () -> components.componentOf("g"));
+    }
+
+    @Test
+    public void directedGraph() {
+        var graph = new Graph<Integer, Integer>(true, false);
+        for (int i = 0; i < 4; i++)
+            graph.addNode(i);
+        graph.addEdge(0, 1, null);
+        graph.addEdge(2, 1, null);
+
+        var components = ConnectedComponents.components(graph);
+
+        assertEquals(2, components.numComponents());
+        assertTrue(components.connected(0, 2));
+        assertFalse(components.connected(0, 3));
+    }
+
+    @Test
+    public void largeGraph() {
+        // Ten disjoint random graphs, each made connected by a path through its nodes.
+        var random = new Random(67);
+        var graph = new Graph<Integer, Double>(false, true);
+        var blocks = 10;
+        var blockSize = 5_000;
+        for (int i = 0; i < blocks * blockSize; i++)
+            graph.addNode(i);
+        for (int block = 0; block < blocks; block++) {
+            var base = block * blockSize;
+            for (int i = 0; i < blockSize - 1; i++)
+                graph.addEdge(base + i, base + i + 1, 1.0);
+            for (int i = 0; i < blockSize; i++)
+                graph.addEdge(base + random.nextInt(blockSize), base + random.nextInt(blockSize), 1.0);
+        }
+
+        var components = ConnectedComponents.components(graph);
+
+        assertEquals(blocks, components.numComponents());
+        for (int i = 0; i < blocks * blockSize; i++)
+            assertEquals(components.componentOf(i / blockSize * blockSize), components.componentOf(i));
+        for (var size : components.sizes())
+            assertEquals(blockSize, size);
+    }
+}
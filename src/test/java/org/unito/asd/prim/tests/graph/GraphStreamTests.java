@@ -0,0 +1,124 @@
+package org.unito.asd.prim.tests.graph;
+
+import org.junit.Test;
+import org.unito.asd.prim.AbstractEdge;
+import org.unito.asd.prim.AbstractGraph;
+import org.unito.asd.prim.Graph;
+import org.unito.asd.prim.OffHeapGraph;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class GraphStreamTests {
+    private static Graph<Integer, Double> randomGraph(boolean directed, boolean sharedEdges) {
+        var graph = new Graph<Integer, Double>(directed, true, sharedEdges);
+        var random = new Random(103);
+        for (var i = 0; i < 1_000; i++)
+            graph.addNode(i);
+        for (var i = 0; i < 5_000; i++)
+            graph.addEdge(random.nextInt(1_000), random.nextInt(1_000), (double) random.nextInt(100));
+        return graph;
+    }
+
+    private static String key(AbstractEdge<?, ?> edge) {
+        return edge.getStart() + "," + edge.getEnd() + "," + edge.getLabel();
+    }
+
+    private static List<String> keys(Collection<? extends AbstractEdge<?, ?>> edges) {
+        return edges.stream().map(GraphStreamTests::key).sorted().toList();
+    }
+
+    private static void assertEdgeStreams(AbstractGraph<Integer, Double> graph) {
+        var expected = keys(graph.getEdges());
+
+        assertEquals(expected.size(), graph.edges().count());
+        assertEquals(expected, keys(graph.edges().toList()));
+        assertEquals(expected, keys(graph.edges().parallel().toList()));
+
+        for (var node : graph.getNodes()) {
+            var edges = graph.edges(node).toList();
+            assertTrue(edges.stream().allMatch(edge -> Objects.equals(edge.getStart(), node)));
+            assertEquals(new HashSet<>(graph.getNeighbours(node)),
+                    edges.stream().map(AbstractEdge::getEnd).collect(Collectors.toSet()));
+            assertTrue(edges.stream().allMatch(edge -> edge.getLabel().equals(graph.getLabel(node, edge.getEnd()))));
+        }
+    }
+
+    @Test
+    public void nodes() {
+        var graph = randomGraph(false, false);
+
+        assertEquals(new HashSet<>(graph.getNodes()), graph.nodes().collect(Collectors.toSet()));
+        assertEquals(499_500, graph.nodes().parallel().mapToInt(Integer::intValue).sum());
+        assertTrue(graph.getNodes().spliterator().hasCharacteristics(Spliterator.SIZED));
+        assertEquals(0, new Graph<Integer, Double>(false, true).nodes().count());
+    }
+
+    @Test
+    public void undirectedEdges() {
+        assertEdgeStreams(randomGraph(false, false));
+    }
+
+    @Test
+    public void directedEdges() {
+        assertEdgeStreams(randomGraph(true, false));
+    }
+
+    @Test
+    public void sharedEdges() {
+        assertEdgeStreams(randomGraph(false, true));
+    }
+
+    @Test
+    public void edgesOfMissingNode() {
+        var graph = randomGraph(false, false);
+
+        assertThrows(NullPointerException.class, () -> graph.edges(null));
+        assertThrows(IllegalStateException.class, () -> graph.edges(1_000));
+    }
+
+    @Test
+    public void edgeSpliterator() {
+        var graph = randomGraph(false, true);
+        var spliterator = graph.edges().spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(graph.getEdges().size(), spliterator.getExactSizeIfKnown());
+
+        // Split recursively, and check that the parts cover all the edges, each once.
+        var parts = new ArrayDeque<Spliterator<? extends AbstractEdge<Integer, Double>>>();
+        parts.add(spliterator);
+        var edges = new ArrayList<AbstractEdge<Integer, Double>>();
+        var numParts = 0;
+        while (!parts.isEmpty()) {
+            var part = parts.poll();
+            var prefix = part.trySplit();
+            if (prefix != null) {
+                assertFalse(part.hasCharacteristics(Spliterator.SIZED));
+                parts.add(prefix);
+                parts.add(part);
+            } else {
+                part.forEachRemaining(edges::add);
+                numParts++;
+            }
+        }
+
+        assertTrue(numParts > 1);
+        assertEquals(keys(graph.getEdges()), keys(edges));
+    }
+
+    @Test
+    public void defaultStreams() {
+        var graph = new OffHeapGraph(false, 64);
+        var random = new Random(107);
+        for (var i = 0; i < 64; i++)
+            graph.addNode(i);
+        for (var i = 0; i < 200; i++)
+            graph.addEdge(random.nextInt(64), random.nextInt(64), (double) random.nextInt(100));
+
+        assertEquals(new HashSet<>(graph.getNodes()), graph.nodes().collect(Collectors.toSet()));
+        assertEdgeStreams(graph);
+    }
+}
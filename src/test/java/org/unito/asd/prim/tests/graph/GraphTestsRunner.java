@@ -12,6 +12,11 @@ public final class GraphTestsRunner {
                 LabelledUndirectedGraphStringTests.class,
                 UnlabelledDirectedGraphStringTests.class,
                 UnlabelledDirectedGraphFloatTests.class,
-                UnlabelledDirectedGraphIntegerTests.class);
+                UnlabelledDirectedGraphIntegerTests.class,
+                ConcurrentGraphTests.class,
+                OffHeapGraphTests.class,
+                ConnectedComponentsTests.class,
+                SharedEdgeGraphTests.class,
+                GraphStreamTests.class);
     }
 }
@@ -0,0 +1,120 @@
+package org.unito.asd.prim.tests.graph;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.unito.asd.prim.AbstractGraph;
+import org.unito.asd.prim.Edge;
+import org.unito.asd.prim.Graph;
+import org.unito.asd.prim.OffHeapGraph;
+import org.unito.asd.prim.Prim;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("DataFlowIssue")
+public final class OffHeapGraphTests {
+    private OffHeapGraph graph;
+
+    @Before
+    public void setUp() {
+        graph = new OffHeapGraph(false, 16);
+    }
+
+    @Test
+    public void addNode() {
+        assertThrows(NullPointerException.class, () -> graph.addNode((Integer) null));
+        assertThrows(IllegalArgumentException.class, () -> graph.addNode(16));
+        assertTrue(graph.addNode(1));
+        assertFalse(graph.addNode(1));
+        assertEquals(1, graph.numNodes());
+        assertTrue(graph.getNodes().contains(1));
+    }
+
+    @Test
+    public void addEdge() {
+        graph.addNode(1);
+        graph.addNode(2);
+
+        assertFalse(graph.addEdge(1, 3, 1.0));
+        assertTrue(graph.addEdge(1, 2, 1.5));
+        assertFalse(graph.addEdge(2, 1, 2.0)); // Because it's undirected.
+        assertEquals(2, graph.numEdges());
+        assertEquals(1.5, graph.getLabel(2, 1));
+        assertTrue(graph.getEdges().contains(new Edge<>(2, 1, null)));
+    }
+
+    @Test
+    public void removeNode() {
+        graph.addNode(1);
+        graph.addNode(2);
+        graph.addNode(3);
+        graph.addEdge(1, 2, 1.0);
+        graph.addEdge(3, 1, 1.0);
+        graph.addEdge(2, 3, 1.0);
+
+        assertTrue(graph.removeNode(1));
+        assertFalse(graph.removeNode(1));
+        assertFalse(graph.containsEdge(2, 1));
+        assertEquals(2, graph.numEdges());
+        assertEquals(2, graph.numNodes());
+        assertEquals(1, graph.getNeighbours(2).size());
+    }
+
+    @Test
+    public void removeEdge() {
+        var directed = new OffHeapGraph(true, 4);
+        directed.addNode(0);
+        directed.addNode(1);
+        directed.addEdge(0, 1, 1.0);
+        directed.addEdge(1, 0, 2.0);
+
+        assertTrue(directed.removeEdge(0, 1));
+        assertFalse(directed.removeEdge(0, 1));
+        assertTrue(directed.containsEdge(1, 0));
+        assertEquals(1, directed.numEdges());
+    }
+
+    @Test
+    public void reusesReleasedArcs() {
+        graph.addNode(1);
+        graph.addNode(2);
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(graph.addEdge(1, 2, i));
+            assertTrue(graph.removeEdge(1, 2));
+        }
+
+        assertEquals(0, graph.numEdges());
+        assertEquals(0, graph.getNeighbours(1).size());
+    }
+
+    @Test
+    public void minimumSpanningForest() {
+        var random = new Random(42);
+        var offHeap = new OffHeapGraph(false, 300);
+        var reference = new Graph<Integer, Double>(false, true);
+
+        for (int i = 0; i < 300; i++) {
+            offHeap.addNode(i);
+            reference.addNode(i);
+        }
+        for (int i = 0; i < 1_500; i++) {
+            int start = random.nextInt(250); // Nodes 250..299 stay isolated.
+            int end = random.nextInt(250);
+            double weight = random.nextInt(100);
+            offHeap.addEdge(start, end, weight);
+            reference.addEdge(start, end, weight);
+        }
+
+        var expected = Prim.minimumSpanningForest(reference);
+        var actual = Prim.minimumSpanningForest(offHeap);
+        var generic = Prim.minimumSpanningForest((AbstractGraph<Integer, Double>) offHeap);
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.size(), generic.size());
+        assertEquals(expected.stream().mapToDouble(edge -> edge.getLabel()).sum(),
+                actual.stream().mapToDouble(edge -> edge.getLabel()).sum());
+        assertEquals(expected.stream().mapToDouble(edge -> edge.getLabel()).sum(),
+                generic.stream().mapToDouble(edge -> edge.getLabel()).sum());
+    }
+}
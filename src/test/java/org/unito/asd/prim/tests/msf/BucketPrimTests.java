@@ -0,0 +1,82 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.BucketPrim;
+import org.unito.asd.prim.Graph;
+import org.unito.asd.prim.MsfPlanner;
+import org.unito.asd.prim.MsfStrategy;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class BucketPrimTests {
+    private static Graph<Integer, Integer> integerGraph(long seed, int numNodes, int numEdges, int minWeight, int maxWeight) {
+        var random = new Random(seed);
+        var graph = new Graph<Integer, Integer>(false, true);
+        for (int i = 0; i < numNodes; i++)
+            graph.addNode(i);
+        for (int i = 0; i < numEdges; i++)
+            graph.addEdge(random.nextInt(numNodes), random.nextInt(numNodes), minWeight + random.nextInt(maxWeight - minWeight + 1));
+        return graph;
+    }
+
+    @Test
+    public void smallWeights() {
+        var graph = integerGraph(31, 2_000, 10_000, 1, 20);
+        var msf = new BucketPrim().minimumSpanningForest(graph);
+
+        assertMinimumSpanningForest(graph, msf);
+    }
+
+    @Test
+    public void negativeWeights() {
+        var graph = integerGraph(37, 500, 3_000, -500, 500);
+        assertMinimumSpanningForest(graph, new BucketPrim().minimumSpanningForest(graph));
+    }
+
+    @Test
+    public void wideRange() {
+        // Too wide for the buckets, so the engine falls back to a binary heap.
+        var graph = integerGraph(41, 500, 3_000, 0, Integer.MAX_VALUE - 1);
+        assertMinimumSpanningForest(graph, new BucketPrim().minimumSpanningForest(graph));
+    }
+
+    @Test
+    public void doubleWeights() {
+        var graph = randomGraph(43, 500, 3_000, 50);
+        assertMinimumSpanningForest(graph, new BucketPrim().minimumSpanningForest(graph));
+    }
+
+    @Test
+    public void forest() {
+        var graph = integerGraph(47, 400, 300, 1, 5);
+        graph.addNode(1_000);
+
+        assertMinimumSpanningForest(graph, new BucketPrim().minimumSpanningForest(graph));
+    }
+
+    @Test
+    public void directed() {
+        var graph = new Graph<Integer, Short>(true, true);
+        for (int i = 0; i < 3; i++)
+            graph.addNode(i);
+        graph.addEdge(0, 1, (short) 4);
+        graph.addEdge(0, 2, (short) 1);
+        graph.addEdge(2, 1, (short) 2);
+        graph.addEdge(1, 2, (short) 1);
+
+        var msf = new BucketPrim().minimumSpanningForest(graph);
+
+        assertEquals(2, msf.size());
+        assertEquals(3.0, totalWeight(msf));
+    }
+
+    @Test
+    public void plannedForIntegerWeights() {
+        var graph = integerGraph(53, 1_000, 5_000, 1, 100);
+        assertEquals(MsfStrategy.BUCKET_PRIM, MsfPlanner.plan(new MsfPlanner.Profile(graph.numNodes(), graph.numEdges(),
+                false, MsfPlanner.profile(graph).integralWeights(), false, 1)));
+    }
+}
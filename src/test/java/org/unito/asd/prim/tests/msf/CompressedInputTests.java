@@ -0,0 +1,122 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.AbstractEdge;
+import org.unito.asd.prim.CompressedInput;
+import org.unito.asd.prim.StreamingMsf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class CompressedInputTests {
+    private static Path createFile(byte[] content) throws IOException {
+        var file = Files.createTempFile("prim-input", ".bin");
+        file.toFile().deleteOnExit();
+        Files.write(file, content);
+        return file;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var output = new GZIPOutputStream(bytes)) {
+            output.write(content);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] readAll(Path file) throws IOException {
+        try (var input = CompressedInput.open(file)) {
+            return input.readAllBytes();
+        }
+    }
+
+    @Test
+    public void plainFile() throws IOException {
+        var content = "A,B,4.0\nB,C,2.0\n".getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(content, readAll(createFile(content)));
+        assertArrayEquals(new byte[0], readAll(createFile(new byte[0])));
+        assertArrayEquals(new byte[]{0x1f}, readAll(createFile(new byte[]{0x1f})));
+    }
+
+    @Test
+    public void gzipFile() throws IOException {
+        var content = "A,B,4.0\nB,C,2.0\n".getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(content, readAll(createFile(gzip(content))));
+        assertArrayEquals(new byte[0], readAll(createFile(gzip(new byte[0]))));
+    }
+
+    @Test
+    public void gzipLargerThanRing() throws IOException {
+        // Enough bytes to wrap around the ring of buffers several times.
+        var content = new byte[3 * CompressedInput.RING_SIZE * CompressedInput.BUFFER_SIZE + 12_345];
+        var random = new Random(97);
+        for (var i = 0; i < content.length; i++)
+            content[i] = (byte) ('a' + random.nextInt(4));
+
+        var file = createFile(gzip(content));
+        assertArrayEquals(content, readAll(file));
+
+        // Single bytes and short reads see the same content.
+        try (var input = CompressedInput.open(file)) {
+            assertEquals(content[0], (byte) input.read());
+            var rest = new byte[content.length - 1];
+            var read = 0;
+            while (read < rest.length) {
+                var count = input.read(rest, read, Math.min(1_000, rest.length - read));
+                assertTrue(count > 0);
+                read += count;
+            }
+            assertArrayEquals(Arrays.copyOfRange(content, 1, content.length), rest);
+            assertEquals(-1, input.read());
+        }
+    }
+
+    @Test
+    public void closeBeforeEnd() throws IOException {
+        var content = new byte[4 * CompressedInput.RING_SIZE * CompressedInput.BUFFER_SIZE];
+        var file = createFile(gzip(content));
+
+        // The decompressing thread is blocked on a full ring, and shall not keep the reader from closing.
+        try (var input = CompressedInput.open(file)) {
+            assertEquals(0, input.read());
+        }
+    }
+
+    @Test
+    public void truncatedGzip() throws IOException {
+        var compressed = gzip("A,B,4.0\nB,C,2.0\n".repeat(1_000).getBytes(StandardCharsets.UTF_8));
+        var file = createFile(Arrays.copyOf(compressed, compressed.length / 2));
+
+        assertThrows(IOException.class, () -> readAll(file));
+    }
+
+    @Test
+    public void zstdFile() throws IOException {
+        var file = createFile(new byte[]{0x28, (byte) 0xb5, 0x2f, (byte) 0xfd, 0x00, 0x00});
+
+        var e = assertThrows(IOException.class, () -> CompressedInput.open(file));
+        assertTrue(e.getMessage().contains("zstd"));
+    }
+
+    @Test
+    public void gzipEdgeFile() throws IOException {
+        var graph = randomGraph(101, 2_000, 20_000, 1_000);
+        var lines = new StringBuilder();
+        for (AbstractEdge<Integer, Double> edge : graph.getEdges())
+            lines.append(edge.getStart()).append(',').append(edge.getEnd()).append(',').append(edge.getLabel()).append('\n');
+        var file = createFile(gzip(lines.toString().getBytes(StandardCharsets.UTF_8)));
+
+        var msf = StreamingMsf.of(file);
+
+        assertEquals(referenceWeight(graph), totalWeight(msf.getForest()));
+    }
+}
@@ -0,0 +1,57 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.DensePrim;
+import org.unito.asd.prim.Graph;
+import org.unito.asd.prim.Prim;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class DensePrimTests {
+    @Test
+    public void isDense() {
+        assertTrue(DensePrim.isDense(completeGraph(1, 50)));
+        assertFalse(DensePrim.isDense(randomGraph(1, 500, 600, 10)));
+        assertFalse(DensePrim.isDense(new Graph<Integer, Double>(false, true)));
+    }
+
+    @Test
+    public void complete() {
+        var graph = completeGraph(3, 120);
+        var msf = new DensePrim().minimumSpanningForest(graph);
+
+        assertEquals(119, msf.size());
+        assertMinimumSpanningForest(graph, msf);
+    }
+
+    @Test
+    public void forest() {
+        var graph = completeGraph(5, 40);
+        for (int i = 40; i < 45; i++)
+            graph.addNode(i);
+        graph.addEdge(40, 41, 3.0);
+        graph.addEdge(42, 41, 1.0);
+
+        var msf = new DensePrim().minimumSpanningForest(graph);
+
+        assertEquals(39 + 2, msf.size());
+        assertMinimumSpanningForest(graph, msf);
+    }
+
+    @Test
+    public void selectedByPrim() {
+        var graph = completeGraph(11, 80);
+        var msf = Prim.minimumSpanningForest(graph);
+
+        assertEquals(79, msf.size());
+        assertMinimumSpanningForest(graph, msf);
+    }
+
+    @Test
+    public void sparseGraph() {
+        var graph = randomGraph(13, 200, 400, 50);
+        assertMinimumSpanningForest(graph, new DensePrim().minimumSpanningForest(graph));
+        assertMinimumSpanningForest(graph, Prim.minimumSpanningForest(graph));
+    }
+}
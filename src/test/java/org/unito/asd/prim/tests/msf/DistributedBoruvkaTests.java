@@ -0,0 +1,129 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.AbstractEdge;
+import org.unito.asd.prim.DistributedBoruvka;
+import org.unito.asd.prim.Graph;
+import org.unito.asd.prim.Prim;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class DistributedBoruvkaTests {
+    private static Graph<String, Double> toStringGraph(Graph<Integer, Double> graph) {
+        var named = new Graph<String, Double>(false, true);
+        for (var node : graph.getNodes())
+            named.addNode("n" + node);
+        for (var edge : graph.getUndirectedEdges())
+            named.addEdge("n" + edge.getStart(), "n" + edge.getEnd(), edge.getLabel());
+        return named;
+    }
+
+    private static Path writeEdges(Graph<String, Double> graph) throws IOException {
+        var file = Files.createTempFile("prim-shard", ".csv");
+        file.toFile().deleteOnExit();
+
+        var lines = new ArrayList<String>();
+        for (var edge : graph.getUndirectedEdges())
+            lines.add(edge.getStart() + "," + edge.getEnd() + "," + edge.getLabel());
+        Files.write(file, lines);
+        return file;
+    }
+
+    private static Collection<AbstractEdge<String, Double>> runInThreads(Path shard, int numWorkers) throws Exception {
+        try (var server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            var address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort());
+            var failures = new ArrayList<Throwable>();
+            var threads = new ArrayList<Thread>();
+            for (var i = 0; i < numWorkers; i++) {
+                var thread = new Thread(() -> {
+                    try {
+                        DistributedBoruvka.work(address, shard);
+                    } catch (Throwable e) {
+                        synchronized (failures) {
+                            failures.add(e);
+                        }
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            var msf = DistributedBoruvka.coordinate(server, numWorkers);
+            for (var thread : threads)
+                thread.join();
+
+            assertEquals(List.of(), failures);
+            return msf;
+        }
+    }
+
+    @Test
+    public void invalidWorkers() throws IOException {
+        try (var server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            assertThrows(IllegalArgumentException.class, () -> DistributedBoruvka.coordinate(server, 0));
+        }
+    }
+
+    @Test
+    public void singleWorker() throws Exception {
+        var graph = toStringGraph(randomGraph(71, 500, 2_000, 30));
+        assertMinimumSpanningForest(graph, runInThreads(writeEdges(graph), 1));
+    }
+
+    @Test
+    public void severalWorkers() throws Exception {
+        var graph = toStringGraph(randomGraph(73, 3_000, 15_000, 10));
+        for (var numWorkers : new int[]{2, 3, 5})
+            assertMinimumSpanningForest(graph, runInThreads(writeEdges(graph), numWorkers));
+    }
+
+    @Test
+    public void forest() throws Exception {
+        var graph = toStringGraph(randomGraph(79, 2_000, 1_200, 100));
+        assertMinimumSpanningForest(graph, runInThreads(writeEdges(graph), 4));
+    }
+
+    @Test
+    public void separateProcesses() throws Exception {
+        var graph = toStringGraph(randomGraph(89, 1_000, 5_000, 50));
+        var shard = writeEdges(graph);
+        var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        var numWorkers = 3;
+
+        try (var server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            var processes = new ArrayList<Process>();
+            try {
+                for (var i = 0; i < numWorkers; i++) {
+                    processes.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                            Prim.class.getName(), "--worker=127.0.0.1:" + server.getLocalPort(), shard.toString())
+                            .redirectErrorStream(true)
+                            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                            .start());
+                }
+
+                var msf = DistributedBoruvka.coordinate(server, numWorkers);
+                assertMinimumSpanningForest(graph, msf);
+
+                for (var process : processes) {
+                    assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+                    assertEquals(0, process.exitValue());
+                }
+            } finally {
+                for (var process : processes)
+                    process.destroyForcibly();
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.DynamicMsf;
+import org.unito.asd.prim.Graph;
+import org.unito.asd.prim.GraphListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class DynamicMsfTests {
+    @Test
+    public void initialForest() {
+        var graph = randomGraph(71, 200, 800, 50);
+        try (var msf = new DynamicMsf<>(graph)) {
+            assertMinimumSpanningForest(graph, msf.getForest());
+        }
+    }
+
+    @Test
+    public void rejectsDirectedAndUnlabelledGraphs() {
+        assertThrows(IllegalArgumentException.class, () -> new DynamicMsf<>(new Graph<Integer, Double>(true, true)));
+        assertThrows(IllegalArgumentException.class, () -> new DynamicMsf<>(new Graph<Integer, Double>(false, false)));
+    }
+
+    @Test
+    public void insertions() {
+        var graph = new Graph<Integer, Double>(false, true);
+        for (int i = 0; i < 4; i++)
+            graph.addNode(i);
+
+        try (var msf = new DynamicMsf<>(graph)) {
+            graph.addEdge(0, 1, 5.0);
+            graph.addEdge(1, 2, 4.0);
+            assertFalse(msf.connected(0, 3));
+            assertTrue(msf.connected(0, 2));
+
+            // Closes the cycle 0-1-2 and replaces its heaviest edge.
+            graph.addEdge(2, 0, 1.0);
+            assertEquals(2, msf.getForest().size());
+            assertEquals(5.0, totalWeight(msf.getForest()));
+
+            graph.addEdge(0, 3, 9.0);
+            assertEquals(14.0, totalWeight(msf.getForest()));
+
+            // Heavier than every edge of the cycle it closes, so it stays out.
+            graph.addEdge(3, 1, 12.0);
+            assertEquals(3, msf.getForest().size());
+            assertEquals(14.0, totalWeight(msf.getForest()));
+        }
+    }
+
+    @Test
+    public void removals() {
+        var graph = new Graph<Integer, Double>(false, true);
+        for (int i = 0; i < 4; i++)
+            graph.addNode(i);
+        graph.addEdge(0, 1, 1.0);
+        graph.addEdge(1, 2, 2.0);
+        graph.addEdge(2, 3, 3.0);
+        graph.addEdge(3, 0, 10.0);
+        graph.addEdge(0, 2, 7.0);
+
+        try (var msf = new DynamicMsf<>(graph)) {
+            assertEquals(6.0, totalWeight(msf.getForest()));
+
+            graph.removeEdge(0, 2);
+            assertEquals(6.0, totalWeight(msf.getForest()));
+
+            graph.removeEdge(2, 1);
+            assertEquals(14.0, totalWeight(msf.getForest()));
+
+            graph.removeEdge(3, 0);
+            assertEquals(2, msf.getForest().size());
+            assertFalse(msf.connected(0, 3));
+
+            graph.removeNode(2);
+            assertEquals(1, msf.getForest().size());
+            assertThrows(IllegalStateException.class, () -> msf.connected(2, 0));
+        }
+    }
+
+    @Test
+    public void randomChanges() {
+        var random = new Random(73);
+        var graph = randomGraph(79, 150, 400, 30);
+        var nextNode = 150;
+
+        try (var msf = new DynamicMsf<>(graph)) {
+            for (int step = 0; step < 2_000; step++) {
+                var nodes = new ArrayList<>(graph.getNodes());
+                var start = nodes.get(random.nextInt(nodes.size()));
+                var end = nodes.get(random.nextInt(nodes.size()));
+
+                switch (random.nextInt(10)) {
+                    case 0 -> graph.addNode(nextNode++);
+                    case 1 -> graph.removeNode(start);
+                    case 2, 3, 4, 5 -> graph.addEdge(start, end, (double) random.nextInt(30));
+                    default -> {
+                        var edges = new ArrayList<>(graph.getEdges());
+                        if (!edges.isEmpty()) {
+                            var edge = edges.get(random.nextInt(edges.size()));
+                            graph.removeEdge(edge.getStart(), edge.getEnd());
+                        }
+                    }
+                }
+
+                assertMinimumSpanningForest(graph, msf.getForest());
+            }
+        }
+    }
+
+    @Test
+    public void close() {
+        var graph = new Graph<Integer, Double>(false, true);
+        graph.addNode(0);
+        graph.addNode(1);
+
+        var msf = new DynamicMsf<>(graph);
+        msf.close();
+        graph.addEdge(0, 1, 1.0);
+
+        assertTrue(msf.getForest().isEmpty());
+    }
+
+    @Test
+    public void listenerNotifications() {
+        var graph = new Graph<Integer, Double>(false, true);
+        var events = new ArrayList<String>();
+        graph.addListener(new GraphListener<>() {
+            @Override
+            public void nodeAdded(Integer node) {
+                events.add("+" + node);
+            }
+
+            @Override
+            public void nodeRemoved(Integer node) {
+                events.add("-" + node);
+            }
+
+            @Override
+            public void edgeAdded(Integer start, Integer end, Double label) {
+                events.add("+" + start + ">" + end + ":" + label);
+            }
+
+            @Override
+            public void edgeRemoved(Integer start, Integer end, Double label) {
+                events.add("-" + start + ">" + end + ":" + label);
+            }
+        });
+
+        graph.addNode(0);
+        graph.addNode(1);
+        graph.addNode(0);
+        graph.addEdge(0, 1, 2.0);
+        graph.addEdge(1, 0, 3.0);
+        graph.removeEdge(1, 0);
+        graph.addEdge(0, 1, 4.0);
+        graph.removeNode(1);
+
+        assertEquals(List.of("+0", "+1", "+0>1:2.0", "-1>0:2.0", "+0>1:4.0", "-1>0:4.0", "-1"), events);
+    }
+}
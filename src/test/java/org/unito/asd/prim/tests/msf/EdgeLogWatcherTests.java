@@ -0,0 +1,138 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.EdgeLogWatcher;
+import org.unito.asd.prim.Graph;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class EdgeLogWatcherTests {
+    private static Path createLog() throws IOException {
+        var file = Files.createTempFile("prim-log", ".csv");
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    private static void append(Path file, String text) throws IOException {
+        Files.writeString(file, text, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    @Test
+    public void emptyLog() throws IOException {
+        try (var watcher = new EdgeLogWatcher(createLog())) {
+            assertTrue(watcher.getForest().isEmpty());
+            assertEquals(0, watcher.refresh());
+            assertEquals(0, watcher.offset());
+            assertTrue(watcher.getForest().isEmpty());
+        }
+    }
+
+    @Test
+    public void appendedEdges() throws IOException {
+        var file = createLog();
+        append(file, "A,B,4.0\nB,C,2.0\n");
+
+        try (var watcher = new EdgeLogWatcher(file)) {
+            assertEquals(2, watcher.refresh());
+            assertEquals(16, watcher.offset());
+            assertEquals(6.0, totalWeight(watcher.getForest()));
+
+            append(file, "A,C,1.0\nC,D,5.0\n");
+            assertEquals(2, watcher.refresh());
+            assertEquals(3, watcher.getForest().size());
+            assertEquals(8.0, totalWeight(watcher.getForest()));
+
+            assertEquals(0, watcher.refresh());
+            assertEquals(4, watcher.getGraph().numNodes());
+        }
+    }
+
+    @Test
+    public void partialLine() throws IOException {
+        var file = createLog();
+        append(file, "A,B,4.0\nB,C,");
+
+        try (var watcher = new EdgeLogWatcher(file)) {
+            assertEquals(1, watcher.refresh());
+            assertEquals(8, watcher.offset());
+
+            append(file, "2.0\r\n\n");
+            assertEquals(1, watcher.refresh());
+            assertEquals(2, watcher.getForest().size());
+            assertEquals(6.0, totalWeight(watcher.getForest()));
+        }
+    }
+
+    @Test
+    public void duplicateEdge() throws IOException {
+        var file = createLog();
+        append(file, "A,B,4.0\n");
+
+        try (var watcher = new EdgeLogWatcher(file)) {
+            watcher.refresh();
+            append(file, "B,A,1.0\n");
+
+            assertEquals(0, watcher.refresh());
+            assertEquals(4.0, totalWeight(watcher.getForest()));
+        }
+    }
+
+    @Test
+    public void badLineIsRetried() throws IOException {
+        var file = createLog();
+        append(file, "A,B,4.0\nB,C,oops\n");
+
+        try (var watcher = new EdgeLogWatcher(file)) {
+            assertThrows(NumberFormatException.class, watcher::refresh);
+            assertEquals(8, watcher.offset());
+            assertFalse(watcher.getGraph().containsNode("C"));
+        }
+    }
+
+    @Test
+    public void truncatedLog() throws IOException {
+        var file = createLog();
+        append(file, "A,B,4.0\n");
+
+        try (var watcher = new EdgeLogWatcher(file)) {
+            watcher.refresh();
+            Files.writeString(file, "");
+            assertThrows(IOException.class, watcher::refresh);
+        }
+    }
+
+    @Test
+    public void matchesRecomputation() throws IOException {
+        var random = new Random(97);
+        var file = createLog();
+        var graph = new Graph<String, Double>(false, true);
+
+        try (var watcher = new EdgeLogWatcher(file)) {
+            for (var batch = 0; batch < 20; batch++) {
+                var text = new StringBuilder();
+                for (var i = 0; i < 200; i++) {
+                    var start = "n" + random.nextInt(300);
+                    var end = "n" + random.nextInt(300);
+                    var weight = (double) random.nextInt(1_000);
+                    text.append(start).append(',').append(end).append(',').append(weight).append('\n');
+
+                    graph.addNode(start);
+                    graph.addNode(end);
+                    graph.addEdge(start, end, weight);
+                }
+                append(file, text.toString());
+
+                watcher.refresh();
+                assertMinimumSpanningForest(graph, watcher.getForest());
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.EuclideanMst;
+import org.unito.asd.prim.EuclideanMst.Metric;
+import org.unito.asd.prim.Graph;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class EuclideanMstTests {
+    @Test
+    public void fewPoints() {
+        assertTrue(EuclideanMst.minimumSpanningTree(List.of(), new double[0][], Metric.EUCLIDEAN).isEmpty());
+        assertTrue(EuclideanMst.minimumSpanningTree(List.of("a"), new double[][]{{1, 2}}, Metric.EUCLIDEAN).isEmpty());
+
+        var msf = EuclideanMst.minimumSpanningTree(List.of("a", "b"), new double[][]{{0, 0}, {3, 4}}, Metric.EUCLIDEAN);
+        assertEquals(1, msf.size());
+        assertEquals(5.0, msf.iterator().next().getLabel(), 1e-9);
+    }
+
+    @Test
+    public void invalidPoints() {
+        assertThrows(IllegalArgumentException.class,
+                () -> EuclideanMst.minimumSpanningTree(List.of("a"), new double[][]{{0, 0}, {1, 1}}, Metric.EUCLIDEAN));
+        assertThrows(IllegalArgumentException.class,
+                () -> EuclideanMst.minimumSpanningTree(List.of("a", "b"), new double[][]{{0, 0}, {1}}, Metric.EUCLIDEAN));
+        assertThrows(IllegalArgumentException.class,
+                () -> EuclideanMst.minimumSpanningTree(List.of("a", "b"), new double[][]{{0, 0, 0}, {1, 1, 1}}, Metric.HAVERSINE));
+    }
+
+    @Test
+    public void planarPoints() {
+        var points = randomPoints(17, 400, 2, 1_000);
+        assertMatchesCompleteGraph(points, Metric.EUCLIDEAN, EuclideanMstTests::euclidean);
+    }
+
+    @Test
+    public void clusteredPointsWithDuplicates() {
+        var points = randomPoints(19, 300, 3, 10);
+        for (int i = 0; i < 30; i++)
+            points[i + 100] = points[i].clone();
+        assertMatchesCompleteGraph(points, Metric.EUCLIDEAN, EuclideanMstTests::euclidean);
+    }
+
+    @Test
+    public void geographicPoints() {
+        var random = new Random(23);
+        var points = new double[250][];
+        for (int i = 0; i < points.length; i++)
+            points[i] = new double[]{random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180};
+
+        assertMatchesCompleteGraph(points, Metric.HAVERSINE, EuclideanMstTests::haversine);
+    }
+
+    @Test
+    public void readSites() throws IOException {
+        var input = "Torino,45.0703,7.6869\nMilano,45.4642,9.1900\nRoma,41.9028,12.4964\n";
+        var msf = EuclideanMst.minimumSpanningTree(new BufferedReader(new StringReader(input)));
+
+        assertEquals(2, msf.size());
+        assertEquals(125.7 + 477.3, totalWeight(msf), 5.0);
+    }
+
+    private static void assertMatchesCompleteGraph(double[][] points, Metric metric,
+                                                   BiFunction<double[], double[], Double> distance) {
+        var nodes = new ArrayList<Integer>();
+        var graph = new Graph<Integer, Double>(false, true);
+        for (int i = 0; i < points.length; i++) {
+            nodes.add(i);
+            graph.addNode(i);
+        }
+        for (int i = 0; i < points.length; i++) {
+            for (int j = i + 1; j < points.length; j++)
+                graph.addEdge(i, j, distance.apply(points[i], points[j]));
+        }
+
+        var msf = EuclideanMst.minimumSpanningTree(nodes, points, metric);
+
+        assertEquals(points.length - 1, msf.size());
+        assertMinimumSpanningForest(graph, msf);
+    }
+
+    private static double[][] randomPoints(long seed, int numPoints, int dimensions, int range) {
+        var random = new Random(seed);
+        var points = new double[numPoints][dimensions];
+        for (var point : points) {
+            for (int d = 0; d < dimensions; d++)
+                point[d] = random.nextInt(range);
+        }
+        return points;
+    }
+
+    private static double euclidean(double[] first, double[] second) {
+        var distance = 0.0;
+        for (int d = 0; d < first.length; d++)
+            distance += (first[d] - second[d]) * (first[d] - second[d]);
+        return Math.sqrt(distance);
+    }
+
+    private static double haversine(double[] first, double[] second) {
+        var latitude = Math.toRadians(second[0] - first[0]);
+        var longitude = Math.toRadians(second[1] - first[1]);
+        var a = Math.pow(Math.sin(latitude / 2), 2)
+                + Math.cos(Math.toRadians(first[0])) * Math.cos(Math.toRadians(second[0])) * Math.pow(Math.sin(longitude / 2), 2);
+        return 2 * EuclideanMst.EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+    }
+}
@@ -0,0 +1,86 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.AbstractEdge;
+import org.unito.asd.prim.ExternalKruskal;
+import org.unito.asd.prim.Graph;
+import org.unito.asd.prim.Prim;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ExternalKruskalTests {
+    @Test
+    public void emptyInput() throws IOException {
+        var msf = new ArrayList<AbstractEdge<String, Double>>();
+        new ExternalKruskal().minimumSpanningForest(new BufferedReader(new StringReader("")), msf::add);
+        assertTrue(msf.isEmpty());
+    }
+
+    @Test
+    public void invalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalKruskal(0, 2, null));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalKruskal(10, 1, null));
+    }
+
+    @Test
+    public void matchesPrim() throws IOException {
+        var random = new Random(7);
+        var lines = new StringBuilder();
+        var graph = new Graph<String, Double>(false, true);
+
+        for (int i = 0; i < 2_000; i++) {
+            var start = "n" + random.nextInt(300);
+            var end = "n" + random.nextInt(300);
+            var weight = (double) random.nextInt(1_000);
+
+            // Keep the two inputs equivalent: the graph ignores repeated edges.
+            graph.addNode(start);
+            graph.addNode(end);
+            if (graph.addEdge(start, end, weight))
+                lines.append(start).append(',').append(end).append(',').append(weight).append('\n');
+        }
+
+        var directory = Files.createTempDirectory("prim-tests");
+        var msf = new ArrayList<AbstractEdge<String, Double>>();
+        new ExternalKruskal(97, 3, directory)
+                .minimumSpanningForest(new BufferedReader(new StringReader(lines.toString())), msf::add);
+
+        var expected = Prim.minimumSpanningForest(graph);
+        assertEquals(expected.size(), msf.size());
+        assertEquals(expected.stream().mapToDouble(edge -> edge.getLabel()).sum(),
+                msf.stream().mapToDouble(AbstractEdge::getLabel).sum());
+
+        for (int i = 1; i < msf.size(); i++)
+            assertTrue(msf.get(i - 1).getLabel() <= msf.get(i).getLabel());
+
+        try (var leftovers = Files.list(directory)) {
+            assertEquals(0, leftovers.count());
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void runsDeletedOnFailure() throws IOException {
+        var lines = new StringBuilder();
+        for (int i = 0; i < 20; i++)
+            lines.append('n').append(i).append(",n").append(i + 1).append(',').append(i).append('\n');
+        lines.append("n0,n1,not-a-weight\n");
+
+        var directory = Files.createTempDirectory("prim-tests");
+        assertThrows(NumberFormatException.class, () -> new ExternalKruskal(3, 2, directory)
+                .minimumSpanningForest(new BufferedReader(new StringReader(lines.toString())), edge -> {
+                }));
+
+        try (var leftovers = Files.list(directory)) {
+            assertEquals(0, leftovers.count());
+        }
+        Files.delete(directory);
+    }
+}
@@ -0,0 +1,48 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.FilterKruskal;
+import org.unito.asd.prim.Graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class FilterKruskalTests {
+    @Test
+    public void smallGraph() {
+        var graph = randomGraph(47, 100, 500, 30);
+        assertMinimumSpanningForest(graph, new FilterKruskal().minimumSpanningForest(graph));
+    }
+
+    @Test
+    public void denseGraph() {
+        var graph = completeGraph(53, 400);
+        var msf = new FilterKruskal().minimumSpanningForest(graph);
+
+        assertEquals(399, msf.size());
+        assertMinimumSpanningForest(graph, msf);
+    }
+
+    @Test
+    public void largeGraphSequentialAndParallel() {
+        var graph = randomGraph(59, 20_000, 200_000, 1_000_000);
+        var sequential = new FilterKruskal(false).minimumSpanningForest(graph);
+        var parallel = new FilterKruskal(true).minimumSpanningForest(graph);
+
+        assertMinimumSpanningForest(graph, sequential);
+        assertMinimumSpanningForest(graph, parallel);
+        assertEquals(totalWeight(sequential), totalWeight(parallel));
+    }
+
+    @Test
+    public void forestWithDuplicateWeights() {
+        var graph = randomGraph(61, 30_000, 25_000, 3);
+        assertMinimumSpanningForest(graph, new FilterKruskal().minimumSpanningForest(graph));
+    }
+
+    @Test
+    public void directedGraph() {
+        var graph = new Graph<Integer, Double>(true, true);
+        assertThrows(IllegalArgumentException.class, () -> new FilterKruskal().minimumSpanningForest(graph));
+    }
+}
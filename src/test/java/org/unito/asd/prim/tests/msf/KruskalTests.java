@@ -0,0 +1,59 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.Graph;
+import org.unito.asd.prim.Kruskal;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class KruskalTests {
+    @Test
+    public void smallGraph() {
+        var graph = randomGraph(31, 100, 400, 20);
+        assertMinimumSpanningForest(graph, new Kruskal().minimumSpanningForest(graph));
+    }
+
+    @Test
+    public void largeGraph() {
+        var graph = randomGraph(37, 5_000, 60_000, 1_000_000);
+        assertMinimumSpanningForest(graph, new Kruskal().minimumSpanningForest(graph));
+    }
+
+    @Test
+    public void signedWeights() {
+        var random = new Random(41);
+        var graph = new Graph<Integer, Double>(false, true);
+        for (int i = 0; i < 2_000; i++)
+            graph.addNode(i);
+        for (int i = 0; i < 20_000; i++) {
+            var weight = switch (random.nextInt(8)) {
+                case 0 -> -0.0;
+                case 1 -> 0.0;
+                case 2 -> -Double.MIN_VALUE;
+                case 3 -> -Math.scalb(1.0, random.nextInt(40));
+                default -> (random.nextInt(2_001) - 1_000) / 64.0;
+            };
+            graph.addEdge(random.nextInt(2_000), random.nextInt(2_000), weight);
+        }
+
+        assertMinimumSpanningForest(graph, new Kruskal().minimumSpanningForest(graph));
+    }
+
+    @Test
+    public void equalWeights() {
+        var graph = randomGraph(43, 3_000, 30_000, 1);
+        var msf = new Kruskal().minimumSpanningForest(graph);
+
+        assertMinimumSpanningForest(graph, msf);
+        assertEquals(0.0, totalWeight(msf));
+    }
+
+    @Test
+    public void directedGraph() {
+        var graph = new Graph<Integer, Double>(true, true);
+        assertThrows(IllegalArgumentException.class, () -> new Kruskal().minimumSpanningForest(graph));
+    }
+}
@@ -0,0 +1,105 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.unito.asd.prim.AbstractEdge;
+import org.unito.asd.prim.AbstractGraph;
+import org.unito.asd.prim.Graph;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Graph generators and a brute-force reference used to check the MSF engines.
+ */
+public final class MsfFixtures {
+    private MsfFixtures() {
+    }
+
+    public static Graph<Integer, Double> randomGraph(long seed, int numNodes, int numEdges, int maxWeight) {
+        var random = new Random(seed);
+        var graph = new Graph<Integer, Double>(false, true);
+
+        for (int i = 0; i < numNodes; i++)
+            graph.addNode(i);
+        for (int i = 0; i < numEdges; i++)
+            graph.addEdge(random.nextInt(numNodes), random.nextInt(numNodes), (double) random.nextInt(maxWeight));
+
+        return graph;
+    }
+
+    public static Graph<Integer, Double> completeGraph(long seed, int numNodes) {
+        var random = new Random(seed);
+        var graph = new Graph<Integer, Double>(false, true);
+
+        for (int i = 0; i < numNodes; i++)
+            graph.addNode(i);
+        for (int i = 0; i < numNodes; i++) {
+            for (int j = i + 1; j < numNodes; j++)
+                graph.addEdge(i, j, random.nextDouble() * 1_000);
+        }
+
+        return graph;
+    }
+
+    public static double totalWeight(Collection<? extends AbstractEdge<?, ? extends Number>> msf) {
+        return msf.stream().mapToDouble(edge -> edge.getLabel().doubleValue()).sum();
+    }
+
+    /**
+     * Computes the weight of the minimum spanning forest with a plain Kruskal over
+     * the edge list, independently of the engines under test.
+     */
+    public static <V> double referenceWeight(AbstractGraph<V, ? extends Number> graph) {
+        var edges = new ArrayList<AbstractEdge<V, ? extends Number>>(graph.getEdges());
+        edges.sort(Comparator.comparingDouble(edge -> edge.getLabel().doubleValue()));
+
+        var parents = new HashMap<V, V>();
+        for (var node : graph.getNodes())
+            parents.put(node, node);
+
+        var total = 0.0;
+        for (var edge : edges) {
+            var start = root(parents, edge.getStart());
+            var end = root(parents, edge.getEnd());
+            if (!start.equals(end)) {
+                parents.put(start, end);
+                total += edge.getLabel().doubleValue();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Checks that the given edges form a spanning forest of the graph with the
+     * minimum total weight.
+     */
+    public static <V> void assertMinimumSpanningForest(AbstractGraph<V, ? extends Number> graph,
+                                                       Collection<? extends AbstractEdge<V, ? extends Number>> msf) {
+        var parents = new HashMap<V, V>();
+        for (var node : graph.getNodes())
+            parents.put(node, node);
+
+        for (var edge : msf) {
+            assertTrue(graph.containsEdge(edge.getStart(), edge.getEnd()), "Edge not in the graph");
+            var start = root(parents, edge.getStart());
+            var end = root(parents, edge.getEnd());
+            assertTrue(!start.equals(end), "The forest has a cycle");
+            parents.put(start, end);
+        }
+
+        for (var edge : graph.getEdges())
+            assertEquals(root(parents, edge.getStart()), root(parents, edge.getEnd()), "The forest does not span");
+
+        assertEquals(referenceWeight(graph), totalWeight(msf), 1e-6);
+    }
+
+    private static <V> V root(Map<V, V> parents, V node) {
+        while (!parents.get(node).equals(node)) {
+            var grandparent = parents.get(parents.get(node));
+            parents.put(node, grandparent);
+            node = grandparent;
+        }
+        return node;
+    }
+}
@@ -0,0 +1,85 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.AbstractEdge;
+import org.unito.asd.prim.Edge;
+import org.unito.asd.prim.MsfQueryIndex;
+import org.unito.asd.prim.Prim;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class MsfQueryIndexTests {
+    @Test
+    public void smallForest() {
+        var forest = List.of(new Edge<>("a", "b", 3), new Edge<>("b", "c", 8), new Edge<>("c", "d", 1),
+                new Edge<>("e", "f", 2));
+        var index = MsfQueryIndex.of(forest);
+
+        assertTrue(index.connected("a", "d"));
+        assertFalse(index.connected("a", "e"));
+        assertTrue(index.connected("z", "z"));
+        assertFalse(index.connected("a", "z"));
+        assertEquals(8, index.heaviestEdge("a", "d").getLabel());
+        assertEquals(3, index.heaviestEdge("b", "a").getLabel());
+        assertEquals(2, index.heaviestEdge("f", "e").getLabel());
+        assertNull(index.heaviestEdge("a", "e"));
+        assertNull(index.heaviestEdge("a", "a"));
+    }
+
+    @Test
+    public void cycle() {
+        var edges = List.of(new Edge<>(1, 2, 1.0), new Edge<>(2, 3, 1.0), new Edge<>(3, 1, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> MsfQueryIndex.of(edges));
+    }
+
+    @Test
+    public void randomForest() {
+        var graph = randomGraph(97, 1_500, 2_000, 1_000);
+        var forest = Prim.minimumSpanningForest(graph);
+        var index = MsfQueryIndex.of(forest);
+
+        var adjacency = new HashMap<Integer, List<AbstractEdge<Integer, Double>>>();
+        for (var edge : forest) {
+            adjacency.computeIfAbsent(edge.getStart(), node -> new ArrayList<>()).add(edge);
+            adjacency.computeIfAbsent(edge.getEnd(), node -> new ArrayList<>()).add(edge);
+        }
+
+        var random = new Random(101);
+        for (int query = 0; query < 300; query++) {
+            var first = random.nextInt(1_500);
+            var second = random.nextInt(1_500);
+            var expected = pathMax(adjacency, first, second);
+
+            assertEquals(expected != null || first == second, index.connected(first, second));
+            var actual = index.heaviestEdge(first, second);
+            if (expected == null)
+                assertNull(actual);
+            else
+                assertEquals(expected, actual.getLabel());
+        }
+    }
+
+    // Walks the forest from first, returning the heaviest weight on the path to second, or null if unreachable.
+    private static Double pathMax(Map<Integer, List<AbstractEdge<Integer, Double>>> adjacency, int first, int second) {
+        var best = new HashMap<Integer, Double>();
+        var stack = new ArrayDeque<Integer>();
+        best.put(first, Double.NEGATIVE_INFINITY);
+        stack.push(first);
+
+        while (!stack.isEmpty()) {
+            var node = stack.pop();
+            for (var edge : adjacency.getOrDefault(node, List.of())) {
+                var other = edge.getStart().equals(node) ? edge.getEnd() : edge.getStart();
+                if (!best.containsKey(other)) {
+                    best.put(other, Math.max(best.get(node), edge.getLabel()));
+                    stack.push(other);
+                }
+            }
+        }
+
+        return first == second || !best.containsKey(second) ? null : best.get(second);
+    }
+}
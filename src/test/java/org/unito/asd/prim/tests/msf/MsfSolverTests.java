@@ -0,0 +1,115 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.Graph;
+import org.unito.asd.prim.MsfPlanner;
+import org.unito.asd.prim.MsfPlanner.Profile;
+import org.unito.asd.prim.MsfStrategy;
+import org.unito.asd.prim.Prim;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class MsfSolverTests {
+    @Test
+    public void everyStrategyOnRandomGraph() {
+        var graph = randomGraph(17, 300, 2_000, 40);
+        for (var strategy : MsfStrategy.values())
+            assertMinimumSpanningForest(graph, Prim.minimumSpanningForest(graph, strategy));
+    }
+
+    @Test
+    public void everyStrategyOnCompleteGraph() {
+        var graph = completeGraph(19, 60);
+        for (var strategy : MsfStrategy.values()) {
+            var msf = strategy.solver().minimumSpanningForest(graph);
+            assertEquals(59, msf.size());
+            assertMinimumSpanningForest(graph, msf);
+        }
+    }
+
+    @Test
+    public void everyStrategyOnForest() {
+        var graph = randomGraph(23, 400, 300, 5);
+        graph.addNode(1_000);
+        for (var strategy : MsfStrategy.values())
+            assertMinimumSpanningForest(graph, Prim.minimumSpanningForest(graph, strategy));
+    }
+
+    @Test
+    public void everyStrategyOnSharedEdges() {
+        var separate = randomGraph(113, 300, 2_000, 40);
+        var graph = new Graph<Integer, Double>(false, true, true);
+        for (var node : separate.getNodes())
+            graph.addNode(node);
+        for (var edge : separate.getUndirectedEdges())
+            graph.addEdge(edge.getStart(), edge.getEnd(), edge.getLabel());
+
+        for (var strategy : MsfStrategy.values())
+            assertMinimumSpanningForest(graph, Prim.minimumSpanningForest(graph, strategy));
+    }
+
+    @Test
+    public void everyStrategyOnEmptyGraph() {
+        var graph = new Graph<Integer, Double>(false, true);
+        for (var strategy : MsfStrategy.values())
+            assertTrue(Prim.minimumSpanningForest(graph, strategy).isEmpty());
+    }
+
+    @Test
+    public void directedGraph() {
+        var graph = new Graph<Integer, Double>(true, true);
+        graph.addNode(0);
+        graph.addNode(1);
+        graph.addEdge(0, 1, 1.0);
+
+        for (var strategy : MsfStrategy.values()) {
+            if (strategy.supportsDirected())
+                assertEquals(1, Prim.minimumSpanningForest(graph, strategy).size());
+            else
+                assertThrows(IllegalArgumentException.class, () -> Prim.minimumSpanningForest(graph, strategy));
+        }
+    }
+
+    @Test
+    public void fromName() {
+        assertEquals(MsfStrategy.EAGER_PRIM, MsfStrategy.fromName("eager-prim"));
+        assertEquals(MsfStrategy.KRUSKAL, MsfStrategy.fromName("Kruskal"));
+        assertThrows(IllegalArgumentException.class, () -> MsfStrategy.fromName("dijkstra"));
+    }
+
+    @Test
+    public void plan() {
+        assertEquals(MsfStrategy.EAGER_PRIM, MsfPlanner.plan(new Profile(10, 10, false, false, true, 1)));
+        assertEquals(MsfStrategy.LAZY_PRIM, MsfPlanner.plan(new Profile(100, 100, false, false, false, 8)));
+        assertEquals(MsfStrategy.DENSE_PRIM, MsfPlanner.plan(new Profile(100, 9_900, false, false, false, 8)));
+        assertEquals(MsfStrategy.EAGER_PRIM, MsfPlanner.plan(new Profile(10_000, 20_000, true, false, false, 8)));
+        assertEquals(MsfStrategy.BORUVKA, MsfPlanner.plan(new Profile(100_000, 500_000, false, false, false, 8)));
+        assertEquals(MsfStrategy.KRUSKAL, MsfPlanner.plan(new Profile(100_000, 500_000, false, false, false, 1)));
+        assertEquals(MsfStrategy.FILTER_KRUSKAL, MsfPlanner.plan(new Profile(10_000, 200_000, false, false, false, 1)));
+        assertEquals(MsfStrategy.BUCKET_PRIM, MsfPlanner.plan(new Profile(10_000, 20_000, true, true, false, 8)));
+        assertEquals(MsfStrategy.BUCKET_PRIM, MsfPlanner.plan(new Profile(100_000, 500_000, false, true, false, 1)));
+        assertEquals(MsfStrategy.BORUVKA, MsfPlanner.plan(new Profile(100_000, 500_000, false, true, false, 8)));
+        assertEquals(MsfStrategy.LAZY_PRIM, MsfPlanner.plan(new Profile(100, 100, false, true, false, 1)));
+    }
+
+    @Test
+    public void profileSamplesSeveralNodes() {
+        var graph = new Graph<Integer, Number>(false, true);
+        for (var i = 0; i < 4; i++)
+            graph.addNode(i);
+        graph.addEdge(0, 1, 1);
+        assertTrue(MsfPlanner.profile(graph).integralWeights());
+
+        // A weight that is not integral is found past the first sampled edge.
+        graph.addEdge(2, 3, 2.5);
+        assertFalse(MsfPlanner.profile(graph).integralWeights());
+        assertFalse(MsfPlanner.profile(new Graph<Integer, Number>(false, true)).integralWeights());
+    }
+
+    @Test
+    public void plannedStrategyIsCorrect() {
+        var graph = randomGraph(29, 1_000, 5_000, 100);
+        assertMinimumSpanningForest(graph, Prim.minimumSpanningForest(graph));
+    }
+}
@@ -0,0 +1,27 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.internal.TextListener;
+import org.junit.runner.JUnitCore;
+
+public final class MsfTestsRunner {
+    public static void main(String[] args) {
+        var junit = new JUnitCore();
+        junit.addListener(new TextListener(System.out));
+        junit.run(ExternalKruskalTests.class,
+                DensePrimTests.class,
+                EuclideanMstTests.class,
+                MsfSolverTests.class,
+                KruskalTests.class,
+                FilterKruskalTests.class,
+                DynamicMsfTests.class,
+                StreamingMsfTests.class,
+                MsfQueryIndexTests.class,
+                MsfVerifierTests.class,
+                BucketPrimTests.class,
+                ParallelPrimTests.class,
+                DistributedBoruvkaTests.class,
+                CompressedInputTests.class,
+                PrimMetricsTests.class,
+                EdgeLogWatcherTests.class);
+    }
+}
@@ -0,0 +1,116 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.*;
+import org.unito.asd.prim.MsfVerifier.Violation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class MsfVerifierTests {
+    private static Graph<String, Integer> square() {
+        var graph = new Graph<String, Integer>(false, true);
+        for (var node : new String[]{"a", "b", "c", "d", "e"})
+            graph.addNode(node);
+        graph.addEdge("a", "b", 1);
+        graph.addEdge("b", "c", 2);
+        graph.addEdge("c", "d", 3);
+        graph.addEdge("d", "a", 4);
+        graph.addEdge("a", "c", 5);
+        return graph;
+    }
+
+    @Test
+    public void valid() {
+        var graph = square();
+        var result = MsfVerifier.verify(graph, List.of(new Edge<>("a", "b", 1), new Edge<>("c", "b", 2),
+                new Edge<>("c", "d", 3)));
+
+        assertTrue(result.isValid());
+        assertNull(result.violation());
+        assertNull(result.violatingEdge());
+    }
+
+    @Test
+    public void notInGraph() {
+        var graph = square();
+
+        var missing = MsfVerifier.verify(graph, List.of(new Edge<>("a", "e", 1)));
+        assertEquals(Violation.NOT_IN_GRAPH, missing.violation());
+        assertEquals("e", missing.violatingEdge().getEnd());
+
+        var wrongWeight = MsfVerifier.verify(graph, List.of(new Edge<>("a", "b", 7)));
+        assertEquals(Violation.NOT_IN_GRAPH, wrongWeight.violation());
+    }
+
+    @Test
+    public void cycle() {
+        var graph = square();
+        var result = MsfVerifier.verify(graph, List.of(new Edge<>("a", "b", 1), new Edge<>("b", "c", 2),
+                new Edge<>("c", "a", 5)));
+
+        assertEquals(Violation.CYCLE, result.violation());
+        assertEquals(5, result.violatingEdge().getLabel());
+    }
+
+    @Test
+    public void notSpanning() {
+        var graph = square();
+        var result = MsfVerifier.verify(graph, List.of(new Edge<>("a", "b", 1), new Edge<>("b", "c", 2)));
+
+        assertEquals(Violation.NOT_SPANNING, result.violation());
+        assertTrue(result.violatingEdge().getStart().equals("d") || result.violatingEdge().getEnd().equals("d"));
+    }
+
+    @Test
+    public void notMinimal() {
+        var graph = square();
+        var result = MsfVerifier.verify(graph, List.of(new Edge<>("a", "b", 1), new Edge<>("b", "c", 2),
+                new Edge<>("a", "d", 4)));
+
+        assertEquals(Violation.NOT_MINIMAL, result.violation());
+        assertEquals(3, result.violatingEdge().getLabel());
+    }
+
+    @Test
+    public void directedGraph() {
+        assertThrows(IllegalArgumentException.class,
+                () -> MsfVerifier.verify(new Graph<Integer, Double>(true, true), List.of()));
+    }
+
+    @Test
+    public void computedForests() {
+        var graph = randomGraph(103, 3_000, 12_000, 500);
+        for (var strategy : MsfStrategy.values())
+            assertTrue(MsfVerifier.verify(graph, Prim.minimumSpanningForest(graph, strategy)).isValid());
+    }
+
+    @Test
+    public void swappedEdge() {
+        // Replace one forest edge with a heavier one across the same cut.
+        var graph = completeGraph(107, 200);
+        var forest = new ArrayList<AbstractEdge<Integer, Double>>(Prim.minimumSpanningForest(graph));
+        var removed = forest.remove(forest.size() / 2);
+
+        var disjointSet = new DisjointSet(200);
+        for (var edge : forest)
+            disjointSet.union(edge.getStart(), edge.getEnd());
+
+        AbstractEdge<Integer, Double> replacement = null;
+        for (var edge : graph.getEdges()) {
+            if (!disjointSet.connected(edge.getStart(), edge.getEnd()) && edge.getLabel() > removed.getLabel()) {
+                replacement = edge;
+                break;
+            }
+        }
+        forest.add(replacement);
+
+        var result = MsfVerifier.verify(graph, forest);
+
+        assertEquals(Violation.NOT_MINIMAL, result.violation());
+        assertTrue(result.violatingEdge().getLabel() < replacement.getLabel());
+    }
+}
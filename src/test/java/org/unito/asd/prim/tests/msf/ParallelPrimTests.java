@@ -0,0 +1,74 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.Graph;
+import org.unito.asd.prim.ParallelPrim;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class ParallelPrimTests {
+    private static Graph<Integer, Double> gridGraph(long seed, int side) {
+        // A connected, sparse, road-like graph.
+        var random = new Random(seed);
+        var graph = new Graph<Integer, Double>(false, true, true);
+        for (int i = 0; i < side * side; i++)
+            graph.addNode(i);
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                var node = row * side + column;
+                if (column + 1 < side)
+                    graph.addEdge(node, node + 1, (double) random.nextInt(100));
+                if (row + 1 < side)
+                    graph.addEdge(node, node + side, (double) random.nextInt(100));
+            }
+        }
+        return graph;
+    }
+
+    @Test
+    public void invalidWorkers() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelPrim(0));
+    }
+
+    @Test
+    public void directedGraph() {
+        var graph = new Graph<Integer, Double>(true, true);
+        assertThrows(IllegalArgumentException.class, () -> new ParallelPrim(2).minimumSpanningForest(graph));
+    }
+
+    @Test
+    public void singleWorker() {
+        var graph = randomGraph(59, 1_000, 5_000, 100);
+        assertMinimumSpanningForest(graph, new ParallelPrim(1).minimumSpanningForest(graph));
+    }
+
+    @Test
+    public void connectedGrid() {
+        var graph = gridGraph(61, 150);
+        for (var workers : new int[]{1, 2, 4, 8}) {
+            var msf = new ParallelPrim(workers).minimumSpanningForest(graph);
+
+            assertEquals(150 * 150 - 1, msf.size());
+            assertMinimumSpanningForest(graph, msf);
+        }
+    }
+
+    @Test
+    public void randomGraphs() {
+        for (var seed = 0; seed < 5; seed++) {
+            var graph = randomGraph(seed, 5_000, 30_000, 10);
+            assertMinimumSpanningForest(graph, new ParallelPrim(4).minimumSpanningForest(graph));
+        }
+    }
+
+    @Test
+    public void forest() {
+        var graph = randomGraph(67, 20_000, 12_000, 50);
+        graph.addNode(100_000);
+
+        assertMinimumSpanningForest(graph, new ParallelPrim(4).minimumSpanningForest(graph));
+    }
+}
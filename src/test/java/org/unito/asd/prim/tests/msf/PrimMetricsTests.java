@@ -0,0 +1,119 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.unito.asd.prim.*;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class PrimMetricsTests {
+    private final PrimMetrics metrics = PrimMetrics.get();
+
+    @Before
+    public void setUp() {
+        metrics.reset();
+    }
+
+    @Test
+    public void msfInvocations() {
+        assertEquals(0, metrics.getMsfInvocations());
+        assertEquals(0, metrics.getComputeNanosP50());
+
+        var graph = randomGraph(109, 1_000, 5_000, 100);
+        for (var i = 0; i < 10; i++)
+            Prim.minimumSpanningForest(graph, MsfStrategy.KRUSKAL);
+
+        assertEquals(10, metrics.getMsfInvocations());
+        assertTrue(metrics.getLastComputeNanos() > 0);
+        assertTrue(metrics.getComputeNanosP50() > 0);
+        assertTrue(metrics.getComputeNanosP50() <= metrics.getComputeNanosP90());
+        assertTrue(metrics.getComputeNanosP90() <= metrics.getComputeNanosP99());
+
+        // Every percentile is the bound of a power-of-two bucket.
+        assertEquals(0, Long.bitCount(metrics.getComputeNanosP99() + 1) - 1);
+
+        metrics.reset();
+        assertEquals(0, metrics.getMsfInvocations());
+        assertEquals(0, metrics.getLastComputeNanos());
+    }
+
+    @Test
+    public void queueHighWaterMark() {
+        var graph = new Graph<Integer, Double>(false, true);
+        for (var i = 0; i < 10; i++)
+            graph.addNode(i);
+        for (var i = 1; i < 10; i++)
+            graph.addEdge(0, i, (double) i);
+
+        // A star: every leaf is in the queue once the centre is visited.
+        Prim.minimumSpanningForest(graph, MsfStrategy.EAGER_PRIM);
+        assertEquals(9, metrics.getQueueHighWaterMark());
+
+        metrics.reset();
+        Prim.minimumSpanningForest(graph, MsfStrategy.LAZY_PRIM);
+        assertEquals(9, metrics.getQueueHighWaterMark());
+    }
+
+    @Test
+    public void registeredGraphs() {
+        var graph = randomGraph(113, 200, 1_000, 100);
+        var other = completeGraph(127, 10);
+
+        metrics.registerGraph(graph);
+        metrics.registerGraph(other);
+        metrics.registerGraph(graph);
+        assertEquals(2, metrics.getRegisteredGraphs());
+        assertEquals(210, metrics.getNumNodes());
+        assertEquals(graph.numEdges() + other.numEdges(), metrics.getNumEdges());
+
+        metrics.unregisterGraph(graph);
+        metrics.unregisterGraph(other);
+        assertEquals(0, metrics.getRegisteredGraphs());
+        assertEquals(0, metrics.getNumNodes());
+    }
+
+    @Test
+    public void loader() throws IOException {
+        var file = Files.createTempFile("prim-metrics", ".csv");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "A,B,4.0\nB,C,2.0\nA,C,1.0\n");
+
+        try (var watcher = new EdgeLogWatcher(file)) {
+            watcher.refresh();
+        }
+
+        assertEquals(3, metrics.getLoadedEdges());
+        assertTrue(metrics.getLoaderEdgesPerSecond() > 0);
+    }
+
+    @Test
+    public void mxBean() throws JMException {
+        var server = ManagementFactory.getPlatformMBeanServer();
+        var name = new ObjectName(PrimMetrics.OBJECT_NAME);
+
+        PrimMetrics.register();
+        PrimMetrics.register();
+        try {
+            assertTrue(server.isRegistered(name));
+
+            Prim.minimumSpanningForest(completeGraph(131, 20));
+            assertEquals(1L, server.getAttribute(name, "MsfInvocations"));
+            assertTrue((Long) server.getAttribute(name, "QueueHighWaterMark") >= 0);
+
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "MsfInvocations"));
+        } finally {
+            PrimMetrics.unregister();
+        }
+
+        assertFalse(server.isRegistered(name));
+        PrimMetrics.unregister();
+    }
+}
@@ -0,0 +1,83 @@
+package org.unito.asd.prim.tests.msf;
+
+import org.junit.Test;
+import org.unito.asd.prim.AbstractEdge;
+import org.unito.asd.prim.Graph;
+import org.unito.asd.prim.StreamingMsf;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.unito.asd.prim.tests.msf.MsfFixtures.*;
+
+public final class StreamingMsfTests {
+    @Test
+    public void add() {
+        var msf = new StreamingMsf<String, Integer>();
+
+        assertTrue(msf.add("a", "b", 4));
+        assertTrue(msf.add("b", "c", 2));
+        assertFalse(msf.add("a", "c", 7));
+        assertTrue(msf.add("c", "a", 1));
+        assertFalse(msf.add("d", "d", 0));
+
+        assertEquals(2, msf.getForest().size());
+        assertEquals(3.0, totalWeight(msf.getForest()));
+        assertEquals(4, msf.numNodes());
+        assertEquals(5, msf.numEdgesSeen());
+        assertTrue(msf.connected("a", "b"));
+        assertFalse(msf.connected("a", "d"));
+        assertFalse(msf.connected("a", "z"));
+    }
+
+    @Test
+    public void iterator() {
+        var graph = randomGraph(83, 2_000, 10_000, 1_000);
+        var msf = StreamingMsf.of(graph.getEdges().iterator());
+
+        assertMinimumSpanningForest(graph, msf.getForest());
+    }
+
+    @Test
+    public void reader() throws IOException {
+        var msf = StreamingMsf.of(new StringReader("a,b,3.5\nb,c,1.0\nc,a,2.0\nd,e,4.0\n"));
+
+        assertEquals(3, msf.getForest().size());
+        assertEquals(7.0, totalWeight(msf.getForest()));
+    }
+
+    @Test
+    public void file() throws IOException {
+        var graph = randomGraph(89, 500, 3_000, 100);
+        var file = Files.createTempFile("streaming-msf", ".csv");
+        try {
+            var lines = new StringBuilder();
+            for (AbstractEdge<Integer, Double> edge : graph.getEdges())
+                lines.append(edge.getStart()).append(',').append(edge.getEnd()).append(',').append(edge.getLabel()).append('\n');
+            Files.writeString(file, lines);
+
+            var msf = StreamingMsf.of(file);
+            var expected = referenceWeight(graph);
+
+            assertEquals(expected, totalWeight(msf.getForest()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void disconnectedStream() {
+        var graph = new Graph<Integer, Double>(false, true);
+        for (int i = 0; i < 6; i++)
+            graph.addNode(i);
+        graph.addEdge(0, 1, 1.0);
+        graph.addEdge(2, 3, 1.0);
+        graph.addEdge(3, 4, 1.0);
+
+        var msf = StreamingMsf.of(graph.getEdges().iterator());
+
+        assertMinimumSpanningForest(graph, msf.getForest());
+    }
+}
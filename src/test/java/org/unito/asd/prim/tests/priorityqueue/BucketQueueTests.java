@@ -0,0 +1,100 @@
+package org.unito.asd.prim.tests.priorityqueue;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.unito.asd.prim.BucketQueue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BucketQueueTests {
+    private BucketQueue<Integer> bucketQueue;
+
+    @Before
+    public void setUp() {
+        bucketQueue = new BucketQueue<>(Integer::intValue, -10, 100);
+    }
+
+    @Test
+    public void empty() {
+        assertTrue(bucketQueue.empty());
+        bucketQueue.push(1);
+        assertFalse(bucketQueue.empty());
+        bucketQueue.pop();
+        assertTrue(bucketQueue.empty());
+        assertNull(bucketQueue.top());
+        assertThrows(NoSuchElementException.class, bucketQueue::pop);
+    }
+
+    @Test
+    public void pushOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> bucketQueue.push(-11));
+        assertThrows(IllegalArgumentException.class, () -> bucketQueue.push(101));
+        assertTrue(bucketQueue.empty());
+    }
+
+    @Test
+    public void invalidRange() {
+        assertThrows(IllegalArgumentException.class, () -> new BucketQueue<Integer>(Integer::intValue, 5, 4));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BucketQueue<Integer>(Integer::intValue, 0, BucketQueue.MAX_RANGE));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BucketQueue<Integer>(Integer::intValue, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void unsupportedLookups() {
+        bucketQueue.push(1);
+        assertThrows(UnsupportedOperationException.class, () -> bucketQueue.contains(1));
+        assertThrows(UnsupportedOperationException.class, () -> bucketQueue.remove(1));
+    }
+
+    @Test
+    public void priorityOrder() {
+        bucketQueue.push(8);
+        bucketQueue.push(-2);
+        bucketQueue.push(5);
+        bucketQueue.push(5);
+
+        assertEquals(Integer.valueOf(-2), bucketQueue.top());
+        bucketQueue.pop();
+        bucketQueue.push(0);
+        assertEquals(Integer.valueOf(0), bucketQueue.top());
+        bucketQueue.pop();
+        assertEquals(Integer.valueOf(5), bucketQueue.top());
+        bucketQueue.pop();
+        assertEquals(Integer.valueOf(5), bucketQueue.top());
+        bucketQueue.pop();
+        assertEquals(Integer.valueOf(8), bucketQueue.top());
+    }
+
+    @Test
+    public void interleaved() {
+        var random = new Random(11);
+        var reference = new java.util.PriorityQueue<Integer>();
+
+        for (var round = 0; round < 5_000; round++) {
+            if (reference.isEmpty() || random.nextInt(3) > 0) {
+                var value = random.nextInt(111) - 10;
+                bucketQueue.push(value);
+                reference.add(value);
+            } else {
+                assertEquals(reference.poll(), bucketQueue.top());
+                bucketQueue.pop();
+            }
+        }
+
+        var drained = new ArrayList<Integer>();
+        while (!bucketQueue.empty()) {
+            drained.add(bucketQueue.top());
+            bucketQueue.pop();
+        }
+        var expected = new ArrayList<>(reference);
+        expected.sort(Comparator.naturalOrder());
+        assertEquals(expected, drained);
+    }
+}
@@ -0,0 +1,145 @@
+package org.unito.asd.prim.tests.priorityqueue;
+
+import org.junit.Test;
+import org.unito.asd.prim.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeapProfileTests {
+    @Test
+    public void emptyProfile() {
+        var profile = new HeapProfile();
+
+        assertEquals(0, profile.numComparisons());
+        assertEquals(0, profile.numSwaps());
+        assertEquals(0, profile.numStaleDiscards());
+        assertEquals(0, profile.peakSize());
+        assertArrayEquals(new long[0], profile.siftUpDepths());
+        assertArrayEquals(new long[0], profile.siftDownDepths());
+        assertThrows(NullPointerException.class, () -> new PriorityQueue<>(Comparator.<Integer>naturalOrder(), true, (HeapProfile) null));
+    }
+
+    @Test
+    public void ascendingPushes() {
+        var profile = new HeapProfile();
+        var priorityQueue = new PriorityQueue<>(Comparator.<Integer>naturalOrder(), true, profile);
+        for (var i = 0; i < 100; i++)
+            priorityQueue.push(i);
+
+        // Every element stays where it is appended, after a single look at its parent.
+        assertEquals(99, profile.numComparisons());
+        assertEquals(0, profile.numSwaps());
+        assertArrayEquals(new long[]{100}, profile.siftUpDepths());
+        assertEquals(100, profile.peakSize());
+    }
+
+    @Test
+    public void descendingPushes() {
+        var profile = new HeapProfile();
+        var priorityQueue = new PriorityQueue<>(Comparator.<Integer>naturalOrder(), false, profile);
+        for (var i = 15; i >= 0; i--)
+            priorityQueue.push(i);
+
+        // Every element climbs to the root, through as many levels as the depth of its slot.
+        assertArrayEquals(new long[]{1, 2, 4, 8, 1}, profile.siftUpDepths());
+        assertEquals(2 + 4 * 2 + 8 * 3 + 4, profile.numSwaps());
+        assertEquals(profile.numSwaps(), profile.numComparisons());
+    }
+
+    @Test
+    public void popsAndRemovals() {
+        var profile = new HeapProfile();
+        var priorityQueue = new PriorityQueue<>(Comparator.<Integer>naturalOrder(), true, profile);
+        var values = new Random(137).ints(1_000, 0, 1_000_000).boxed().distinct().toList();
+        values.forEach(priorityQueue::push);
+        priorityQueue.remove(values.getFirst());
+        while (!priorityQueue.empty())
+            priorityQueue.pop();
+
+        var siftDowns = 0L;
+        for (var count : profile.siftDownDepths())
+            siftDowns += count;
+        assertEquals(values.size(), siftDowns);
+        assertEquals(values.size(), profile.peakSize());
+
+        // A heap of a thousand elements has ten levels.
+        assertTrue(profile.siftDownDepths().length <= 10);
+        assertTrue(profile.siftUpDepths().length <= 10);
+
+        profile.reset();
+        assertEquals(0, profile.numComparisons());
+        assertArrayEquals(new long[0], profile.siftDownDepths());
+    }
+
+    @Test
+    public void bulkPush() {
+        var profile = new HeapProfile();
+        var values = new ArrayList<Integer>();
+        for (var i = 1_000; i > 0; i--)
+            values.add(i);
+
+        var priorityQueue = new PriorityQueue<>(Comparator.<Integer>naturalOrder(), false, profile);
+        priorityQueue.pushAll(values);
+
+        // Floyd's method sifts down every internal node once.
+        var siftDowns = 0L;
+        for (var count : profile.siftDownDepths())
+            siftDowns += count;
+        assertEquals(500, siftDowns);
+        assertEquals(1_000, profile.peakSize());
+        assertEquals(1, priorityQueue.top());
+    }
+
+    @Test
+    public void countedComparisons() {
+        var calls = new long[1];
+        Comparator<Integer> comparator = (first, second) -> {
+            calls[0]++;
+            return Integer.compare(first, second);
+        };
+
+        var profile = new HeapProfile();
+        var profiled = new PriorityQueue<>(comparator, false, profile);
+        var values = new Random(139).ints(500, 0, 100).boxed().toList();
+        values.forEach(profiled::push);
+        while (!profiled.empty())
+            profiled.pop();
+
+        assertEquals(calls[0], profile.numComparisons());
+
+        // The profile changes nothing in the work done.
+        calls[0] = 0;
+        var plain = new PriorityQueue<>(comparator, false);
+        values.forEach(plain::push);
+        while (!plain.empty())
+            plain.pop();
+        assertEquals(profile.numComparisons(), calls[0]);
+    }
+
+    @Test
+    public void lazyPrimStaleDiscards() {
+        var graph = new Graph<Integer, Double>(false, true);
+        var random = new Random(149);
+        for (var i = 0; i < 50; i++)
+            graph.addNode(i);
+        for (var i = 0; i < 50; i++) {
+            for (var j = i + 1; j < 50; j++)
+                graph.addEdge(i, j, (double) random.nextInt(1_000));
+        }
+
+        var profile = new HeapProfile();
+        var msf = new LazyPrim(profile).minimumSpanningForest(graph);
+        var expected = new LazyPrim().minimumSpanningForest(graph);
+
+        assertEquals(49, msf.size());
+        assertEquals(expected.stream().mapToDouble(edge -> edge.getLabel()).sum(),
+                msf.stream().mapToDouble(edge -> edge.getLabel()).sum());
+        assertTrue(profile.numStaleDiscards() > 0);
+        assertTrue(profile.peakSize() > 49);
+        assertTrue(profile.toString().contains("Stale discards: " + profile.numStaleDiscards()));
+    }
+}
@@ -0,0 +1,127 @@
+package org.unito.asd.prim.tests.priorityqueue;
+
+import org.unito.asd.prim.AbstractQueue;
+import org.unito.asd.prim.MultiQueue;
+import org.unito.asd.prim.PriorityQueue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Measures the throughput of a {@link MultiQueue} against a {@link PriorityQueue}
+ * behind a single lock, with every thread alternating pushes and pops of random
+ * keys on a queue prefilled with as many elements.
+ * Usage: {@code MultiQueueBenchmark [maxThreads] [operationsPerThread] [prefill]}.
+ */
+public final class MultiQueueBenchmark {
+    private static final class SynchronizedQueue<E> implements AbstractQueue<E> {
+        private final PriorityQueue<E> queue;
+
+        private SynchronizedQueue(Comparator<E> comparator) {
+            this.queue = new PriorityQueue<>(comparator, false);
+        }
+
+        @Override
+        public synchronized boolean empty() {
+            return queue.empty();
+        }
+
+        @Override
+        public synchronized boolean push(E element) {
+            return queue.push(element);
+        }
+
+        @Override
+        public synchronized boolean contains(E element) {
+            return queue.contains(element);
+        }
+
+        @Override
+        public synchronized E top() {
+            return queue.top();
+        }
+
+        @Override
+        public synchronized void pop() {
+            queue.pop();
+        }
+
+        @Override
+        public synchronized boolean remove(E element) {
+            return queue.remove(element);
+        }
+
+        private synchronized E poll() {
+            var top = queue.top();
+            if (top != null)
+                queue.pop();
+            return top;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        var maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        var operations = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        var prefill = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+
+        System.out.printf("%-8s %-14s %14s%n", "threads", "queue", "Mops/s");
+        for (var threads = 1; threads <= maxThreads; threads *= 2) {
+            // One warm-up round each, then the measured round.
+            for (var round = 0; round < 2; round++) {
+                var synchronizedQueue = new SynchronizedQueue<Long>(Comparator.naturalOrder());
+                var synchronizedRate = run(threads, operations, prefill, synchronizedQueue::push, synchronizedQueue::poll);
+
+                var multiQueue = new MultiQueue<Long>(Comparator.naturalOrder(), MultiQueue.DEFAULT_HEAPS_PER_CORE * threads);
+                var multiQueueRate = run(threads, operations, prefill, multiQueue::push, multiQueue::poll);
+
+                if (round == 1) {
+                    System.out.printf("%-8d %-14s %14.2f%n", threads, "synchronized", synchronizedRate);
+                    System.out.printf("%-8d %-14s %14.2f%n", threads, "multi-queue", multiQueueRate);
+                }
+            }
+        }
+    }
+
+    private interface Push {
+        boolean push(Long element);
+    }
+
+    private interface Poll {
+        Long poll();
+    }
+
+    private static double run(int numThreads, int operations, int prefill, Push push, Poll poll) throws InterruptedException {
+        var random = ThreadLocalRandom.current();
+        for (var i = 0; i < prefill; i++)
+            push.push(random.nextLong());
+
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (var t = 0; t < numThreads; t++) {
+            threads.add(new Thread(() -> {
+                var threadRandom = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (var i = 0; i < operations; i += 2) {
+                    push.push(threadRandom.nextLong());
+                    poll.poll();
+                }
+            }));
+        }
+
+        for (var thread : threads)
+            thread.start();
+        var begin = System.nanoTime();
+        start.countDown();
+        for (var thread : threads)
+            thread.join();
+        var elapsed = System.nanoTime() - begin;
+
+        return (double) numThreads * operations / elapsed * 1_000;
+    }
+}
@@ -0,0 +1,155 @@
+package org.unito.asd.prim.tests.priorityqueue;
+
+import org.junit.Test;
+import org.unito.asd.prim.MultiQueue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MultiQueueTests {
+    @Test
+    public void singleHeapIsExact() {
+        var multiQueue = new MultiQueue<>(Comparator.<Integer>naturalOrder(), 1);
+        multiQueue.pushAll(List.of(5, 1, 4, 1, 3));
+
+        var polled = new ArrayList<Integer>();
+        Integer element;
+        while ((element = multiQueue.poll()) != null)
+            polled.add(element);
+
+        assertEquals(List.of(1, 1, 3, 4, 5), polled);
+        assertTrue(multiQueue.empty());
+    }
+
+    @Test
+    public void emptyQueue() {
+        var multiQueue = new MultiQueue<>(Comparator.<Integer>naturalOrder(), 4);
+
+        assertTrue(multiQueue.empty());
+        assertNull(multiQueue.top());
+        assertNull(multiQueue.poll());
+        assertThrows(NoSuchElementException.class, multiQueue::pop);
+    }
+
+    @Test
+    public void invalidHeaps() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiQueue<>(Comparator.<Integer>naturalOrder(), 0));
+    }
+
+    @Test
+    public void unsupportedLookups() {
+        var multiQueue = new MultiQueue<>(Comparator.<Integer>naturalOrder(), 4);
+        multiQueue.push(1);
+
+        assertThrows(UnsupportedOperationException.class, () -> multiQueue.contains(1));
+        assertThrows(UnsupportedOperationException.class, () -> multiQueue.remove(1));
+    }
+
+    @Test
+    public void topIsGlobalMinimum() {
+        var multiQueue = new MultiQueue<>(Comparator.<Integer>naturalOrder(), 8);
+        for (var i = 100; i > 0; i--)
+            multiQueue.push(i);
+
+        assertEquals(Integer.valueOf(1), multiQueue.top());
+    }
+
+    @Test
+    public void popRemovesTop() {
+        var multiQueue = new MultiQueue<>(Comparator.<Integer>naturalOrder(), 8);
+        for (var i = 1_000; i > 0; i--)
+            multiQueue.push(i % 100);
+
+        // Every element popped is the one just seen at the top, in exact order.
+        var previous = Integer.MIN_VALUE;
+        for (var i = 0; i < 1_000; i++) {
+            var top = multiQueue.top();
+            assertNotNull(top);
+            assertTrue(previous <= top);
+            multiQueue.pop();
+            previous = top;
+        }
+
+        assertTrue(multiQueue.empty());
+        assertNull(multiQueue.top());
+    }
+
+    @Test
+    public void relaxedOrder() {
+        // Every element is returned exactly once, and close to its rank.
+        var numHeaps = 8;
+        var multiQueue = new MultiQueue<>(Comparator.<Integer>naturalOrder(), numHeaps);
+        var size = 10_000;
+        for (var i = 0; i < size; i++)
+            multiQueue.push(i);
+
+        var seen = new boolean[size];
+        var totalError = 0L;
+        for (var rank = 0; rank < size; rank++) {
+            var element = multiQueue.poll();
+            assertNotNull(element);
+            assertFalse(seen[element]);
+            seen[element] = true;
+            totalError += Math.abs(element - rank);
+        }
+
+        assertNull(multiQueue.poll());
+        assertTrue(totalError / size < 4 * numHeaps);
+    }
+
+    @Test
+    public void concurrentProducersAndConsumers() throws InterruptedException {
+        var multiQueue = new MultiQueue<>(Comparator.<Integer>naturalOrder(), 8);
+        var numThreads = 4;
+        var perThread = 20_000;
+        var start = new CountDownLatch(1);
+        var consumed = new ConcurrentLinkedQueue<Integer>();
+        var produced = new AtomicInteger();
+        var threads = new ArrayList<Thread>();
+
+        for (var t = 0; t < numThreads; t++) {
+            var offset = t * perThread;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (var i = 0; i < perThread; i++) {
+                    multiQueue.push(offset + i);
+                    produced.incrementAndGet();
+                    if (i % 2 == 1) {
+                        var element = multiQueue.poll();
+                        if (element != null)
+                            consumed.add(element);
+                    }
+                }
+            }));
+        }
+
+        for (var thread : threads)
+            thread.start();
+        start.countDown();
+        for (var thread : threads)
+            thread.join();
+
+        Integer element;
+        while ((element = multiQueue.poll()) != null)
+            consumed.add(element);
+
+        var seen = new boolean[numThreads * perThread];
+        for (var value : consumed) {
+            assertFalse(seen[value]);
+            seen[value] = true;
+        }
+        assertEquals(produced.get(), consumed.size());
+        assertTrue(multiQueue.empty());
+    }
+}
@@ -0,0 +1,149 @@
+package org.unito.asd.prim.tests.priorityqueue;
+
+import org.junit.Test;
+import org.unito.asd.prim.AbstractQueue;
+import org.unito.asd.prim.PriorityQueue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PriorityQueueBulkTests {
+    private static List<Integer> randomValues(long seed, int size, int bound) {
+        var random = new Random(seed);
+        var values = new ArrayList<Integer>(size);
+        for (var i = 0; i < size; i++)
+            values.add(random.nextInt(bound));
+        return values;
+    }
+
+    private static List<Integer> drain(PriorityQueue<Integer> priorityQueue) {
+        var drained = new ArrayList<Integer>();
+        while (!priorityQueue.empty()) {
+            drained.add(priorityQueue.top());
+            priorityQueue.pop();
+        }
+        return drained;
+    }
+
+    @Test
+    public void fromCollection() {
+        var values = randomValues(1, 5000, 1000);
+        var priorityQueue = new PriorityQueue<>(Comparator.<Integer>naturalOrder(), false, values);
+
+        var expected = new ArrayList<>(values);
+        expected.sort(Comparator.naturalOrder());
+        assertEquals(expected, drain(priorityQueue));
+    }
+
+    @Test
+    public void fromCollectionIndexed() {
+        var values = randomValues(2, 5000, 1000);
+        var priorityQueue = new PriorityQueue<>(Comparator.<Integer>naturalOrder(), true, values);
+
+        var expected = values.stream().distinct().sorted().toList();
+        for (var value : expected)
+            assertTrue(priorityQueue.contains(value));
+
+        assertTrue(priorityQueue.remove(expected.get(expected.size() / 2)));
+        var remaining = new ArrayList<>(expected);
+        remaining.remove(expected.size() / 2);
+        assertEquals(remaining, drain(priorityQueue));
+    }
+
+    @Test
+    public void pushAllBatchSizes() {
+        // Batches smaller and larger than the heap take the bounded and the full re-heapify.
+        for (var indexed : new boolean[]{false, true}) {
+            var priorityQueue = new PriorityQueue<>(Comparator.<Integer>naturalOrder(), indexed);
+            var expected = new ArrayList<Integer>();
+            var next = 0;
+            for (var size : new int[]{1, 3, 100, 2, 1000, 7, 7, 0, 50}) {
+                var batch = new ArrayList<Integer>();
+                for (var i = 0; i < size; i++)
+                    batch.add(next++ * 7919 % 10007);
+                assertEquals(size > 0, priorityQueue.pushAll(batch));
+                expected.addAll(batch);
+
+                if (indexed) {
+                    for (var value : batch)
+                        assertTrue(priorityQueue.contains(value));
+                }
+            }
+
+            expected.sort(Comparator.naturalOrder());
+            assertEquals(expected, drain(priorityQueue));
+        }
+    }
+
+    @Test
+    public void pushAllInterleaved() {
+        var random = new Random(3);
+        var priorityQueue = new PriorityQueue<>(Comparator.<Integer>naturalOrder(), false);
+        var reference = new java.util.PriorityQueue<Integer>();
+
+        for (var round = 0; round < 200; round++) {
+            var batch = randomValues(round, random.nextInt(40), 500);
+            priorityQueue.pushAll(batch);
+            reference.addAll(batch);
+
+            for (var pops = random.nextInt(30); pops > 0 && !reference.isEmpty(); pops--) {
+                assertEquals(reference.poll(), priorityQueue.top());
+                priorityQueue.pop();
+            }
+        }
+    }
+
+    @Test
+    public void pushAllIndexedSkipsDuplicates() {
+        var priorityQueue = new PriorityQueue<>(Comparator.<Integer>naturalOrder());
+        priorityQueue.push(5);
+
+        assertFalse(priorityQueue.pushAll(List.of(5)));
+        assertTrue(priorityQueue.pushAll(List.of(3, 5, 3, 9)));
+        assertEquals(List.of(3, 5, 9), drain(priorityQueue));
+    }
+
+    @Test
+    public void defaultPushAll() {
+        var pushed = new ArrayList<Integer>();
+        AbstractQueue<Integer> queue = new AbstractQueue<>() {
+            @Override
+            public boolean empty() {
+                return pushed.isEmpty();
+            }
+
+            @Override
+            public boolean push(Integer element) {
+                return !pushed.contains(element) && pushed.add(element);
+            }
+
+            @Override
+            public boolean contains(Integer element) {
+                return pushed.contains(element);
+            }
+
+            @Override
+            public Integer top() {
+                return pushed.getFirst();
+            }
+
+            @Override
+            public void pop() {
+                pushed.removeFirst();
+            }
+
+            @Override
+            public boolean remove(Integer element) {
+                return pushed.remove(element);
+            }
+        };
+
+        assertTrue(queue.pushAll(List.of(1, 2, 1)));
+        assertFalse(queue.pushAll(List.of(2)));
+        assertEquals(List.of(1, 2), pushed);
+    }
+}
@@ -0,0 +1,67 @@
+package org.unito.asd.prim.tests.priorityqueue;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.unito.asd.prim.PriorityQueue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PriorityQueueNonIndexedTests {
+    private PriorityQueue<Integer> priorityQueue;
+
+    @Before
+    public void setUp() {
+        priorityQueue = new PriorityQueue<>(Comparator.<Integer>naturalOrder(), false);
+    }
+
+    @Test
+    public void indexed() {
+        assertFalse(priorityQueue.isIndexed());
+        assertTrue(new PriorityQueue<>(Comparator.<Integer>naturalOrder()).isIndexed());
+    }
+
+    @Test
+    public void duplicates() {
+        assertTrue(priorityQueue.push(4));
+        assertTrue(priorityQueue.push(4));
+        assertTrue(priorityQueue.push(1));
+
+        assertEquals(Integer.valueOf(1), priorityQueue.top());
+        priorityQueue.pop();
+        assertEquals(Integer.valueOf(4), priorityQueue.top());
+        priorityQueue.pop();
+        assertEquals(Integer.valueOf(4), priorityQueue.top());
+        priorityQueue.pop();
+        assertTrue(priorityQueue.empty());
+    }
+
+    @Test
+    public void unsupportedLookups() {
+        priorityQueue.push(1);
+        assertThrows(UnsupportedOperationException.class, () -> priorityQueue.contains(1));
+        assertThrows(UnsupportedOperationException.class, () -> priorityQueue.remove(1));
+    }
+
+    @Test
+    public void sorts() {
+        var random = new Random(7);
+        var values = new ArrayList<Integer>();
+        for (var i = 0; i < 1000; i++) {
+            var value = random.nextInt(100);
+            values.add(value);
+            priorityQueue.push(value);
+        }
+
+        values.sort(Comparator.naturalOrder());
+        for (var value : values) {
+            assertEquals(value, priorityQueue.top());
+            priorityQueue.pop();
+        }
+        assertTrue(priorityQueue.empty());
+        assertNull(priorityQueue.top());
+    }
+}
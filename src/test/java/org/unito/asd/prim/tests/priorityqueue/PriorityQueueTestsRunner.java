@@ -10,6 +10,11 @@ public final class PriorityQueueTestsRunner {
         junit.run(PriorityQueueStringTests.class,
                 PriorityQueueIntegerTests.class,
                 PriorityQueueFloatTests.class,
-                PriorityQueuePersonTests.class);
+                PriorityQueuePersonTests.class,
+                PriorityQueueNonIndexedTests.class,
+                PriorityQueueBulkTests.class,
+                BucketQueueTests.class,
+                MultiQueueTests.class,
+                HeapProfileTests.class);
     }
 }